@@ -0,0 +1,38 @@
+package com.github.devoog04.benchmarks;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+
+/**
+ * 벤치마크용 {@link JobDefinitionKey}입니다.
+ * <p>{@link KeyDistribution#COLLIDING}이면 해시 값을 {@value #COLLIDING_HASHES}개로 제한하여
+ * {@code ConcurrentHashMap} 버킷 충돌이 잦은 상황을 재현합니다.</p>
+ */
+public record BenchKey(long id, KeyDistribution distribution) implements JobDefinitionKey, Comparable<BenchKey> {
+    static final int COLLIDING_HASHES = 1024;
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BenchKey other && other.id == id;
+    }
+
+    @Override
+    public int hashCode() {
+        return distribution == KeyDistribution.COLLIDING
+                ? (int) (id % COLLIDING_HASHES)
+                : Long.hashCode(id * 0x9E3779B97F4A7C15L);
+    }
+
+    @Override
+    public int compareTo(BenchKey other) {
+        return Long.compare(id, other.id);
+    }
+
+    @Override
+    public String toString() {
+        return "bench-" + id;
+    }
+
+    public enum KeyDistribution {
+        UNIFORM, COLLIDING
+    }
+}
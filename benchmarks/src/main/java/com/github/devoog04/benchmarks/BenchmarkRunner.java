@@ -0,0 +1,40 @@
+package com.github.devoog04.benchmarks;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행 진입점입니다.
+ * <p>인자 없이 실행하면 {@link SchedulerOperationBenchmark}를 스레드 수 1, 4, 16, 64로 반복 실행한 뒤
+ * {@link FireThroughputBenchmark}를 실행합니다. 인자가 주어지면 JMH 명령행 옵션으로 그대로 전달합니다.</p>
+ * <pre>
+ * mvn -pl core,benchmarks -am package
+ * java -jar benchmarks/target/benchmarks.jar
+ * java -jar benchmarks/target/benchmarks.jar SchedulerOperationBenchmark -t 16 -p distribution=COLLIDING
+ * </pre>
+ */
+public final class BenchmarkRunner {
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64};
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        if (args.length > 0) {
+            new Runner(new CommandLineOptions(args)).run();
+            return;
+        }
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(SchedulerOperationBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+        new Runner(new OptionsBuilder().include(FireThroughputBenchmark.class.getSimpleName()).build()).run();
+    }
+}
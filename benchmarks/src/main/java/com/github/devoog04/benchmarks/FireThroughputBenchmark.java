@@ -0,0 +1,197 @@
+package com.github.devoog04.benchmarks;
+
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import com.github.devoog04.core.schedule.TimingWheelJobScheduler;
+import com.github.devoog04.core.schedule.dispatch.JobDispatcher;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔진별 종단 간(end-to-end) 실행 처리량과 실행 지연(fire lateness)을 측정합니다.
+ * <p>{@code jobCount}개의 FIXED_RATE 작업을 등록한 뒤, 측정 구간 동안의 초당 실행 횟수({@code fires})와
+ * 측정 구간의 지연 분포({@code latenessP50Micros}/{@code latenessP99Micros}/{@code latenessMaxMicros})를 보조 결과로 보고합니다.
+ * 지연은 작업별 k번째 실행 예정 시각(등록 시각 + k * 주기) 대비 실제 실행 시각의 차이이므로,
+ * 과부하로 주기 이상 밀리거나 건너뛴 실행은 그만큼 큰 지연으로 기록됩니다.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class FireThroughputBenchmark {
+    private static final int LATENESS_BUCKETS = 64;
+
+    @Param({"1000", "100000"})
+    public int jobCount;
+
+    @Param({"100"})
+    public int intervalMillis;
+
+    @Param({"TIMING_WHEEL_PLATFORM", "TIMING_WHEEL_VIRTUAL", "SCHEDULED_EXECUTOR"})
+    public Engine engine;
+
+    private final LongAdder fires = new LongAdder();
+    /** 지연(마이크로초)의 log2 버킷 */
+    private final AtomicLongArray lateness = new AtomicLongArray(LATENESS_BUCKETS);
+    private AutoCloseable resources;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        resources = engine.start(this, jobCount, intervalNanos);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        resources.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLateness() {
+        for (int i = 0; i < LATENESS_BUCKETS; i++) {
+            lateness.set(i, 0);
+        }
+    }
+
+    @Benchmark
+    public void fires(FireCounters counters, LatenessCounters latenessCounters) throws InterruptedException {
+        long before = fires.sum();
+        TimeUnit.MILLISECONDS.sleep(10);
+        counters.fires += fires.sum() - before;
+        // 보조 결과는 측정 구간 종료 시점의 값이 보고되므로 매 호출마다 현재 분포로 갱신
+        long total = 0;
+        for (int i = 0; i < LATENESS_BUCKETS; i++) {
+            total += lateness.get(i);
+        }
+        latenessCounters.latenessP50Micros = percentile(total, 0.5);
+        latenessCounters.latenessP99Micros = percentile(total, 0.99);
+        latenessCounters.latenessMaxMicros = percentile(total, 1.0);
+    }
+
+    void recordFire(FireSchedule schedule) {
+        fires.increment();
+        long lateNanos = System.nanoTime() - schedule.expectedNanos;
+        schedule.expectedNanos += schedule.intervalNanos;
+        long lateMicros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(lateNanos));
+        lateness.incrementAndGet(Math.min(LATENESS_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(lateMicros)));
+    }
+
+    private long percentile(long total, double ratio) {
+        long threshold = (long) Math.ceil(total * ratio);
+        long seen = 0;
+        for (int i = 0; i < LATENESS_BUCKETS; i++) {
+            seen += lateness.get(i);
+            if (seen >= threshold && seen > 0) {
+                return 1L << (i + 1);
+            }
+        }
+        return 0;
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class FireCounters {
+        public long fires;
+    }
+
+    /**
+     * 측정 구간의 실행 지연 분위수 (log2 버킷 상한, 마이크로초)
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class LatenessCounters {
+        public long latenessP50Micros;
+        public long latenessP99Micros;
+        public long latenessMaxMicros;
+    }
+
+    /**
+     * 작업 하나의 다음(k번째) 실행 예정 시각입니다. 같은 작업의 실행은 겹치지 않으므로 한 번에 한 스레드만 갱신합니다.
+     */
+    static final class FireSchedule {
+        private final long intervalNanos;
+        private long expectedNanos;
+
+        /** 첫 실행 = 등록 + 주기 */
+        FireSchedule(long intervalNanos) {
+            this.intervalNanos = intervalNanos;
+            this.expectedNanos = System.nanoTime() + intervalNanos;
+        }
+    }
+
+    public enum Engine {
+        TIMING_WHEEL_PLATFORM {
+            @Override
+            AutoCloseable start(FireThroughputBenchmark benchmark, int jobCount, long intervalNanos) {
+                ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                return startWheel(benchmark, JobDispatcher.executor(executor), executor, jobCount, intervalNanos);
+            }
+        },
+        TIMING_WHEEL_VIRTUAL {
+            @Override
+            AutoCloseable start(FireThroughputBenchmark benchmark, int jobCount, long intervalNanos) {
+                return startWheel(benchmark, JobDispatcher.virtualThreads(0), null, jobCount, intervalNanos);
+            }
+        },
+        /** 비교 기준: {@code ScheduledThreadPoolExecutor} (힙 기반 DelayedWorkQueue) */
+        SCHEDULED_EXECUTOR {
+            @Override
+            AutoCloseable start(FireThroughputBenchmark benchmark, int jobCount, long intervalNanos) {
+                ScheduledExecutorService executor =
+                        Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+                for (int i = 0; i < jobCount; i++) {
+                    FireSchedule schedule = new FireSchedule(intervalNanos);
+                    executor.scheduleAtFixedRate(() -> benchmark.recordFire(schedule),
+                            intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+                }
+                return executor::shutdownNow;
+            }
+        };
+
+        abstract AutoCloseable start(FireThroughputBenchmark benchmark, int jobCount, long intervalNanos);
+
+        private static AutoCloseable startWheel(FireThroughputBenchmark benchmark, JobDispatcher dispatcher,
+                                                ExecutorService executor, int jobCount, long intervalNanos) {
+            TimingWheelJobScheduler scheduler = TimingWheelJobScheduler.builder()
+                    .dispatcher(dispatcher)
+                    .tickDuration(Duration.ofMillis(1))
+                    .build();
+            SchedulePolicy policy = SchedulePolicy.fixedRate(Duration.ofNanos(intervalNanos));
+            for (int i = 0; i < jobCount; i++) {
+                BenchKey key = new BenchKey(i, BenchKey.KeyDistribution.UNIFORM);
+                FireSchedule schedule = new FireSchedule(intervalNanos);
+                scheduler.schedule(SchedulerOperationBenchmark.definition(key,
+                        () -> benchmark.recordFire(schedule)), policy);
+            }
+            return () -> {
+                scheduler.close();
+                if (executor != null) {
+                    executor.shutdownNow();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.devoog04.benchmarks;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.schedule.AbstractJobScheduler;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+
+/**
+ * 엔진 호출 비용을 제외하고 {@link AbstractJobScheduler}의 컨테이너 관리 비용만 측정하기 위한 스케줄러입니다.
+ */
+class NoopJobScheduler extends AbstractJobScheduler {
+
+    @Override
+    protected ScheduleManager createManager(JobDefinition definition, SchedulePolicy policy) {
+        return new NoopScheduleManager(definition, policy);
+    }
+
+    int size() {
+        return container.size();
+    }
+
+    private static final class NoopScheduleManager extends ScheduleManager {
+        private NoopScheduleManager(JobDefinition jobDefinition, SchedulePolicy policy) {
+            super(jobDefinition, policy);
+        }
+
+        @Override
+        protected void doSchedule() {
+        }
+
+        @Override
+        protected void doCancel() {
+        }
+    }
+}
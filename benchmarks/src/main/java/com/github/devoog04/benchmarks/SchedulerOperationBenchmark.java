@@ -0,0 +1,130 @@
+package com.github.devoog04.benchmarks;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.schedule.AbstractJobScheduler;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import com.github.devoog04.core.schedule.TimingWheelJobScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AbstractJobScheduler}의 schedule/reschedule/unschedule 처리량을 측정합니다.
+ * <p>컨테이너 크기, 키 분포(균등/해시 충돌), 엔진(no-op/타이밍 휠)을 조합하여 측정하며,
+ * 스레드 수(1~64)는 {@link BenchmarkRunner} 또는 {@code -t} 옵션으로 지정합니다.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulerOperationBenchmark {
+    private static final SchedulePolicy POLICY = SchedulePolicy.fixedRate(Duration.ofHours(1));
+    private static final SchedulePolicy OTHER_POLICY = SchedulePolicy.fixedRate(Duration.ofHours(2));
+
+    @Param({"1000", "100000", "1000000"})
+    public int containerSize;
+
+    @Param({"UNIFORM", "COLLIDING"})
+    public BenchKey.KeyDistribution distribution;
+
+    @Param({"NOOP", "TIMING_WHEEL"})
+    public Engine engine;
+
+    private AbstractJobScheduler scheduler;
+    private BenchKey[] keys;
+    /** 기존 키와 겹치지 않는 신규 키 발급용 */
+    private final AtomicLong nextId = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = engine.create();
+        keys = new BenchKey[containerSize];
+        for (int i = 0; i < containerSize; i++) {
+            keys[i] = new BenchKey(i, distribution);
+            scheduler.schedule(definition(keys[i]), POLICY);
+        }
+        nextId.set(containerSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (scheduler instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
+    /**
+     * 신규 키 등록 후 즉시 제거하여 컨테이너 크기를 유지합니다.
+     */
+    @Benchmark
+    public void scheduleAndUnschedule() {
+        BenchKey key = new BenchKey(nextId.getAndIncrement(), distribution);
+        scheduler.schedule(definition(key), POLICY);
+        scheduler.unschedule(key);
+    }
+
+    /**
+     * 기존 키 중 임의의 키를 재스케줄합니다. 여러 스레드가 같은 키를 동시에 변경하는 경합을 포함합니다.
+     */
+    @Benchmark
+    public void reschedule() {
+        BenchKey key = keys[ThreadLocalRandom.current().nextInt(containerSize)];
+        scheduler.reschedule(key, ThreadLocalRandom.current().nextBoolean() ? POLICY : OTHER_POLICY);
+    }
+
+    static JobDefinition definition(JobDefinitionKey key) {
+        return definition(key, () -> { });
+    }
+
+    static JobDefinition definition(JobDefinitionKey key, Runnable runnable) {
+        return new JobDefinition() {
+            @Override
+            public JobDefinitionKey getKey() {
+                return key;
+            }
+
+            @Override
+            public Runnable getRunnable() {
+                return runnable;
+            }
+        };
+    }
+
+    public enum Engine {
+        NOOP {
+            @Override
+            AbstractJobScheduler create() {
+                return new NoopJobScheduler();
+            }
+        },
+        TIMING_WHEEL {
+            @Override
+            AbstractJobScheduler create() {
+                return new TimingWheelJobScheduler(Runnable::run);
+            }
+        };
+
+        abstract AbstractJobScheduler create();
+    }
+}
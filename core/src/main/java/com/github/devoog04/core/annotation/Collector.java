@@ -0,0 +1,53 @@
+package com.github.devoog04.core.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 수집 작업을 선언합니다. 빌드 시 애노테이션 프로세서가 선언을 검증하고 {@link CollectorIndex} 구현체를 생성하므로,
+ * 실행 시 클래스패스 스캔이나 리플렉션 없이 작업을 등록할 수 있습니다.
+ * <ul>
+ * <li><b>클래스:</b> {@link Runnable}을 구현한 public 클래스에 선언하면 {@code run()}이 작업 본문이 됩니다.</li>
+ * <li><b>메서드:</b> public 클래스의 인자 없는 public 메서드에 선언하면 해당 메서드가 작업 본문이 됩니다.</li>
+ * </ul>
+ * <p>{@link #cron()}, {@link #fixedRate()}, {@link #fixedDelay()} 중 정확히 하나를 지정해야 하며,
+ * 기간은 ISO-8601 형식(예: {@code PT5S})입니다.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Collector {
+
+    /**
+     * 작업 키, 애플리케이션 안에서 유일해야 합니다.
+     */
+    String key();
+
+    /**
+     * Cron 표현식 (예: "0 0/5 * * * ?")
+     */
+    String cron() default "";
+
+    /**
+     * Cron 표현식의 시간대, 미지정 시 시스템 기본 시간대
+     */
+    String zone() default "";
+
+    /**
+     * 실행 시작 기준 간격
+     */
+    String fixedRate() default "";
+
+    /**
+     * 실행 종료 기준 간격
+     */
+    String fixedDelay() default "";
+
+    /**
+     * 실행 시각 분산 범위
+     */
+    String jitter() default "";
+}
@@ -0,0 +1,67 @@
+package com.github.devoog04.core.annotation;
+
+import com.github.devoog04.core.schedule.JobRegistration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 빌드 시 생성된 {@link Collector} 작업 목록입니다.
+ * <p>애노테이션 프로세서가 컴파일 단위마다 구현체 하나와 {@code META-INF/services} 등록 파일을 생성하며,
+ * {@link #loadAll(ClassLoader)}는 {@link ServiceLoader}로 이를 찾습니다. 생성된 코드는 작업 객체의 메서드를 직접 참조하므로
+ * 리플렉션 설정 없이 GraalVM native-image에서도 동작합니다.</p>
+ */
+public interface CollectorIndex {
+
+    /**
+     * 선언된 작업의 등록 정보를 생성합니다.
+     * @param resolver 작업 본문을 가진 객체를 제공
+     */
+    List<JobRegistration> registrations(InstanceResolver resolver);
+
+    /**
+     * 클래스 로더에서 생성된 모든 인덱스의 등록 정보를 모읍니다.
+     */
+    static List<JobRegistration> loadAll(ClassLoader classLoader, InstanceResolver resolver) {
+        List<JobRegistration> registrations = new ArrayList<>();
+        for (CollectorIndex index : ServiceLoader.load(CollectorIndex.class, classLoader)) {
+            registrations.addAll(index.registrations(resolver));
+        }
+        return registrations;
+    }
+
+    /**
+     * 작업 본문을 가진 객체를 제공합니다.
+     */
+    @FunctionalInterface
+    interface InstanceResolver {
+
+        /**
+         * @param type     작업 클래스
+         * @param fallback 인자 없는 public 생성자가 있으면 이를 호출하는 공급자, 없으면 null
+         */
+        <T> T resolve(Class<T> type, Supplier<T> fallback);
+
+        /**
+         * 생성자로 타입마다 객체를 하나씩 만들어 재사용하는 기본 구현입니다.
+         */
+        static InstanceResolver constructing() {
+            Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+            return new InstanceResolver() {
+                @Override
+                public <T> T resolve(Class<T> type, Supplier<T> fallback) {
+                    return type.cast(instances.computeIfAbsent(type, t -> {
+                        if (fallback == null) {
+                            throw new IllegalStateException("No instance available for collector type: " + type.getName());
+                        }
+                        return fallback.get();
+                    }));
+                }
+            };
+        }
+    }
+}
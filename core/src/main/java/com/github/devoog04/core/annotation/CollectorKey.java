@@ -0,0 +1,20 @@
+package com.github.devoog04.core.annotation;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+
+/**
+ * {@link Collector#key()}로 선언된 작업의 키입니다.
+ */
+public record CollectorKey(String name) implements JobDefinitionKey {
+
+    public CollectorKey {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name is required.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
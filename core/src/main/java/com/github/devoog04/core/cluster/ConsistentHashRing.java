@@ -0,0 +1,113 @@
+package com.github.devoog04.core.cluster;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 가상 노드를 사용하는 불변 일관 해시 링입니다.
+ * <p>각 노드는 링 위에 {@code virtualNodes}개의 지점을 가지며, 키는 자신의 해시 이후 시계 방향으로 처음 만나는 지점의 노드에 배정됩니다.
+ * 노드가 추가/제거되면 해당 노드의 지점 주변 키만 이동하고, 가상 노드 덕분에 노드별 부하가 고르게 나뉩니다.</p>
+ * <p>키의 위치는 {@link JobDefinitionKey#hashCode()}에서 계산하므로, 모든 노드에서 같은 키의 hashCode가 같아야 합니다.</p>
+ */
+public final class ConsistentHashRing {
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    @Getter
+    private final Set<String> nodes;
+    /** 정렬된 링 위의 지점 */
+    private final long[] points;
+    /** points와 같은 순서의 지점 소유 노드 */
+    private final String[] owners;
+
+    private ConsistentHashRing(Set<String> nodes, long[] points, String[] owners) {
+        this.nodes = nodes;
+        this.points = points;
+        this.owners = owners;
+    }
+
+    public static ConsistentHashRing of(Collection<String> nodes) {
+        return of(nodes, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * @param nodes        노드 식별자 목록
+     * @param virtualNodes 노드당 가상 노드 수
+     */
+    public static ConsistentHashRing of(Collection<String> nodes, int virtualNodes) {
+        if (nodes == null) {
+            throw new IllegalArgumentException("nodes is required.");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes must be positive.");
+        }
+        Set<String> sorted = new TreeSet<>(nodes);
+        int size = sorted.size() * virtualNodes;
+        long[] hashes = new long[size];
+        String[] nodeOf = new String[size];
+        Integer[] order = new Integer[size];
+        int i = 0;
+        for (String node : sorted) {
+            for (int v = 0; v < virtualNodes; v++, i++) {
+                hashes[i] = hash(node + "#" + v);
+                nodeOf[i] = node;
+                order[i] = i;
+            }
+        }
+        // 지점 해시 순으로 정렬 (같은 해시는 노드 이름 순으로 고정)
+        Arrays.sort(order, (a, b) -> hashes[a] != hashes[b] ? Long.compare(hashes[a], hashes[b]) : nodeOf[a].compareTo(nodeOf[b]));
+        long[] points = new long[size];
+        String[] owners = new String[size];
+        for (int j = 0; j < size; j++) {
+            points[j] = hashes[order[j]];
+            owners[j] = nodeOf[order[j]];
+        }
+        return new ConsistentHashRing(Set.copyOf(sorted), points, owners);
+    }
+
+    /**
+     * 키를 담당하는 노드를 반환합니다. 객체를 생성하지 않습니다.
+     * @return 노드 식별자, 노드가 없으면 null
+     */
+    public String ownerOf(JobDefinitionKey key) {
+        if (points.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(points, mix(key.hashCode()));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public boolean isEmpty() {
+        return points.length == 0;
+    }
+
+    private static long hash(String value) {
+        // FNV-1a 64비트 후 비트 혼합
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
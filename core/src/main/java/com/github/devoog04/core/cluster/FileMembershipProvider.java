@@ -0,0 +1,113 @@
+package com.github.devoog04.core.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 파일에 적힌 노드 목록을 주기적으로 읽는 {@link MembershipProvider}입니다.
+ * <p>파일은 한 줄에 노드 식별자 하나이며, 빈 줄과 {@code #}으로 시작하는 줄은 무시합니다.
+ * 배포 도구가 공유 볼륨의 파일을 갱신하는 환경이나 여러 프로세스를 띄우는 통합 테스트에 사용합니다.
+ * 파일을 읽지 못하면 경고를 남기고 이전 목록을 유지합니다.</p>
+ */
+@Slf4j
+public class FileMembershipProvider implements MembershipProvider {
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(5);
+
+    private final String localNodeId;
+    private final Path file;
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService poller;
+    private volatile Set<String> members;
+
+    public FileMembershipProvider(String localNodeId, Path file) {
+        this(localNodeId, file, DEFAULT_POLL_INTERVAL);
+    }
+
+    /**
+     * 파일을 즉시 한 번 읽고, 이후 {@code pollInterval}마다 다시 읽습니다.
+     */
+    public FileMembershipProvider(String localNodeId, Path file, Duration pollInterval) {
+        if (localNodeId == null || localNodeId.isBlank()) {
+            throw new IllegalArgumentException("localNodeId is required.");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("file is required.");
+        }
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive.");
+        }
+        this.localNodeId = localNodeId;
+        this.file = file;
+        this.members = read(Set.of());
+        this.poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "collector-membership");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String getLocalNodeId() {
+        return localNodeId;
+    }
+
+    @Override
+    public Set<String> getMembers() {
+        return members;
+    }
+
+    @Override
+    public void addListener(Consumer<Set<String>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 파일을 다시 읽고, 목록이 바뀌었으면 리스너에 알립니다.
+     */
+    void refresh() {
+        Set<String> next = read(members);
+        if (next.equals(members)) {
+            return;
+        }
+        members = next;
+        for (Consumer<Set<String>> listener : listeners) {
+            try {
+                listener.accept(next);
+            } catch (RuntimeException e) {
+                log.error("Membership listener failed. members = {}", next, e);
+            }
+        }
+    }
+
+    private Set<String> read(Set<String> fallback) {
+        try {
+            return Files.readAllLines(file).stream()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(Collectors.toUnmodifiableSet());
+        } catch (IOException e) {
+            log.warn("Failed to read the membership file; keeping the previous members. file = {}", file, e);
+            return fallback;
+        }
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+        listeners.clear();
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.devoog04.core.cluster;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 클러스터를 구성하는 노드 목록을 제공하는 SPI입니다.
+ * <p>구현체는 목록이 바뀔 때마다 등록된 리스너를 호출합니다. 리스너는 구현체의 스레드에서 순차적으로 호출됩니다.</p>
+ */
+public interface MembershipProvider extends AutoCloseable {
+
+    /**
+     * @return 이 프로세스의 노드 식별자
+     */
+    String getLocalNodeId();
+
+    /**
+     * @return 현재 클러스터의 노드 식별자 목록
+     */
+    Set<String> getMembers();
+
+    /**
+     * 노드 목록 변경 리스너를 등록합니다.
+     */
+    void addListener(Consumer<Set<String>> listener);
+
+    @Override
+    void close();
+}
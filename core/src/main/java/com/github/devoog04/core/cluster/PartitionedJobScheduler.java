@@ -0,0 +1,386 @@
+package com.github.devoog04.core.cluster;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.schedule.BulkScheduleResult;
+import com.github.devoog04.core.schedule.JobRegistration;
+import com.github.devoog04.core.schedule.JobScheduler;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import com.github.devoog04.core.schedule.ScheduledJob;
+import com.github.devoog04.core.schedule.exception.DuplicateScheduleException;
+import com.github.devoog04.core.schedule.exception.NotFoundScheduleException;
+import com.github.devoog04.core.schedule.exception.ScheduleExecutionException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여러 노드가 같은 작업 목록을 등록해도 각 작업이 한 노드에서만 실행되도록 하는 {@link JobScheduler} 데코레이터입니다.
+ * <p>모든 노드는 전체 작업을 등록하며, 이 클래스는 전체 등록 정보를 보관한 채 {@link ConsistentHashRing}에서
+ * 로컬 노드가 담당하는 키만 하위 스케줄러에 등록합니다. {@link MembershipProvider}가 노드 목록 변경을 알리면
+ * 담당이 바뀐 키만 하위 스케줄러에서 제거/등록하므로, 노드를 추가하면 그 노드의 몫만큼만 작업이 옮겨집니다.</p>
+ * <ul>
+ * <li><b>동시성:</b> 같은 키에 대한 요청은 키 해시로 나눈 잠금으로 직렬화되며, 재분배 중에는 모든 변경 요청이 대기합니다.</li>
+ * <li><b>이동 구간:</b> 노드마다 변경을 인지하는 시점이 다르므로 이동하는 키는 잠시 두 노드에서 실행되거나 실행되지 않을 수 있습니다.
+ * 정확히 한 번 실행이 필요하면 리스 기반 조정을 함께 사용합니다.</li>
+ * <li><b>조회:</b> 조회 API는 하위 스케줄러에 위임하므로 로컬 노드가 담당하는 작업만 반환합니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class PartitionedJobScheduler implements JobScheduler, AutoCloseable {
+    private static final int STRIPES = 64;
+
+    private final JobScheduler delegate;
+    private final MembershipProvider membership;
+    private final String localNodeId;
+    private final int virtualNodes;
+    /** 로컬 담당 여부와 무관하게 등록된 전체 작업 */
+    private final Map<JobDefinitionKey, JobRegistration> registrations = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock rebalanceLock = new ReentrantReadWriteLock();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private volatile ConsistentHashRing ring;
+
+    public PartitionedJobScheduler(JobScheduler delegate, MembershipProvider membership) {
+        this(delegate, membership, ConsistentHashRing.DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * @param delegate     로컬 노드가 담당하는 작업을 실행할 스케줄러
+     * @param membership   노드 목록 제공자
+     * @param virtualNodes 노드당 가상 노드 수
+     */
+    public PartitionedJobScheduler(JobScheduler delegate, MembershipProvider membership, int virtualNodes) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate is required.");
+        }
+        if (membership == null) {
+            throw new IllegalArgumentException("membership is required.");
+        }
+        this.delegate = delegate;
+        this.membership = membership;
+        this.localNodeId = membership.getLocalNodeId();
+        this.virtualNodes = virtualNodes;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.ring = ConsistentHashRing.of(membership.getMembers(), virtualNodes);
+        membership.addListener(this::rebalance);
+        // 리스너 등록 전에 바뀐 목록 반영
+        rebalance(membership.getMembers());
+    }
+
+    @Override
+    public void schedule(JobDefinition definition, SchedulePolicy policy)
+            throws DuplicateScheduleException, ScheduleExecutionException {
+        JobRegistration registration = JobRegistration.of(definition, policy);
+        JobDefinitionKey key = registration.getKey();
+        ReentrantLock stripe = lockKey(key);
+        try {
+            if (registrations.putIfAbsent(key, registration) != null) {
+                throw new DuplicateScheduleException(key);
+            }
+            if (isOwned(key)) {
+                try {
+                    delegate.schedule(definition, policy);
+                } catch (RuntimeException e) {
+                    registrations.remove(key);
+                    throw e;
+                }
+            }
+        } finally {
+            unlockKey(stripe);
+        }
+    }
+
+    @Override
+    public void reschedule(JobDefinitionKey key, SchedulePolicy newPolicy)
+            throws NotFoundScheduleException, ScheduleExecutionException {
+        ReentrantLock stripe = lockKey(key);
+        try {
+            JobRegistration current = registrations.get(key);
+            if (current == null) {
+                throw new NotFoundScheduleException(key);
+            }
+            JobRegistration next = JobRegistration.of(current.getDefinition(), newPolicy);
+            if (isOwned(key)) {
+                delegate.reschedule(key, newPolicy);
+            }
+            registrations.put(key, next);
+        } finally {
+            unlockKey(stripe);
+        }
+    }
+
+    @Override
+    public void unschedule(JobDefinitionKey key) throws ScheduleExecutionException {
+        ReentrantLock stripe = lockKey(key);
+        try {
+            if (!registrations.containsKey(key)) {
+                return;
+            }
+            if (isOwned(key)) {
+                delegate.unschedule(key);
+            }
+            registrations.remove(key);
+        } finally {
+            unlockKey(stripe);
+        }
+    }
+
+    /**
+     * 전체 등록 정보에 추가한 뒤, 로컬 노드가 담당하는 작업만 하위 스케줄러에 한 번에 등록합니다.
+     */
+    @Override
+    public BulkScheduleResult scheduleAll(Collection<JobRegistration> registrations) {
+        List<JobDefinitionKey> succeeded = new ArrayList<>(registrations.size());
+        Map<JobDefinitionKey, Exception> failures = new LinkedHashMap<>();
+        List<ReentrantLock> locked = lockKeys(registrations.stream().map(JobRegistration::getKey).toList());
+        try {
+            List<JobRegistration> accepted = new ArrayList<>(registrations.size());
+            List<JobRegistration> owned = new ArrayList<>();
+            // 요청 내 중복 키는 첫 항목만 처리하고 나머지는 중복으로 실패
+            Set<JobDefinitionKey> requested = new HashSet<>();
+            for (JobRegistration registration : registrations) {
+                JobDefinitionKey key = registration.getKey();
+                if (!requested.add(key)) {
+                    failures.putIfAbsent(key, new DuplicateScheduleException(key));
+                    continue;
+                }
+                if (this.registrations.putIfAbsent(key, registration) != null) {
+                    failures.put(key, new DuplicateScheduleException(key));
+                    continue;
+                }
+                accepted.add(registration);
+                if (isOwned(key)) {
+                    owned.add(registration);
+                }
+            }
+            Map<JobDefinitionKey, Exception> delegateFailures = delegate.scheduleAll(owned).getFailures();
+            for (JobRegistration registration : accepted) {
+                JobDefinitionKey key = registration.getKey();
+                Exception failure = delegateFailures.get(key);
+                if (failure != null) {
+                    this.registrations.remove(key);
+                    failures.put(key, failure);
+                } else {
+                    succeeded.add(key);
+                }
+            }
+        } finally {
+            unlockKeys(locked);
+        }
+        return new BulkScheduleResult(succeeded, failures);
+    }
+
+    /**
+     * 전체 등록 정보의 정책을 바꾸고, 로컬 노드가 담당하는 작업만 하위 스케줄러에서 한 번에 변경합니다.
+     * 하위 스케줄러에서 실패한 키는 등록 정보도 바꾸지 않습니다.
+     */
+    @Override
+    public BulkScheduleResult rescheduleAll(Map<JobDefinitionKey, SchedulePolicy> newPolicies) {
+        Map<JobDefinitionKey, Exception> failures = new HashMap<>();
+        List<ReentrantLock> locked = lockKeys(newPolicies.keySet());
+        try {
+            Map<JobDefinitionKey, SchedulePolicy> owned = new LinkedHashMap<>();
+            newPolicies.forEach((key, policy) -> {
+                if (!registrations.containsKey(key)) {
+                    failures.put(key, new NotFoundScheduleException(key));
+                } else if (isOwned(key)) {
+                    owned.put(key, policy);
+                }
+            });
+            if (!owned.isEmpty()) {
+                failures.putAll(delegate.rescheduleAll(owned).getFailures());
+            }
+            newPolicies.forEach((key, policy) -> {
+                if (!failures.containsKey(key)) {
+                    registrations.computeIfPresent(key, (k, current) -> JobRegistration.of(current.getDefinition(), policy));
+                }
+            });
+        } finally {
+            unlockKeys(locked);
+        }
+        return toResult(newPolicies.keySet(), failures);
+    }
+
+    /**
+     * 전체 등록 정보에서 제거하고, 로컬 노드가 담당하는 작업만 하위 스케줄러에서 한 번에 제거합니다.
+     * 하위 스케줄러에서 실패한 키는 등록 정보에 남깁니다.
+     */
+    @Override
+    public BulkScheduleResult unscheduleAll(Collection<JobDefinitionKey> keys) {
+        Set<JobDefinitionKey> requested = new LinkedHashSet<>(keys);
+        Map<JobDefinitionKey, Exception> failures = new HashMap<>();
+        List<ReentrantLock> locked = lockKeys(requested);
+        try {
+            List<JobDefinitionKey> owned = new ArrayList<>();
+            for (JobDefinitionKey key : requested) {
+                if (registrations.containsKey(key) && isOwned(key)) {
+                    owned.add(key);
+                }
+            }
+            if (!owned.isEmpty()) {
+                failures.putAll(delegate.unscheduleAll(owned).getFailures());
+            }
+            for (JobDefinitionKey key : requested) {
+                if (!failures.containsKey(key)) {
+                    registrations.remove(key);
+                }
+            }
+        } finally {
+            unlockKeys(locked);
+        }
+        return toResult(requested, failures);
+    }
+
+    @Override
+    public List<ScheduledJob> getScheduledJobs() {
+        return delegate.getScheduledJobs();
+    }
+
+    @Override
+    public ScheduledJob getScheduledJob(JobDefinitionKey key) {
+        return delegate.getScheduledJob(key);
+    }
+
+    @Override
+    public List<ScheduledJob> getJobsDueWithin(Duration window) {
+        return delegate.getJobsDueWithin(window);
+    }
+
+    /**
+     * @return 현재 노드 목록에서 로컬 노드가 이 키를 담당하면 true
+     */
+    public boolean isOwned(JobDefinitionKey key) {
+        return localNodeId.equals(ring.ownerOf(key));
+    }
+
+    /**
+     * 노드 목록 제공자와 하위 스케줄러를 닫습니다.
+     * @throws IllegalStateException 하위 스케줄러가 검사 예외로 닫기에 실패한 경우
+     */
+    @Override
+    public void close() {
+        try {
+            membership.close();
+        } finally {
+            if (delegate instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalStateException("Failed to close the delegate scheduler.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 새 노드 목록으로 링을 다시 만들고, 담당이 바뀐 키만 하위 스케줄러에서 제거/등록합니다.
+     */
+    private void rebalance(Set<String> members) {
+        rebalanceLock.writeLock().lock();
+        try {
+            ConsistentHashRing previous = ring;
+            if (previous.getNodes().equals(members)) {
+                return;
+            }
+            ConsistentHashRing next = ConsistentHashRing.of(members, virtualNodes);
+            List<JobDefinitionKey> released = new ArrayList<>();
+            List<JobRegistration> acquired = new ArrayList<>();
+            for (JobRegistration registration : registrations.values()) {
+                JobDefinitionKey key = registration.getKey();
+                boolean owned = localNodeId.equals(previous.ownerOf(key));
+                boolean owns = localNodeId.equals(next.ownerOf(key));
+                if (owned && !owns) {
+                    released.add(key);
+                } else if (!owned && owns) {
+                    acquired.add(registration);
+                }
+            }
+            ring = next;
+            logFailures("release", delegate.unscheduleAll(released));
+            logFailures("acquire", delegate.scheduleAll(acquired));
+            log.info("Rebalanced partitions. node = {}, members = {}, released = {}, acquired = {}",
+                    localNodeId, members.size(), released.size(), acquired.size());
+        } finally {
+            rebalanceLock.writeLock().unlock();
+        }
+    }
+
+    private void logFailures(String action, BulkScheduleResult result) {
+        result.getFailures().forEach((key, e) ->
+                log.error("Failed to {} a partition during rebalance. key = {}", action, key, e));
+    }
+
+    private ReentrantLock lockKey(JobDefinitionKey key) {
+        rebalanceLock.readLock().lock();
+        ReentrantLock stripe = stripes[stripeIndex(key)];
+        stripe.lock();
+        return stripe;
+    }
+
+    private void unlockKey(ReentrantLock stripe) {
+        stripe.unlock();
+        rebalanceLock.readLock().unlock();
+    }
+
+    /**
+     * 여러 키의 잠금을 인덱스 오름차순으로 획득하여 교착을 피합니다.
+     */
+    private List<ReentrantLock> lockKeys(Collection<JobDefinitionKey> keys) {
+        rebalanceLock.readLock().lock();
+        Set<Integer> indexes = new TreeSet<>();
+        keys.forEach(key -> indexes.add(stripeIndex(key)));
+        List<ReentrantLock> locked = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            stripes[index].lock();
+            locked.add(stripes[index]);
+        }
+        return locked;
+    }
+
+    private void unlockKeys(List<ReentrantLock> locked) {
+        locked.forEach(ReentrantLock::unlock);
+        rebalanceLock.readLock().unlock();
+    }
+
+    /**
+     * 요청 순서대로 키별 처리 결과를 만듭니다.
+     */
+    private static BulkScheduleResult toResult(Collection<JobDefinitionKey> requested, Map<JobDefinitionKey, Exception> failures) {
+        List<JobDefinitionKey> succeeded = new ArrayList<>(requested.size());
+        Map<JobDefinitionKey, Exception> ordered = new LinkedHashMap<>();
+        for (JobDefinitionKey key : requested) {
+            Exception failure = failures.get(key);
+            if (failure != null) {
+                ordered.put(key, failure);
+            } else {
+                succeeded.add(key);
+            }
+        }
+        return new BulkScheduleResult(succeeded, ordered);
+    }
+
+    private static int stripeIndex(JobDefinitionKey key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.devoog04.core.cluster;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 코드로 노드 목록을 지정하는 {@link MembershipProvider}입니다.
+ * <p>단일 프로세스에서 여러 노드를 흉내 내는 테스트나 노드 구성이 고정된 환경에 사용합니다.
+ * {@link #setMembers}는 호출한 스레드에서 리스너를 실행합니다.</p>
+ */
+public class StaticMembershipProvider implements MembershipProvider {
+    private final String localNodeId;
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Set<String> members;
+
+    public StaticMembershipProvider(String localNodeId, Collection<String> members) {
+        if (localNodeId == null || localNodeId.isBlank()) {
+            throw new IllegalArgumentException("localNodeId is required.");
+        }
+        this.localNodeId = localNodeId;
+        this.members = Set.copyOf(members);
+    }
+
+    @Override
+    public String getLocalNodeId() {
+        return localNodeId;
+    }
+
+    @Override
+    public Set<String> getMembers() {
+        return members;
+    }
+
+    @Override
+    public void addListener(Consumer<Set<String>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 노드 목록을 바꾸고 리스너에 알립니다. 목록이 같으면 알리지 않습니다.
+     */
+    public synchronized void setMembers(Collection<String> members) {
+        Set<String> next = Set.copyOf(members);
+        if (next.equals(this.members)) {
+            return;
+        }
+        this.members = next;
+        listeners.forEach(listener -> listener.accept(next));
+    }
+
+    @Override
+    public void close() {
+        listeners.clear();
+    }
+}
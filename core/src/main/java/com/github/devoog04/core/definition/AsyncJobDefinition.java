@@ -0,0 +1,35 @@
+package com.github.devoog04.core.definition;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * 실행이 {@link CompletionStage}로 끝나는 비동기 작업 정의입니다.
+ * <p>스케줄러는 {@link #execute()}가 반환한 시점에 실행 스레드를 반납하고, 반환된 단계가 완료될 때 실행이 끝난 것으로 봅니다.
+ * 같은 키의 실행 중첩 방지, 실행 시간 지표, FIXED_DELAY의 다음 실행 시각은 모두 완료 시점을 기준으로 합니다.</p>
+ * <p>작업이 스케줄러에서 제거되면 진행 중인 단계는 {@link java.util.concurrent.CompletableFuture#cancel(boolean)}로 취소됩니다.
+ * 취소를 하위 요청까지 전달하려면 {@code CompletableFuture}를 그대로 반환합니다.</p>
+ */
+public interface AsyncJobDefinition extends JobDefinition {
+
+    /**
+     * 실행을 시작하고 완료를 알리는 단계를 반환합니다. 네트워크 응답 등을 기다리며 블로킹해서는 안 됩니다.
+     * <p>단계가 {@link com.github.devoog04.core.schedule.FireResult}로 완료되면 적응형 정책의 실행 결과로 사용됩니다.</p>
+     */
+    CompletionStage<?> execute();
+
+    /**
+     * 비동기 실행을 지원하지 않는 실행 환경을 위해 완료될 때까지 기다리는 본문을 반환합니다.
+     */
+    @Override
+    default Runnable getRunnable() {
+        return () -> execute().toCompletableFuture().join();
+    }
+
+    /**
+     * 키와 비동기 작업 본문으로 구성된 작업 정의를 생성합니다.
+     */
+    static AsyncJobDefinition of(JobDefinitionKey key, Supplier<? extends CompletionStage<?>> task) {
+        return new SimpleAsyncJobDefinition(key, task);
+    }
+}
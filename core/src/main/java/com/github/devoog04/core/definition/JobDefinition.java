@@ -1,5 +1,7 @@
 package com.github.devoog04.core.definition;
 
+import com.github.devoog04.core.schedule.RetryPolicy;
+
 /**
  * 실행할 작업(Job)의 고유 정의를 나타내는 인터페이스입니다.
  */
@@ -11,4 +13,28 @@ public interface JobDefinition {
     JobDefinitionKey getKey();
 
     Runnable getRunnable();
-}
\ No newline at end of file
+
+    /**
+     * 한 번 실행할 때 차지하는 비용입니다. 스케줄러에 동시 실행 비용 상한이 지정된 경우
+     * 실행 중인 작업들의 비용 합이 상한을 넘지 않도록 실행이 미뤄집니다.
+     * @return 기본값은 1, 1 미만이면 1로 취급
+     */
+    default int getCost() {
+        return 1;
+    }
+
+    /**
+     * 실행이 예외로 실패했을 때의 재시도 방식입니다.
+     * @return 기본값은 {@link RetryPolicy#none()}, null이면 재시도하지 않음
+     */
+    default RetryPolicy getRetryPolicy() {
+        return RetryPolicy.none();
+    }
+
+    /**
+     * 키와 작업 본문으로 구성된 작업 정의를 생성합니다.
+     */
+    static JobDefinition of(JobDefinitionKey key, Runnable runnable) {
+        return new SimpleJobDefinition(key, runnable);
+    }
+}
@@ -25,4 +25,13 @@ public interface JobDefinitionKey {
      */
     @Override
     int hashCode();
+
+    /**
+     * 작업이 속한 그룹(테넌트 등)을 반환합니다.
+     * 그룹을 구분하는 디스패처는 그룹별로 실행 순서와 동시 실행 수를 나눠 관리합니다.
+     * @return 그룹 이름, 구분하지 않으면 null
+     */
+    default String getGroup() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.github.devoog04.core.definition;
+
+import lombok.Getter;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncJobDefinition#of(JobDefinitionKey, Supplier)}가 생성하는 기본 구현체입니다.
+ */
+final class SimpleAsyncJobDefinition implements AsyncJobDefinition {
+    @Getter
+    private final JobDefinitionKey key;
+    private final Supplier<? extends CompletionStage<?>> task;
+
+    SimpleAsyncJobDefinition(JobDefinitionKey key, Supplier<? extends CompletionStage<?>> task) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is required.");
+        }
+        if (task == null) {
+            throw new IllegalArgumentException("task is required.");
+        }
+        this.key = key;
+        this.task = task;
+    }
+
+    @Override
+    public CompletionStage<?> execute() {
+        return task.get();
+    }
+}
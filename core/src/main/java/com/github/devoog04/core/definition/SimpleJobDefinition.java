@@ -0,0 +1,23 @@
+package com.github.devoog04.core.definition;
+
+import lombok.Getter;
+
+/**
+ * {@link JobDefinition#of(JobDefinitionKey, Runnable)}가 생성하는 기본 구현체입니다.
+ */
+@Getter
+final class SimpleJobDefinition implements JobDefinition {
+    private final JobDefinitionKey key;
+    private final Runnable runnable;
+
+    SimpleJobDefinition(JobDefinitionKey key, Runnable runnable) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is required.");
+        }
+        if (runnable == null) {
+            throw new IllegalArgumentException("runnable is required.");
+        }
+        this.key = key;
+        this.runnable = runnable;
+    }
+}
@@ -0,0 +1,273 @@
+package com.github.devoog04.core.lease;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 관계형 데이터베이스 테이블 하나에 리스를 저장하는 {@link LeaseStore}입니다.
+ * <pre>
+ * CREATE TABLE collector_lease (
+ *     job_key    VARCHAR(255) PRIMARY KEY,
+ *     owner      VARCHAR(255) NOT NULL,
+ *     locked_at  BIGINT       NOT NULL,
+ *     lock_until BIGINT       NOT NULL,
+ *     token      BIGINT       NOT NULL
+ * )
+ * </pre>
+ * <p>{@link #tryAcquireAll(Map)}은 조건부 UPDATE를 JDBC 배치로 한 번에 보내고, 획득한 키의 토큰을 한 번의 SELECT로 읽습니다.
+ * UPDATE되지 않은 키는 한 번의 SELECT로 행의 존재를 확인하고, 행이 없는 키만 배치 INSERT로 추가합니다.
+ * 다른 노드가 보유한 키는 추가 왕복이나 제약 위반 없이 획득 실패로 끝납니다. 만료 판단은 각 노드의 시계를 사용하므로 리스 유지 시간은 노드 간 시계 차이보다 충분히 길어야 합니다.</p>
+ */
+public class JdbcLeaseStore implements LeaseStore {
+    public static final String DEFAULT_TABLE_NAME = "collector_lease";
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_.]*");
+    /** SELECT ... IN 절 하나에 넣을 최대 키 수 */
+    private static final int SELECT_CHUNK = 500;
+
+    private final DataSource dataSource;
+    @Getter
+    private final String owner;
+    private final Function<JobDefinitionKey, String> keyName;
+    private final String table;
+
+    /**
+     * @param dataSource 리스 테이블이 있는 데이터베이스
+     * @param owner      이 노드의 식별자, 미지정 시 임의의 UUID
+     * @param tableName  리스 테이블 이름, 미지정 시 {@link #DEFAULT_TABLE_NAME}
+     * @param keyName    키를 테이블에 저장할 문자열로 변환, 미지정 시 {@code toString()}
+     */
+    @Builder
+    private JdbcLeaseStore(DataSource dataSource, String owner, String tableName,
+                           Function<JobDefinitionKey, String> keyName) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("dataSource is required.");
+        }
+        if (tableName != null && !TABLE_NAME.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("tableName is not a valid identifier: " + tableName);
+        }
+        this.dataSource = dataSource;
+        this.owner = owner != null ? owner : UUID.randomUUID().toString();
+        this.table = tableName != null ? tableName : DEFAULT_TABLE_NAME;
+        this.keyName = keyName != null ? keyName : Object::toString;
+    }
+
+    /**
+     * 리스 테이블이 없으면 생성합니다.
+     */
+    public void initializeSchema() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + table + " ("
+                    + "job_key VARCHAR(255) PRIMARY KEY, "
+                    + "owner VARCHAR(255) NOT NULL, "
+                    + "locked_at BIGINT NOT NULL, "
+                    + "lock_until BIGINT NOT NULL, "
+                    + "token BIGINT NOT NULL)");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to initialize the lease table.", e);
+        }
+    }
+
+    @Override
+    public Map<JobDefinitionKey, Lease> tryAcquireAll(Map<JobDefinitionKey, Duration> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        long now = System.currentTimeMillis();
+        List<JobDefinitionKey> keys = new ArrayList<>(requests.keySet());
+        Map<String, JobDefinitionKey> candidates = new HashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            // 1. 비어 있거나 만료되었거나 이미 가진 리스를 한 번의 배치로 획득
+            int[] updated;
+            try (PreparedStatement update = connection.prepareStatement("UPDATE " + table
+                    + " SET owner = ?, locked_at = ?, lock_until = ?, token = token + 1"
+                    + " WHERE job_key = ? AND (lock_until <= ? OR owner = ?)")) {
+                for (JobDefinitionKey key : keys) {
+                    update.setString(1, owner);
+                    update.setLong(2, now);
+                    update.setLong(3, now + requests.get(key).toMillis());
+                    update.setString(4, keyName.apply(key));
+                    update.setLong(5, now);
+                    update.setString(6, owner);
+                    update.addBatch();
+                }
+                updated = update.executeBatch();
+            }
+            Map<String, JobDefinitionKey> notUpdated = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                JobDefinitionKey key = keys.get(i);
+                if (updated[i] > 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+                    candidates.put(keyName.apply(key), key);
+                } else {
+                    notUpdated.put(keyName.apply(key), key);
+                }
+            }
+            // 2. 행이 없는 키만 한 번의 배치로 추가 (다른 노드가 보유한 키는 제외)
+            if (!notUpdated.isEmpty()) {
+                notUpdated.keySet().removeAll(existingNames(connection, notUpdated.keySet()));
+                insertAll(connection, notUpdated, requests, now);
+                candidates.putAll(notUpdated);
+            }
+            // 3. 획득한 키의 펜싱 토큰 조회
+            return readTokens(connection, candidates, requests, now);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to acquire leases.", e);
+        }
+    }
+
+    @Override
+    public boolean renew(Lease lease) {
+        long expiresAt = System.currentTimeMillis() + lease.getTtl().toMillis();
+        if (updateLockUntil(lease, expiresAt)) {
+            lease.extendTo(expiresAt);
+            return true;
+        }
+        lease.markLost();
+        return false;
+    }
+
+    @Override
+    public void release(Lease lease) {
+        updateLockUntil(lease, Math.max(System.currentTimeMillis(), lease.getAcquiredAt() + lease.getTtl().toMillis()));
+    }
+
+    private boolean updateLockUntil(Lease lease, long lockUntil) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement update = connection.prepareStatement("UPDATE " + table
+                     + " SET lock_until = ? WHERE job_key = ? AND owner = ? AND token = ?")) {
+            connection.setAutoCommit(true);
+            update.setLong(1, lockUntil);
+            update.setString(2, keyName.apply(lease.getKey()));
+            update.setString(3, owner);
+            update.setLong(4, lease.getToken());
+            return update.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to update the lease. key = " + lease.getKey(), e);
+        }
+    }
+
+    /**
+     * @return 주어진 이름 중 테이블에 행이 있는 이름
+     */
+    private Set<String> existingNames(Connection connection, Set<String> candidates) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        List<String> names = new ArrayList<>(candidates);
+        for (int from = 0; from < names.size(); from += SELECT_CHUNK) {
+            List<String> chunk = names.subList(from, Math.min(names.size(), from + SELECT_CHUNK));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            try (PreparedStatement select = connection.prepareStatement("SELECT job_key FROM " + table
+                    + " WHERE job_key IN (" + placeholders + ")")) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    select.setString(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        existing.add(rs.getString(1));
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * 행이 없는 키를 배치로 추가합니다.
+     * <p>조회와 추가 사이에 다른 노드가 먼저 추가한 키는 제약 위반으로 실패하며, 획득 여부는 이후 토큰 조회에서
+     * 소유자와 획득 시각으로 가려집니다. 드라이버가 실패 지점에서 배치를 중단했다면 남은 키만 하나씩 추가합니다.</p>
+     */
+    private void insertAll(Connection connection, Map<String, JobDefinitionKey> missing,
+                           Map<JobDefinitionKey, Duration> requests, long now) throws SQLException {
+        List<String> names = new ArrayList<>(missing.keySet());
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (job_key, owner, locked_at, lock_until, token) VALUES (?, ?, ?, ?, 1)")) {
+            for (String name : names) {
+                bindInsert(insert, name, now, now + requests.get(missing.get(name)).toMillis());
+                insert.addBatch();
+            }
+            try {
+                insert.executeBatch();
+            } catch (BatchUpdateException e) {
+                if (!isConstraintViolation(e)) {
+                    throw e;
+                }
+                insert.clearBatch();
+                for (int i = e.getUpdateCounts().length; i < names.size(); i++) {
+                    String name = names.get(i);
+                    bindInsert(insert, name, now, now + requests.get(missing.get(name)).toMillis());
+                    try {
+                        insert.executeUpdate();
+                    } catch (SQLException single) {
+                        if (!isConstraintViolation(single)) {
+                            throw single;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void bindInsert(PreparedStatement insert, String name, long now, long lockUntil) throws SQLException {
+        insert.setString(1, name);
+        insert.setString(2, owner);
+        insert.setLong(3, now);
+        insert.setLong(4, lockUntil);
+    }
+
+    /**
+     * @return 무결성 제약 위반(SQLSTATE 23xxx), 즉 다른 노드가 먼저 추가한 경우 true
+     */
+    private static boolean isConstraintViolation(SQLException e) {
+        for (SQLException current = e; current != null; current = current.getNextException()) {
+            if (current.getSQLState() != null && current.getSQLState().startsWith("23")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<JobDefinitionKey, Lease> readTokens(Connection connection, Map<String, JobDefinitionKey> candidates,
+                                                    Map<JobDefinitionKey, Duration> requests, long now) throws SQLException {
+        Map<JobDefinitionKey, Lease> acquired = new HashMap<>(candidates.size() * 2);
+        List<String> names = new ArrayList<>(candidates.keySet());
+        for (int from = 0; from < names.size(); from += SELECT_CHUNK) {
+            List<String> chunk = names.subList(from, Math.min(names.size(), from + SELECT_CHUNK));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            try (PreparedStatement select = connection.prepareStatement("SELECT job_key, token FROM " + table
+                    + " WHERE owner = ? AND locked_at = ? AND job_key IN (" + placeholders + ")")) {
+                select.setString(1, owner);
+                select.setLong(2, now);
+                for (int i = 0; i < chunk.size(); i++) {
+                    select.setString(i + 3, chunk.get(i));
+                }
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        JobDefinitionKey key = candidates.get(rs.getString(1));
+                        acquired.put(key, new Lease(key, owner, rs.getLong(2), now, requests.get(key)));
+                    }
+                }
+            }
+        }
+        return acquired;
+    }
+}
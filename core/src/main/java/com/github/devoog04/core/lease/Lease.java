@@ -0,0 +1,56 @@
+package com.github.devoog04.core.lease;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 한 번의 실행을 위해 {@link LeaseStore}에서 획득한 작업 리스입니다.
+ * <p>{@link #getToken() 펜싱 토큰}은 같은 키의 리스를 획득할 때마다 증가하므로, 작업이 외부 자원에 쓸 때 토큰을 함께 보내면
+ * 리스를 잃은 뒤 늦게 도착한 쓰기를 자원 쪽에서 거부할 수 있습니다. 실행 중인 작업은 {@link LeaseContext#current()}로 조회합니다.</p>
+ */
+@Getter
+public final class Lease {
+    private final JobDefinitionKey key;
+    /** 리스를 획득한 노드 */
+    private final String owner;
+    /** 획득할 때마다 증가하는 펜싱 토큰 */
+    private final long token;
+    /** 획득 시각 (epoch 밀리초) */
+    private final long acquiredAt;
+    private final Duration ttl;
+    /** 만료 시각 (epoch 밀리초), 갱신되면 늘어남 */
+    private volatile long expiresAt;
+    private volatile boolean lost;
+
+    public Lease(JobDefinitionKey key, String owner, long token, long acquiredAt, Duration ttl) {
+        this.key = key;
+        this.owner = owner;
+        this.token = token;
+        this.acquiredAt = acquiredAt;
+        this.ttl = ttl;
+        this.expiresAt = acquiredAt + ttl.toMillis();
+    }
+
+    /**
+     * @return 갱신에 실패하지 않았고 만료 시각이 지나지 않았으면 true
+     */
+    public boolean isValid() {
+        return !lost && System.currentTimeMillis() < expiresAt;
+    }
+
+    /**
+     * 갱신에 성공한 {@link LeaseStore}가 호출합니다.
+     */
+    public void extendTo(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 다른 노드가 리스를 가져가 갱신에 실패했을 때 호출합니다.
+     */
+    public void markLost() {
+        this.lost = true;
+    }
+}
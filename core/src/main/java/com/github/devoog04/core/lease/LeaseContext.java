@@ -0,0 +1,37 @@
+package com.github.devoog04.core.lease;
+
+/**
+ * 실행 중인 작업에 현재 {@link Lease}를 전달합니다.
+ * <p>스케줄러는 리스를 획득한 실행을 {@link #runWith(Lease, Runnable)}로 감싸므로,
+ * 작업 본문은 {@link Runnable} 시그니처를 바꾸지 않고 {@link #current()}로 펜싱 토큰을 조회할 수 있습니다.</p>
+ */
+public final class LeaseContext {
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    private LeaseContext() {
+    }
+
+    /**
+     * @return 현재 스레드에서 실행 중인 작업의 리스, 리스 없이 실행 중이면 null
+     */
+    public static Lease current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 리스를 현재 스레드에 연결한 채 작업을 실행합니다.
+     */
+    public static void runWith(Lease lease, Runnable task) {
+        Lease previous = CURRENT.get();
+        CURRENT.set(lease);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.devoog04.core.lease;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 여러 노드가 공유하는 작업 리스 저장소입니다.
+ * <p>스케줄러는 같은 틱에 만료된 실행들의 리스를 {@link #tryAcquireAll(Map)} 한 번으로 요청하므로,
+ * 구현체는 요청 전체를 가능한 한 적은 왕복으로 처리해야 합니다. 모든 메서드는 타이머 스레드가 아닌 별도 스레드에서 호출됩니다.</p>
+ */
+public interface LeaseStore {
+
+    /**
+     * 리스가 비어 있거나 만료된 키, 또는 이 노드가 이미 가진 키의 리스를 획득합니다.
+     * @param requests 키별 리스 유지 시간
+     * @return 획득한 키의 리스, 획득하지 못한 키는 포함하지 않음
+     */
+    Map<JobDefinitionKey, Lease> tryAcquireAll(Map<JobDefinitionKey, Duration> requests);
+
+    /**
+     * 리스의 만료 시각을 지금부터 {@link Lease#getTtl()} 이후로 늘립니다.
+     * @return 다른 노드가 리스를 가져가 갱신하지 못했으면 false
+     */
+    boolean renew(Lease lease);
+
+    /**
+     * 실행이 끝난 리스를 반납합니다. 다른 노드의 같은 회차 실행을 막기 위해 획득 후 {@link Lease#getTtl()}까지는 유지됩니다.
+     */
+    void release(Lease lease);
+}
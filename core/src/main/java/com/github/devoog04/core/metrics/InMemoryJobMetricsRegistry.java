@@ -0,0 +1,48 @@
+package com.github.devoog04.core.metrics;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업별 지표를 힙에 보관하는 {@link JobMetricsRegistry} 기본 구현체입니다.
+ * <p>외부 모니터링 시스템 없이 {@link #getStats}로 지표를 조회하거나, 다른 시스템으로 내보내는 브리지의 원천으로 사용합니다.</p>
+ */
+public class InMemoryJobMetricsRegistry implements JobMetricsRegistry {
+    private final Map<JobDefinitionKey, JobStats> stats = new ConcurrentHashMap<>();
+    private final int subBucketBits;
+
+    public InMemoryJobMetricsRegistry() {
+        this(1);
+    }
+
+    /**
+     * @param subBucketBits 히스토그램 정밀도 ({@link LatencyHistogram} 참고)
+     */
+    public InMemoryJobMetricsRegistry(int subBucketBits) {
+        this.subBucketBits = subBucketBits;
+    }
+
+    @Override
+    public JobMetricsRecorder register(JobDefinitionKey key) {
+        return stats.computeIfAbsent(key, k -> new JobStats(subBucketBits));
+    }
+
+    @Override
+    public void unregister(JobDefinitionKey key) {
+        stats.remove(key);
+    }
+
+    /**
+     * @return 키의 지표, 등록되지 않은 키이면 null
+     */
+    public JobStats getStats(JobDefinitionKey key) {
+        return stats.get(key);
+    }
+
+    public Map<JobDefinitionKey, JobStats> getAllStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.devoog04.core.metrics;
+
+/**
+ * 단일 작업({@link com.github.devoog04.core.definition.JobDefinitionKey})의 실행 지표를 기록하는 인터페이스입니다.
+ * <p>스케줄러는 작업 등록 시 {@link JobMetricsRegistry#register}로 받은 인스턴스를 보관하고 실행 경로에서 직접 호출하므로,
+ * 구현체는 잠금과 객체 생성 없이 기록해야 합니다. 모든 시간 값의 단위는 나노초입니다.</p>
+ */
+public interface JobMetricsRecorder {
+    /** 아무것도 기록하지 않는 인스턴스 */
+    JobMetricsRecorder NOOP = new JobMetricsRecorder() {
+    };
+
+    /**
+     * 예정 실행 시각 대비 타이머가 작업을 만료시킨 시각의 지연을 기록합니다.
+     */
+    default void recordFireLateness(long nanos) {
+    }
+
+    /**
+     * 디스패처에 전달된 시점부터 실제 실행이 시작되기까지의 대기 시간을 기록합니다.
+     */
+    default void recordQueueDelay(long nanos) {
+    }
+
+    /**
+     * 작업 본문의 실행 시간을 기록합니다.
+     * @param failed 작업 본문이 예외로 종료되었는지 여부
+     */
+    default void recordRun(long durationNanos, boolean failed) {
+    }
+
+    /**
+     * 이전 실행이 끝나기 전에 같은 작업의 실행이 시작(중첩)되었거나, 정책에 의해 실행을 건너뛴 경우를 기록합니다.
+     */
+    default void recordOverlap() {
+    }
+
+    /**
+     * 실패한 실행을 {@link com.github.devoog04.core.schedule.RetryPolicy}에 따라 다시 시도하도록 등록한 경우를 기록합니다.
+     */
+    default void recordRetry() {
+    }
+
+    /**
+     * 실행이 정책의 시간 제한을 넘겨 중단을 요청한 경우를 기록합니다.
+     */
+    default void recordTimeout() {
+    }
+
+    /**
+     * 중단을 요청한 실행이 응답하지 않아 스케줄러가 그 실행을 포기한 경우를 기록합니다.
+     */
+    default void recordHung() {
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.devoog04.core.metrics;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+
+/**
+ * 작업별 실행 지표 수집기를 제공하는 SPI입니다.
+ * <p>스케줄러는 작업을 등록할 때 {@link #register}로 {@link JobMetricsRecorder}를 받아 실행 경로에서 사용하고,
+ * 작업이 컨테이너에서 제거되면 {@link #unregister}를 호출합니다. 같은 키로 여러 번 등록(재스케줄)하면
+ * 같은 수집기를 반환하여 지표가 이어지도록 구현해야 합니다.</p>
+ */
+public interface JobMetricsRegistry {
+    /** 지표를 수집하지 않는 인스턴스 */
+    JobMetricsRegistry NOOP = new JobMetricsRegistry() {
+        @Override
+        public JobMetricsRecorder register(JobDefinitionKey key) {
+            return JobMetricsRecorder.NOOP;
+        }
+
+        @Override
+        public void unregister(JobDefinitionKey key) {
+        }
+    };
+
+    /**
+     * 키에 해당하는 수집기를 반환합니다. 없으면 생성합니다.
+     */
+    JobMetricsRecorder register(JobDefinitionKey key);
+
+    /**
+     * 키에 해당하는 수집기를 제거합니다.
+     */
+    void unregister(JobDefinitionKey key);
+}
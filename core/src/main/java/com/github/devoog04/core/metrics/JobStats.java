@@ -0,0 +1,64 @@
+package com.github.devoog04.core.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link InMemoryJobMetricsRegistry}가 작업별로 보관하는 실행 지표입니다.
+ */
+@Getter
+public final class JobStats implements JobMetricsRecorder {
+    private final LatencyHistogram fireLateness;
+    private final LatencyHistogram queueDelay;
+    private final LatencyHistogram runDuration;
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong overlapCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong hungCount = new AtomicLong();
+
+    JobStats(int subBucketBits) {
+        this.fireLateness = new LatencyHistogram(subBucketBits);
+        this.queueDelay = new LatencyHistogram(subBucketBits);
+        this.runDuration = new LatencyHistogram(subBucketBits);
+    }
+
+    @Override
+    public void recordFireLateness(long nanos) {
+        fireLateness.record(nanos);
+    }
+
+    @Override
+    public void recordQueueDelay(long nanos) {
+        queueDelay.record(nanos);
+    }
+
+    @Override
+    public void recordRun(long durationNanos, boolean failed) {
+        runDuration.record(durationNanos);
+        if (failed) {
+            failureCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void recordOverlap() {
+        overlapCount.incrementAndGet();
+    }
+
+    @Override
+    public void recordRetry() {
+        retryCount.incrementAndGet();
+    }
+
+    @Override
+    public void recordTimeout() {
+        timeoutCount.incrementAndGet();
+    }
+
+    @Override
+    public void recordHung() {
+        hungCount.incrementAndGet();
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.devoog04.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금과 객체 생성 없이 기록할 수 있는 로그-선형(log-linear) 지연 시간 히스토그램입니다.
+ * <p>값은 마이크로초 단위로 저장되며, 2의 거듭제곱 구간마다 {@code 2^subBucketBits}개의 하위 버킷으로 나뉩니다.
+ * 백분위 값의 상대 오차는 최대 {@code 1 / 2^subBucketBits}이며, 약 19시간({@code 2^36}us)을 넘는 값은 마지막 버킷에 누적됩니다.</p>
+ * <p>작업마다 인스턴스가 생기므로 메모리를 아끼기 위해 버킷 카운트는 {@code int}로 저장합니다.
+ * ({@code subBucketBits = 1} 기준 약 300바이트)</p>
+ */
+public final class LatencyHistogram {
+    private static final int MAX_EXPONENT = 36;
+
+    private final int subBucketBits;
+    private final int subBucketMask;
+    private final AtomicIntegerArray buckets;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sumMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * @param subBucketBits 2의 거듭제곱 구간당 하위 버킷 수의 log2 값 (0~4)
+     */
+    public LatencyHistogram(int subBucketBits) {
+        if (subBucketBits < 0 || subBucketBits > 4) {
+            throw new IllegalArgumentException("subBucketBits must be between 0 and 4.");
+        }
+        this.subBucketBits = subBucketBits;
+        this.subBucketMask = (1 << subBucketBits) - 1;
+        this.buckets = new AtomicIntegerArray(bucketIndex(1L << MAX_EXPONENT) + 1);
+    }
+
+    /**
+     * 지연 시간을 기록합니다.
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        buckets.incrementAndGet(bucketIndex(Math.min(micros, 1L << MAX_EXPONENT)));
+        count.incrementAndGet();
+        sumMicros.addAndGet(micros);
+        long max;
+        while (micros > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, micros)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    public double getMeanMicros() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sumMicros.get() / n;
+    }
+
+    /**
+     * 백분위 값을 반환합니다. 값은 해당 버킷의 상한입니다.
+     * @param percentile 0.0 ~ 1.0
+     * @return 마이크로초 단위 값, 기록이 없으면 0
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            total += buckets.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = Math.max(1, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= threshold) {
+                return Math.min(bucketUpperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    private int bucketIndex(long micros) {
+        if (micros <= subBucketMask) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) ((micros >>> (exponent - subBucketBits)) & subBucketMask);
+        return ((exponent - subBucketBits + 1) << subBucketBits) | subBucket;
+    }
+
+    private long bucketUpperBound(int index) {
+        if (index <= subBucketMask) {
+            return index;
+        }
+        int exponent = (index >>> subBucketBits) + subBucketBits - 1;
+        long subBucket = index & subBucketMask;
+        long lower = (1L << exponent) | (subBucket << (exponent - subBucketBits));
+        return lower + (1L << (exponent - subBucketBits)) - 1;
+    }
+}
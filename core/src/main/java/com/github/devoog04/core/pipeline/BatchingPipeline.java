@@ -0,0 +1,210 @@
+package com.github.devoog04.core.pipeline;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 작업이 내보낸 레코드를 모아 {@link RecordSink}에 묶음 단위로 기록하는 파이프라인입니다.
+ * <p>레코드는 크기가 {@code capacity}로 제한된 버퍼에 쌓이며, 버퍼가 가득 차면 {@link #emit(Object)}을 호출한
+ * 작업 스레드가 멈춰 기록 속도 이상으로 수집하지 않습니다. 플러시 스레드들은 버퍼를 나눠 가져가
+ * {@code batchSize}개가 모이거나 첫 레코드를 꺼낸 뒤 {@code flushInterval}이 지나면 기록하므로,
+ * 묶음의 크기와 지연 시간 모두 상한이 있습니다.</p>
+ */
+@Slf4j
+public final class BatchingPipeline<R> implements RecordEmitter<R>, AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+    public static final int DEFAULT_CAPACITY = 10_000;
+    /**
+     * 플러시 스레드가 닫힘 여부를 다시 확인하기 전까지 한 번에 기다리는 최대 시간
+     */
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final RecordSink<R> sink;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<R> buffer;
+    private final List<Thread> workers;
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    @Getter
+    private final String name;
+    private volatile boolean closed;
+
+    /**
+     * @param sink          레코드 묶음을 기록할 대상 (필수)
+     * @param batchSize     한 번에 기록할 최대 레코드 수, 미지정 시 {@link #DEFAULT_BATCH_SIZE}
+     * @param flushInterval 묶음을 채우기 위해 기다리는 최대 시간, 미지정 시 {@link #DEFAULT_FLUSH_INTERVAL}
+     * @param capacity      버퍼에 쌓아 둘 수 있는 최대 레코드 수, 미지정 시 {@link #DEFAULT_CAPACITY}
+     * @param flushWorkers  동시에 기록하는 스레드 수, 미지정 시 1
+     * @param name          플러시 스레드 이름과 로그에 사용할 이름, 미지정 시 {@code collector-pipeline}
+     */
+    @Builder
+    private BatchingPipeline(RecordSink<R> sink, Integer batchSize, Duration flushInterval,
+                             Integer capacity, Integer flushWorkers, String name) {
+        if (sink == null) {
+            throw new IllegalArgumentException("sink is required.");
+        }
+        this.sink = sink;
+        this.batchSize = batchSize != null ? batchSize : DEFAULT_BATCH_SIZE;
+        if (this.batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive.");
+        }
+        Duration interval = flushInterval != null ? flushInterval : DEFAULT_FLUSH_INTERVAL;
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("flushInterval must be positive.");
+        }
+        this.flushIntervalNanos = interval.toNanos();
+        int bufferCapacity = capacity != null ? capacity : DEFAULT_CAPACITY;
+        if (bufferCapacity < this.batchSize) {
+            throw new IllegalArgumentException("capacity must not be less than batchSize.");
+        }
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        int workerCount = flushWorkers != null ? flushWorkers : 1;
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("flushWorkers must be positive.");
+        }
+        this.name = name != null ? name : "collector-pipeline";
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, this.name + "-flush-" + (i + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * 레코드를 버퍼에 넣습니다. 버퍼가 가득 차 있으면 공간이 생길 때까지 기다립니다.
+     * @throws IllegalStateException 파이프라인이 닫혔거나 대기 중 인터럽트된 경우
+     */
+    @Override
+    public void emit(R record) {
+        if (record == null) {
+            throw new IllegalArgumentException("record is required.");
+        }
+        try {
+            while (!closed) {
+                if (buffer.offer(record, MAX_WAIT_NANOS, TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for buffer space. pipeline = " + name, e);
+        }
+        throw new IllegalStateException("Pipeline is closed. pipeline = " + name);
+    }
+
+    /**
+     * 새 레코드를 받지 않고, 버퍼에 남은 레코드를 모두 기록한 뒤 반환합니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        // 닫히는 순간 들어온 레코드는 호출한 스레드에서 마저 기록
+        List<R> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓여 기록을 기다리는 레코드 수입니다.
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 기록에 성공한 레코드 수입니다.
+     */
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    /**
+     * 기록에 실패하여 버려진 레코드 수입니다.
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * {@link RecordSink}를 호출한 횟수입니다.
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    private void work() {
+        List<R> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                R first = buffer.poll(Math.min(flushIntervalNanos, MAX_WAIT_NANOS), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || closed) {
+                        break;
+                    }
+                    R next = buffer.poll(Math.min(remaining, MAX_WAIT_NANOS), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        } catch (InterruptedException e) {
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+    }
+
+    private void flush(List<R> batch) {
+        batchCount.increment();
+        try {
+            sink.write(batch);
+            flushedCount.add(batch.size());
+        } catch (Exception e) {
+            failedCount.add(batch.size());
+            log.error("Failed to flush records. pipeline = {}, size = {}", name, batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.devoog04.core.pipeline;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+
+/**
+ * 실행할 때마다 수집한 레코드를 공유 파이프라인으로 내보내는 작업 정의입니다.
+ * <p>여러 작업이 같은 {@link BatchingPipeline}을 공유하면 작업마다 건건이 기록하지 않고
+ * 작업을 가로질러 모인 묶음 단위로 기록됩니다.</p>
+ */
+public interface CollectingJobDefinition<R> extends JobDefinition {
+
+    RecordCollector<R> getCollector();
+
+    RecordEmitter<R> getEmitter();
+
+    @Override
+    default Runnable getRunnable() {
+        RecordCollector<R> collector = getCollector();
+        RecordEmitter<R> emitter = getEmitter();
+        return () -> collector.collect(emitter);
+    }
+
+    static <R> CollectingJobDefinition<R> of(JobDefinitionKey key, RecordCollector<R> collector, RecordEmitter<R> emitter) {
+        return new SimpleCollectingJobDefinition<>(key, collector, emitter);
+    }
+}
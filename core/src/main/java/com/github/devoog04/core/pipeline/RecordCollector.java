@@ -0,0 +1,9 @@
+package com.github.devoog04.core.pipeline;
+
+/**
+ * 한 번의 실행에서 레코드를 수집하여 {@link RecordEmitter}로 내보내는 작업 본문입니다.
+ */
+@FunctionalInterface
+public interface RecordCollector<R> {
+    void collect(RecordEmitter<R> emitter);
+}
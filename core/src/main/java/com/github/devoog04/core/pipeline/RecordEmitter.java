@@ -0,0 +1,19 @@
+package com.github.devoog04.core.pipeline;
+
+/**
+ * 작업이 수집한 레코드를 파이프라인으로 내보내는 통로입니다.
+ */
+@FunctionalInterface
+public interface RecordEmitter<R> {
+    /**
+     * 레코드를 내보냅니다. 버퍼가 가득 차 있으면 공간이 생길 때까지 호출한 스레드를 멈춥니다.
+     * @throws IllegalStateException 파이프라인이 닫혔거나 대기 중 인터럽트된 경우
+     */
+    void emit(R record);
+
+    default void emitAll(Iterable<? extends R> records) {
+        for (R record : records) {
+            emit(record);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.devoog04.core.pipeline;
+
+import java.util.List;
+
+/**
+ * {@link BatchingPipeline}이 모은 레코드를 한 묶음씩 기록하는 대상입니다.
+ * <p>여러 플러시 스레드에서 동시에 호출될 수 있으므로 구현체는 스레드 안전해야 합니다.</p>
+ */
+@FunctionalInterface
+public interface RecordSink<R> {
+    /**
+     * 레코드 묶음을 기록합니다. 예외를 던지면 해당 묶음은 실패로 집계되고 버려집니다.
+     * @param batch 크기가 1 이상인 레코드 묶음, 호출이 끝난 뒤에는 재사용되지 않음
+     */
+    void write(List<R> batch) throws Exception;
+}
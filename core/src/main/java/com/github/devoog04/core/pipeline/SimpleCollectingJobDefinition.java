@@ -0,0 +1,31 @@
+package com.github.devoog04.core.pipeline;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.Getter;
+
+/**
+ * {@link CollectingJobDefinition#of(JobDefinitionKey, RecordCollector, RecordEmitter)}가 생성하는 기본 구현체입니다.
+ */
+@Getter
+final class SimpleCollectingJobDefinition<R> implements CollectingJobDefinition<R> {
+    private final JobDefinitionKey key;
+    private final RecordCollector<R> collector;
+    private final RecordEmitter<R> emitter;
+    private final Runnable runnable;
+
+    SimpleCollectingJobDefinition(JobDefinitionKey key, RecordCollector<R> collector, RecordEmitter<R> emitter) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is required.");
+        }
+        if (collector == null) {
+            throw new IllegalArgumentException("collector is required.");
+        }
+        if (emitter == null) {
+            throw new IllegalArgumentException("emitter is required.");
+        }
+        this.key = key;
+        this.collector = collector;
+        this.emitter = emitter;
+        this.runnable = () -> collector.collect(emitter);
+    }
+}
@@ -3,134 +3,764 @@ package com.github.devoog04.core.schedule;
 import com.github.devoog04.core.definition.JobDefinition;
 import com.github.devoog04.core.definition.JobDefinitionKey;
 import com.github.devoog04.core.schedule.exception.DuplicateScheduleException;
-import com.github.devoog04.core.schedule.exception.JobSchedulerException;
 import com.github.devoog04.core.schedule.exception.NotFoundScheduleException;
 import com.github.devoog04.core.schedule.exception.ScheduleExecutionException;
+import com.github.devoog04.core.store.ScheduleStore;
+import com.github.devoog04.core.store.StoredSchedule;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * {@link JobScheduler} 인터페이스의 추상 구현체로, 공통적인 스케줄 관리 로직을 제공합니다.
  * <p>이 클래스는 다음과 같은 핵심 설계 원칙을 따릅니다:
  * <ul>
- * <li><b>스레드 안전성:</b> {@link ConcurrentHashMap}과 {@code compute} 계열 메서드를 사용하여
+ * <li><b>스레드 안전성:</b> 키별 {@link ScheduleEntry}의 잠금과 {@link ScheduleState} 전이로
  * 멀티스레드 환경에서 작업 관리의 원자성을 보장합니다.</li>
+ * <li><b>맵 락 분리:</b> 엔진 호출({@code createManager}, {@code doSchedule}, {@code doCancel})은
+ * {@link ConcurrentHashMap}의 버킷 락 밖에서 수행되므로, 느린 엔진 호출은 같은 키의 요청만 대기시킵니다.</li>
  * <li><b>상태 일관성:</b> 스케줄러의 관리 목록(Map)과 실제 실행 상태(Running Task) 간의
  * 일관성을 유지하기 위해 예외 발생 시 복구 로직을 수행합니다.</li>
  * <li><b>멱등성:</b> 동일한 작업에 대한 중복 취소나 등록 요청을 안전하게 처리합니다.</li>
+ * <li><b>영속화:</b> {@link ScheduleStore}가 지정되면 등록/재스케줄/제거가 끝난 뒤 저장소에 기록하며,
+ * {@link #recover}로 재시작 후 스케줄을 복원합니다. 저장소 오류는 기록만 하고 스케줄 변경을 실패시키지 않습니다.</li>
+ * <li><b>조회:</b> 조회 API는 키별 잠금을 잡지 않고 항목의 volatile 필드만 읽으며, 엔진이 {@link #updateNextFireTime}으로
+ * 갱신하는 실행 예정 시각 색인을 통해 곧 실행될 작업을 전체 작업 수와 무관하게 조회합니다.</li>
  * </ul>
  * @see JobScheduler
  * @see ScheduleManager
  */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class AbstractJobScheduler implements JobScheduler {
     /**
-     * 활성화된 작업들을 관리하는 컨테이너입니다.
-     * - Key: 작업을 식별하는 고유 키 (JobDefinitionKey), Value: 현재 스케줄러에 등록되어 정상 동작 중인 매니저 객체 (ScheduleManager)
+     * 등록된 작업들을 관리하는 컨테이너입니다.
+     * - Key: 작업을 식별하는 고유 키 (JobDefinitionKey), Value: 키별 상태와 매니저를 담는 항목 (ScheduleEntry)
+     * <p>{@link ScheduleState#ACTIVE}가 아닌 항목은 다른 스레드가 변경 중인 키입니다.</p>
      */
-    protected final Map<JobDefinitionKey, ScheduleManager> container = new ConcurrentHashMap<>();
+    protected final Map<JobDefinitionKey, ScheduleEntry> container = new ConcurrentHashMap<>();
+    /** 실행 예정 시각이 정해진 매니저의 색인, 예정 시각 오름차순 */
+    private final ConcurrentSkipListSet<FireTime> fireTimes = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(FireTime::at).thenComparingLong(FireTime::sequence));
+    @Getter(AccessLevel.PROTECTED)
+    private final ScheduleStore store;
+
+    protected AbstractJobScheduler() {
+        this(ScheduleStore.NONE);
+    }
+
+    /**
+     * @param store 스케줄 저장소
+     */
+    protected AbstractJobScheduler(ScheduleStore store) {
+        this.store = store != null ? store : ScheduleStore.NONE;
+    }
 
     @Override
     public void schedule(JobDefinition definition, SchedulePolicy policy)
             throws DuplicateScheduleException, ScheduleExecutionException {
-        container.compute(definition.getKey(), (k, oldManager) -> {
-            // 기존 manager 미존재
-            if (oldManager == null) {
-                try {
-                    ScheduleManager manager = createManager(definition, policy);
-                    log.info("schedule log 1");
-                    manager.schedule();
-                    return manager; // 신규 manager 등록
-                } catch (Exception e) {
-                    log.error("schedule log 2");
-                    throw e; // 신규 manager 등록 X
-                }
-            }else {
+        JobDefinitionKey key = definition.getKey();
+        ScheduleEvents.ScheduleEvent event = new ScheduleEvents.ScheduleEvent();
+        ScheduleEntry entry = new ScheduleEntry();
+        entry.lock.lock();
+        try {
+            // 중복 체크와 키 선점을 원자적으로 수행
+            if (container.putIfAbsent(key, entry) != null) {
                 log.error("schedule log 3");
-                throw new DuplicateScheduleException(definition.getKey());
+                event.end(key, policy, false);
+                throw new DuplicateScheduleException(key);
             }
-        });
+            entry.state = ScheduleState.SCHEDULING;
+            try {
+                ScheduleManager manager = createManager(definition, policy);
+                manager.schedule();
+                entry.activate(manager); // 신규 manager 등록
+                persist(key, policy);
+                event.end(key, policy, true);
+            } catch (Exception e) {
+                log.error("schedule log 2");
+                removeEntry(entry, key); // 신규 manager 등록 X
+                event.end(key, policy, false);
+                throw e;
+            }
+        } finally {
+            entry.lock.unlock();
+        }
     }
 
     @Override
     public void reschedule(JobDefinitionKey key, SchedulePolicy newPolicy)
             throws NotFoundScheduleException, ScheduleExecutionException {
-        AtomicReference<JobSchedulerException> exceptionRef = new AtomicReference<>();
+        rescheduleLatest(key, () -> newPolicy);
+    }
+
+    /**
+     * 항목을 잠근 뒤에 적용할 정책을 조회하여 재스케줄합니다.
+     * <p>같은 키의 재스케줄 요청을 모아 마지막 정책만 적용하는 엔진이 사용합니다. 정책을 잠금 안에서 꺼내므로
+     * 꺼낸 순서대로 적용되어, 먼저 꺼낸 이전 정책이 나중 정책을 덮어쓰지 않습니다. 실패 시 복구는 {@link #reschedule}과 같습니다.</p>
+     * @param key    재스케줄할 작업의 키
+     * @param policy 잠금을 획득한 뒤 호출되며, null을 반환하면 재스케줄하지 않음
+     */
+    protected void rescheduleLatest(JobDefinitionKey key, Supplier<SchedulePolicy> policy)
+            throws NotFoundScheduleException, ScheduleExecutionException {
+        ScheduleEvents.RescheduleEvent event = new ScheduleEvents.RescheduleEvent();
+        ScheduleEntry entry = lockEntry(key);
+        // 기존 manager 미존재
+        if (entry == null) {
+            log.error("reschedule log 7");
+            event.end(key, null, false);
+            throw new NotFoundScheduleException(key);
+        }
+        try {
+            SchedulePolicy newPolicy = policy.get();
+            if (newPolicy == null) {
+                return;
+            }
+            ScheduleManager oldManager = entry.manager;
+            entry.state = ScheduleState.SCHEDULING;
+
+            // 기존 manager 취소
+            try {
+                oldManager.cancel();
+            } catch (Exception e) {
+                log.error("reschedule log 2");
+                entry.state = ScheduleState.ACTIVE; // 기존 manager 유지
+                event.end(key, newPolicy, false);
+                throw e;
+            }
+
+            // 신규 manager 스케줄
+            try {
+                ScheduleManager manager = createManager(oldManager.getJobDefinition(), newPolicy);
+                manager.schedule();
+                entry.activate(manager); // 신규 manager로 교체
+                persist(key, newPolicy);
+                event.end(key, newPolicy, true);
+            } catch (Exception e) {
+                log.error("reschedule log 4");
+                event.end(key, newPolicy, false);
+
+                // 복구 : 기존 manager 다시 스케줄
+                ScheduleEvents.RollbackEvent rollback = new ScheduleEvents.RollbackEvent();
+                try {
+                    oldManager.schedule();
+                    entry.state = ScheduleState.ACTIVE; // 기존 manager 유지
+                    rollback.end(key, oldManager.getPolicy(), true);
+                } catch (Exception rollbackEx) {
+                    // 복구 실패
+                    log.error("reschedule log 6");
+                    rollback.end(key, oldManager.getPolicy(), false);
+                    removeEntry(entry, key); // 기존 manager 제거 // 기존, 신규 manager 모두 등록 X 상태
+                    throw new ScheduleExecutionException(key, "Critical failure: Reschedule failed and subsequent Rollback also failed for job . The job is now in a STOPPED state.", rollbackEx);
+                }
+
+                throw e;
+            }
+        } finally {
+            entry.lock.unlock();
+        }
+    }
 
-        container.compute(key, (k, oldManager) -> {
-            // 기존 manager 존재
-            if (oldManager != null) {
+    @Override
+    public void unschedule(JobDefinitionKey key)
+            throws ScheduleExecutionException {
+        ScheduleEvents.UnscheduleEvent event = new ScheduleEvents.UnscheduleEvent();
+        ScheduleEntry entry = lockEntry(key);
+        // 기존 manager 미존재
+        if (entry == null) {
+            log.warn("unschedule log 3");
+            return;
+        }
+        try {
+            entry.state = ScheduleState.CANCELLING;
+            try {
                 // 기존 manager 취소
+                entry.manager.cancel();
+            } catch (Exception e) {
+                log.error("unschedule log 2");
+                entry.state = ScheduleState.ACTIVE; // 기존 manager 유지
+                event.end(key, entry.manager.getPolicy(), false);
+                throw e;
+            }
+            removeEntry(entry, key); // 기존 manager 제거
+            unpersist(key);
+            entry.manager.abortRunning(); // 진행 중인 실행 중단
+            event.end(key, entry.manager.getPolicy(), true);
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * 여러 작업을 일괄 등록합니다.
+     * <p>키 선점은 {@code putIfAbsent}로 수행하고, 엔진 등록은 {@link #scheduleManagers}로 한 번에 위임합니다.
+     * 선점된 키는 처리가 끝날 때까지 {@link ScheduleState#PENDING} 상태로 잠겨 있으며, 엔진 등록에 실패한 키는 선점을 해제합니다.</p>
+     */
+    @Override
+    public BulkScheduleResult scheduleAll(Collection<JobRegistration> registrations) {
+        List<JobDefinitionKey> succeeded = new ArrayList<>(registrations.size());
+        Map<JobDefinitionKey, Exception> failures = new LinkedHashMap<>();
+        List<ScheduleEntry> reserved = new ArrayList<>(registrations.size());
+        List<ScheduleEvents.ScheduleEvent> events = new ArrayList<>(registrations.size());
+        List<ScheduleManager> managers = new ArrayList<>(registrations.size());
+
+        try {
+            // 1. 키 선점 및 매니저 생성 (요청 내 중복 키는 첫 항목만 처리하고 나머지는 중복으로 실패)
+            Set<JobDefinitionKey> requested = new HashSet<>();
+            for (JobRegistration registration : registrations) {
+                JobDefinitionKey key = registration.getKey();
+                if (!requested.add(key)) {
+                    new ScheduleEvents.ScheduleEvent().end(key, registration.getPolicy(), false);
+                    failures.putIfAbsent(key, new DuplicateScheduleException(key));
+                    continue;
+                }
+                ScheduleEvents.ScheduleEvent event = new ScheduleEvents.ScheduleEvent();
+                ScheduleEntry entry = new ScheduleEntry();
+                entry.lock.lock();
                 try {
-                    log.info("reschedule log 1");
-                    oldManager.cancel();
+                    if (container.putIfAbsent(key, entry) != null) {
+                        throw new DuplicateScheduleException(key);
+                    }
+                    try {
+                        entry.manager = createManager(registration.getDefinition(), registration.getPolicy());
+                    } catch (Exception e) {
+                        removeEntry(entry, key);
+                        throw e;
+                    }
+                    reserved.add(entry);
+                    events.add(event);
+                    managers.add(entry.manager);
                 } catch (Exception e) {
-                    log.error("reschedule log 2");
-                    throw e; // 기존 manager 유지
+                    entry.lock.unlock();
+                    event.end(key, registration.getPolicy(), false);
+                    failures.put(key, e);
                 }
+            }
+
+            // 2. 엔진 일괄 등록
+            reserved.forEach(entry -> entry.state = ScheduleState.SCHEDULING);
+            Map<ScheduleManager, Exception> scheduleFailures = scheduleManagers(managers);
+
+            // 3. 결과 반영
+            for (int i = 0; i < reserved.size(); i++) {
+                ScheduleEntry entry = reserved.get(i);
+                JobDefinitionKey key = entry.manager.getJobDefinition().getKey();
+                Exception failure = scheduleFailures.get(entry.manager);
+                if (failure != null) {
+                    removeEntry(entry, key);
+                    events.get(i).end(key, entry.manager.getPolicy(), false);
+                    failures.put(key, failure);
+                } else {
+                    entry.activate(entry.manager);
+                    persist(key, entry.manager.getPolicy());
+                    events.get(i).end(key, entry.manager.getPolicy(), true);
+                    succeeded.add(key);
+                }
+            }
+        } finally {
+            reserved.forEach(entry -> entry.lock.unlock());
+        }
+        return new BulkScheduleResult(succeeded, failures);
+    }
 
-                // 신규 manager 스케줄
+    /**
+     * 여러 작업의 정책을 일괄 변경합니다.
+     * <p>기다리지 않고 잠글 수 있는 키를 모두 잠근 뒤, 기존 매니저 취소는 {@link #cancelManagers}로,
+     * 신규 매니저 등록과 실패한 키의 복구는 {@link #scheduleManagers}로 한 번에 위임합니다. 키별 복구 규정은 {@link #reschedule}과 같습니다.
+     * 다른 요청이 잠그고 있는 키는 잠금을 보유한 채 기다리면 교착될 수 있으므로, 일괄 처리의 잠금을 모두 푼 뒤 하나씩 처리합니다.</p>
+     */
+    @Override
+    public BulkScheduleResult rescheduleAll(Map<JobDefinitionKey, SchedulePolicy> newPolicies) {
+        Map<JobDefinitionKey, Exception> failures = new HashMap<>();
+        List<JobDefinitionKey> deferred = new ArrayList<>();
+        List<Change> changes = new ArrayList<>(newPolicies.size());
+        try {
+            // 1. 키 잠금 (잠그지 못한 키는 개별 처리로 미룸)
+            // 잠그지 못한 키는 개별 처리에서 이벤트를 만들므로 잠근 키만 이벤트 생성
+            newPolicies.forEach((key, policy) -> {
                 try {
-                    ScheduleManager manager = createManager(oldManager.getJobDefinition(), newPolicy);
-                    log.info("reschedule log 3");
-                    manager.schedule();
-                    return manager; // 신규 manager로 교체
+                    ScheduleEntry entry = tryLockEntry(key);
+                    if (entry == null) {
+                        deferred.add(key);
+                        return;
+                    }
+                    entry.state = ScheduleState.SCHEDULING;
+                    changes.add(new Change(key, entry, policy, new ScheduleEvents.RescheduleEvent()));
                 } catch (Exception e) {
-                    log.error("reschedule log 4");
+                    new ScheduleEvents.RescheduleEvent().end(key, policy, false);
+                    failures.put(key, e);
+                }
+            });
 
-                    // 복구 : 기존 manager 다시 스케줄
-                    try {
-                        log.info("reschedule log 5");
-                        oldManager.schedule();
-
-                    } catch (Exception rollbackEx) {
-                        // 복구 실패
-                        log.error("reschedule log 6");
-                        JobSchedulerException exception = new ScheduleExecutionException(key, "Critical failure: Reschedule failed and subsequent Rollback also failed for job . The job is now in a STOPPED state.", rollbackEx);
-                        exceptionRef.set(exception);
-                        return null; // 기존 manager 제거 // 기존, 신규 manager 모두 등록 X 상태
-                    }
+            // 2. 기존 매니저 일괄 취소
+            Map<ScheduleManager, Exception> cancelFailures = cancelManagers(changes.stream().map(change -> change.oldManager).toList());
+            List<Change> cancelled = new ArrayList<>(changes.size());
+            for (Change change : changes) {
+                Exception failure = cancelFailures.get(change.oldManager);
+                if (failure != null) {
+                    log.error("Failed to cancel the job for reschedule; keeping the current policy. key = {}", change.key, failure);
+                    change.entry.state = ScheduleState.ACTIVE; // 기존 manager 유지
+                    change.fail(failure, failures);
+                } else {
+                    cancelled.add(change);
+                }
+            }
 
-                    throw e; // 기존 manager 유지
+            // 3. 신규 매니저 생성 및 일괄 등록
+            List<Change> created = new ArrayList<>(cancelled.size());
+            List<Change> rollbacks = new ArrayList<>();
+            for (Change change : cancelled) {
+                try {
+                    change.newManager = createManager(change.oldManager.getJobDefinition(), change.newPolicy);
+                    created.add(change);
+                } catch (Exception e) {
+                    change.error = e;
+                    rollbacks.add(change);
+                }
+            }
+            Map<ScheduleManager, Exception> scheduleFailures = scheduleManagers(created.stream().map(change -> change.newManager).toList());
+            for (Change change : created) {
+                Exception failure = scheduleFailures.get(change.newManager);
+                if (failure != null) {
+                    change.error = failure;
+                    rollbacks.add(change);
+                } else {
+                    change.entry.activate(change.newManager); // 신규 manager로 교체
+                    persist(change.key, change.newPolicy);
+                    change.event.end(change.key, change.newPolicy, true);
                 }
-            } else {
-                log.error("reschedule log 7");
-                throw new NotFoundScheduleException(key);
             }
-        });
 
-        if (exceptionRef.get() != null) {
-            throw exceptionRef.get();
+            // 4. 복구 : 실패한 키의 기존 manager 일괄 재등록
+            List<ScheduleEvents.RollbackEvent> rollbackEvents = rollbacks.stream().map(change -> new ScheduleEvents.RollbackEvent()).toList();
+            Map<ScheduleManager, Exception> rollbackFailures = scheduleManagers(rollbacks.stream().map(change -> change.oldManager).toList());
+            for (int i = 0; i < rollbacks.size(); i++) {
+                Change change = rollbacks.get(i);
+                log.error("Failed to reschedule the job; restoring the previous policy. key = {}", change.key, change.error);
+                change.fail(change.error, failures);
+                Exception rollbackEx = rollbackFailures.get(change.oldManager);
+                rollbackEvents.get(i).end(change.key, change.oldManager.getPolicy(), rollbackEx == null);
+                if (rollbackEx == null) {
+                    change.entry.state = ScheduleState.ACTIVE; // 기존 manager 유지
+                } else {
+                    // 복구 실패
+                    log.error("Failed to restore the previous policy; the job is stopped. key = {}", change.key, rollbackEx);
+                    removeEntry(change.entry, change.key); // 기존, 신규 manager 모두 등록 X 상태
+                    failures.put(change.key, new ScheduleExecutionException(change.key, "Critical failure: Reschedule failed and subsequent Rollback also failed for job . The job is now in a STOPPED state.", rollbackEx));
+                }
+            }
+        } finally {
+            changes.forEach(change -> change.entry.lock.unlock());
+        }
+
+        // 5. 잠그지 못한 키 개별 처리
+        for (JobDefinitionKey key : deferred) {
+            try {
+                reschedule(key, newPolicies.get(key));
+            } catch (Exception e) {
+                failures.put(key, e);
+            }
         }
+        return toResult(newPolicies.keySet(), failures);
     }
 
+    /**
+     * 여러 작업을 일괄 제거합니다.
+     * <p>{@link #rescheduleAll}과 같이 기다리지 않고 잠글 수 있는 키를 모두 잠근 뒤 {@link #cancelManagers}로 한 번에 취소하고,
+     * 잠그지 못했거나 존재하지 않는 키는 잠금을 모두 푼 뒤 {@link #unschedule}로 하나씩 처리합니다.</p>
+     */
     @Override
-    public void unschedule(JobDefinitionKey key)
-            throws ScheduleExecutionException {
-        container.compute(key, (k, oldManager) -> {
-            // 기존 manager 존재
-            if (oldManager != null) {
+    public BulkScheduleResult unscheduleAll(Collection<JobDefinitionKey> keys) {
+        Set<JobDefinitionKey> requested = new LinkedHashSet<>(keys);
+        Map<JobDefinitionKey, Exception> failures = new HashMap<>();
+        List<JobDefinitionKey> deferred = new ArrayList<>();
+        List<Change> changes = new ArrayList<>(requested.size());
+        try {
+            // 1. 키 잠금 (잠그지 못한 키는 개별 처리로 미룸)
+            for (JobDefinitionKey key : requested) {
                 try {
-                    // 기존 manager 취소
-                    log.info("unschedule log 1");
-                    oldManager.cancel();
-                    return null; // 기존 manager 제거
+                    ScheduleEntry entry = tryLockEntry(key);
+                    if (entry == null) {
+                        deferred.add(key);
+                        continue;
+                    }
+                    entry.state = ScheduleState.CANCELLING;
+                    changes.add(new Change(key, entry, null, new ScheduleEvents.UnscheduleEvent()));
                 } catch (Exception e) {
-                    log.error("unschedule log 2");
-                    throw e; // 기존 manager 유지
+                    new ScheduleEvents.UnscheduleEvent().end(key, null, false);
+                    failures.put(key, e);
+                }
+            }
+
+            // 2. 기존 매니저 일괄 취소
+            Map<ScheduleManager, Exception> cancelFailures = cancelManagers(changes.stream().map(change -> change.oldManager).toList());
+            for (Change change : changes) {
+                Exception failure = cancelFailures.get(change.oldManager);
+                if (failure != null) {
+                    log.error("Failed to cancel the job; keeping it scheduled. key = {}", change.key, failure);
+                    change.entry.state = ScheduleState.ACTIVE; // 기존 manager 유지
+                    change.event.end(change.key, change.oldManager.getPolicy(), false);
+                    failures.put(change.key, failure);
+                } else {
+                    removeEntry(change.entry, change.key); // 기존 manager 제거
+                    unpersist(change.key);
+                    change.oldManager.abortRunning(); // 진행 중인 실행 중단
+                    change.event.end(change.key, change.oldManager.getPolicy(), true);
                 }
+            }
+        } finally {
+            changes.forEach(change -> change.entry.lock.unlock());
+        }
+
+        // 3. 잠그지 못한 키 개별 처리
+        for (JobDefinitionKey key : deferred) {
+            try {
+                unschedule(key);
+            } catch (Exception e) {
+                failures.put(key, e);
+            }
+        }
+        return toResult(requested, failures);
+    }
+
+    /**
+     * 요청 순서대로 키별 처리 결과를 만듭니다.
+     */
+    private static BulkScheduleResult toResult(Collection<JobDefinitionKey> requested, Map<JobDefinitionKey, Exception> failures) {
+        List<JobDefinitionKey> succeeded = new ArrayList<>(requested.size());
+        Map<JobDefinitionKey, Exception> ordered = new LinkedHashMap<>();
+        for (JobDefinitionKey key : requested) {
+            Exception failure = failures.get(key);
+            if (failure != null) {
+                ordered.put(key, failure);
             } else {
-                    log.warn("unschedule log 3");
-                    return null;
+                succeeded.add(key);
+            }
+        }
+        return new BulkScheduleResult(succeeded, ordered);
+    }
+
+    /**
+     * 등록된 작업 집합을 {@code desired}와 같아지도록 필요한 변경만 적용합니다.
+     * <p>키를 기준으로 컨테이너와 비교하여 다음과 같이 처리합니다. 변경이 없는 키는 엔진을 호출하지 않으므로
+     * 비용은 전체 작업 수가 아닌 바뀐 작업 수에 비례합니다.
+     * <ul>
+     * <li>{@code desired}에 없는 키: {@link #unscheduleAll}로 한 번에 제거</li>
+     * <li>등록되지 않은 키: {@link #scheduleAll}로 한 번에 등록</li>
+     * <li>정책이 다른 키: {@link #rescheduleAll}로 한 번에 변경</li>
+     * <li>정책이 {@link SchedulePolicy#equals 값으로} 같은 키: 변경하지 않음</li>
+     * </ul>
+     * 변경은 호출 스레드에서 일괄 API로 엔진에 위임되며, 각 키는 개별 요청과 같은 원자성과 복구 규정을 따릅니다.
+     * 요청 내 같은 키가 반복되면 첫 번째 항목만 처리됩니다.</p>
+     * <p>작업 정의는 비교하지 않으므로, 같은 키의 실행 로직을 바꾸려면 제거한 뒤 다시 등록해야 합니다.
+     * 비교 이후 다른 요청이 같은 키를 변경하면 그 키는 해당 요청의 예외로 실패할 수 있습니다.</p>
+     * @param desired 원하는 작업 정의와 정책 목록
+     * @return 처리 종류별 키와 실패한 키
+     */
+    public ReconcileResult reconcile(Collection<JobRegistration> desired) {
+        Map<JobDefinitionKey, JobRegistration> wanted = new LinkedHashMap<>();
+        for (JobRegistration registration : desired) {
+            wanted.putIfAbsent(registration.getKey(), registration);
+        }
+
+        // 1. 변경 분류 (잠금 없이 현재 상태와 비교)
+        List<JobRegistration> added = new ArrayList<>();
+        Map<JobDefinitionKey, SchedulePolicy> changed = new LinkedHashMap<>();
+        int unchanged = 0;
+        for (JobRegistration registration : wanted.values()) {
+            JobDefinitionKey key = registration.getKey();
+            ScheduleEntry entry = container.get(key);
+            ScheduledJob current = entry != null ? entry.snapshot(key) : null;
+            if (current == null) {
+                added.add(registration);
+                continue;
+            }
+            SchedulePolicy pending = pendingPolicy(key);
+            SchedulePolicy applied = pending != null ? effectivePolicy(pending) : current.getPolicy();
+            if (effectivePolicy(registration.getPolicy()).equals(applied)) {
+                unchanged++;
+            } else {
+                changed.put(key, registration.getPolicy());
+            }
+        }
+        List<JobDefinitionKey> removed = new ArrayList<>();
+        for (JobDefinitionKey key : container.keySet()) {
+            if (!wanted.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+
+        // 2. 변경 적용
+        Map<JobDefinitionKey, Exception> failures = new LinkedHashMap<>();
+        BulkScheduleResult unscheduled = removed.isEmpty() ? BulkScheduleResult.EMPTY : unscheduleAll(removed);
+        BulkScheduleResult scheduled = added.isEmpty() ? BulkScheduleResult.EMPTY : scheduleAll(added);
+        BulkScheduleResult rescheduled = changed.isEmpty() ? BulkScheduleResult.EMPTY : rescheduleAll(changed);
+        failures.putAll(unscheduled.getFailures());
+        failures.putAll(scheduled.getFailures());
+        failures.putAll(rescheduled.getFailures());
+
+        return new ReconcileResult(scheduled.getSucceeded(), rescheduled.getSucceeded(), unscheduled.getSucceeded(), unchanged, failures);
+    }
+
+    @Override
+    public List<ScheduledJob> getScheduledJobs() {
+        List<ScheduledJob> jobs = new ArrayList<>(container.size());
+        container.forEach((key, entry) -> {
+            ScheduledJob job = entry.snapshot(key);
+            if (job != null) {
+                jobs.add(job);
             }
         });
+        return jobs;
+    }
+
+    @Override
+    public ScheduledJob getScheduledJob(JobDefinitionKey key) {
+        ScheduleEntry entry = container.get(key);
+        return entry != null ? entry.snapshot(key) : null;
+    }
+
+    /**
+     * 실행 예정 시각 색인에서 기간 안의 항목만 잘라 읽으므로 비용은 결과 수에 비례합니다.
+     */
+    @Override
+    public List<ScheduledJob> getJobsDueWithin(Duration window) {
+        if (window == null || window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative.");
+        }
+        long horizon = System.currentTimeMillis() + window.toMillis();
+        List<ScheduledJob> jobs = new ArrayList<>();
+        for (FireTime fireTime : fireTimes.headSet(new FireTime(horizon, Long.MAX_VALUE, null), true)) {
+            ScheduleManager manager = fireTime.manager();
+            JobDefinitionKey key = manager.getJobDefinition().getKey();
+            ScheduleEntry entry = container.get(key);
+            // 색인 갱신과 경합한 이전 세대의 매니저는 제외
+            if (entry == null || entry.manager != manager || manager.fireTime != fireTime) {
+                continue;
+            }
+            ScheduleState state = entry.state;
+            if (state != ScheduleState.REMOVED) {
+                jobs.add(ScheduledJob.of(key, manager.getPolicy(), state, fireTime.at()));
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * 저장소에 기록된 스케줄을 복원합니다. 애플리케이션이 작업 정의를 다시 만든 뒤 시작 시점에 호출합니다.
+     * <p>복원된 작업은 저장된 정책으로 {@link #scheduleAll}을 통해 등록되며, 엔진은 {@link #lastFireTime}으로
+     * 마지막 실행 시각을 이어받아 중단 기간 동안 놓친 실행을 {@link MisfirePolicy}에 따라 처리합니다.
+     * 엔진이 등록을 거부한 키(설정 오류 등)는 결과에 실패로 남고 저장소 기록은 유지됩니다.</p>
+     * @param resolver 키에 해당하는 작업 정의, 더 이상 존재하지 않는 작업이면 null (저장소에서 제거)
+     * @return 복원 결과, 이미 등록된 키는 {@link DuplicateScheduleException}으로 실패 처리
+     */
+    public BulkScheduleResult recover(Function<JobDefinitionKey, JobDefinition> resolver) {
+        Collection<StoredSchedule> stored = store.loadAll();
+        List<JobRegistration> registrations = new ArrayList<>(stored.size());
+        for (StoredSchedule schedule : stored) {
+            JobDefinition definition = resolver.apply(schedule.getKey());
+            if (definition == null) {
+                log.info("Removing a stored schedule without a job definition. key = {}", schedule.getKey());
+                unpersist(schedule.getKey());
+                continue;
+            }
+            registrations.add(JobRegistration.of(definition, schedule.getPolicy()));
+        }
+        return scheduleAll(registrations);
+    }
+
+    /**
+     * 여러 매니저를 엔진에 등록합니다. 엔진이 일괄 등록 수단을 제공하면 재정의합니다.
+     * @param managers 등록할 매니저 목록
+     * @return 등록에 실패한 매니저와 원인 (실패가 없으면 빈 맵)
+     */
+    protected Map<ScheduleManager, Exception> scheduleManagers(List<ScheduleManager> managers) {
+        Map<ScheduleManager, Exception> failures = new IdentityHashMap<>();
+        for (ScheduleManager manager : managers) {
+            try {
+                manager.schedule();
+            } catch (Exception e) {
+                failures.put(manager, e);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 여러 매니저를 엔진에서 취소합니다. 엔진이 일괄 취소 수단을 제공하면 재정의합니다.
+     * @param managers 취소할 매니저 목록
+     * @return 취소에 실패한 매니저와 원인 (실패가 없으면 빈 맵)
+     */
+    protected Map<ScheduleManager, Exception> cancelManagers(List<ScheduleManager> managers) {
+        Map<ScheduleManager, Exception> failures = new IdentityHashMap<>();
+        for (ScheduleManager manager : managers) {
+            try {
+                manager.cancel();
+            } catch (Exception e) {
+                failures.put(manager, e);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 요청된 정책에 엔진이 기본값을 채운, 매니저가 실제로 사용할 정책을 반환합니다.
+     * {@link #reconcile}은 이 값을 {@link ScheduleManager#getPolicy()}와 비교하므로, {@link #createManager}에서
+     * 정책을 보완하는 엔진은 같은 규칙으로 재정의해야 합니다.
+     * @param policy 요청된 정책
+     */
+    protected SchedulePolicy effectivePolicy(SchedulePolicy policy) {
+        return policy;
+    }
+
+    /**
+     * 요청되었지만 아직 엔진에 적용하지 않은 재스케줄 정책을 반환합니다. 재스케줄을 미뤄 적용하는 엔진이 재정의합니다.
+     * @param key 작업의 키
+     * @return 적용 대기 중인 정책, 없으면 null
+     */
+    protected SchedulePolicy pendingPolicy(JobDefinitionKey key) {
+        return null;
+    }
+
+    /**
+     * 작업이 컨테이너에서 제거된 뒤 호출됩니다. 키별로 보관하는 엔진 자원(지표 등)을 정리할 때 재정의합니다.
+     * <p>항목의 잠금을 보유한 상태로 호출되므로 같은 키를 변경하는 요청을 호출해서는 안 됩니다.</p>
+     * @param key 제거된 작업의 키
+     */
+    protected void onRemoved(JobDefinitionKey key) {
+    }
+
+    /**
+     * 컨테이너에서 키를 해제합니다. 저장소 기록은 제거하지 않으므로, 등록이나 복구에 실패한 키는 다음 {@link #recover}에서 다시 시도됩니다.
+     * 저장소에서도 지우는 경우는 {@link #unschedule}과 작업 정의가 없어진 키뿐입니다.
+     */
+    private void removeEntry(ScheduleEntry entry, JobDefinitionKey key) {
+        entry.remove(container, key);
+        onRemoved(key);
+    }
+
+    /**
+     * 엔진이 작업을 실행할 때 호출하여 마지막 실행 시각을 저장소에 기록합니다.
+     */
+    protected void recordFire(JobDefinitionKey key, long epochMillis) {
+        try {
+            store.recordFire(key, epochMillis);
+        } catch (RuntimeException e) {
+            log.error("Failed to record the fire time. key = {}", key, e);
+        }
+    }
+
+    /**
+     * 저장소에 기록된 마지막 실행 시각을 조회합니다. 엔진은 첫 실행 시각을 계산할 때 사용합니다.
+     * @return 마지막 실행 시각 (epoch 밀리초), 기록이 없으면 -1
+     */
+    protected long lastFireTime(JobDefinitionKey key) {
+        try {
+            return store.lastFireTime(key);
+        } catch (RuntimeException e) {
+            log.error("Failed to read the last fire time. key = {}", key, e);
+            return -1L;
+        }
+    }
+
+    /**
+     * 엔진이 다음 실행을 등록하거나 취소할 때 호출하여 실행 예정 시각 색인을 갱신합니다.
+     * <p>매니저 단위로 직렬화되며, 엔진의 타이머 스레드에서 호출되어도 블로킹 없이 O(log n)에 끝납니다.</p>
+     * @param manager     대상 매니저
+     * @param epochMillis 다음 실행 예정 시각 (epoch 밀리초), 정해지지 않았으면 -1
+     */
+    protected final void updateNextFireTime(ScheduleManager manager, long epochMillis) {
+        synchronized (manager) {
+            FireTime previous = manager.fireTime;
+            if (previous != null) {
+                fireTimes.remove(previous);
+            }
+            FireTime next = epochMillis >= 0 ? new FireTime(epochMillis, manager.sequence, manager) : null;
+            manager.fireTime = next;
+            if (next != null) {
+                fireTimes.add(next);
+            }
+        }
+    }
+
+    private void persist(JobDefinitionKey key, SchedulePolicy policy) {
+        try {
+            store.save(key, policy);
+        } catch (RuntimeException e) {
+            log.error("Failed to persist the schedule. key = {}", key, e);
+        }
+    }
+
+    private void unpersist(JobDefinitionKey key) {
+        try {
+            store.remove(key);
+        } catch (RuntimeException e) {
+            log.error("Failed to remove the stored schedule. key = {}", key, e);
+        }
+    }
+
+    /**
+     * 키에 해당하는 항목을 잠그고 반환합니다. 대기 중 항목이 제거되면 다시 조회합니다.
+     * @return 잠긴 항목, 키가 존재하지 않으면 null
+     * @throws ScheduleExecutionException 같은 키를 변경하는 도중 엔진 콜백에서 다시 변경을 요청한 경우
+     */
+    private ScheduleEntry lockEntry(JobDefinitionKey key) throws ScheduleExecutionException {
+        while (true) {
+            ScheduleEntry entry = container.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.lock.lock();
+            if (entry.lock.getHoldCount() > 1) {
+                entry.lock.unlock();
+                throw new ScheduleExecutionException(key, "The job cannot be modified re-entrantly while it is being " + entry.state + ".");
+            }
+            if (entry.state != ScheduleState.REMOVED) {
+                return entry;
+            }
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * 기다리지 않고 키에 해당하는 항목을 잠급니다. 여러 키를 함께 잠그는 일괄 처리에서 교착을 피하기 위해 사용합니다.
+     * @return 잠긴 항목, 키가 존재하지 않거나 다른 스레드가 잠그고 있으면 null
+     * @throws ScheduleExecutionException 같은 키를 변경하는 도중 엔진 콜백에서 다시 변경을 요청한 경우
+     */
+    private ScheduleEntry tryLockEntry(JobDefinitionKey key) throws ScheduleExecutionException {
+        ScheduleEntry entry = container.get(key);
+        if (entry == null || !entry.lock.tryLock()) {
+            return null;
+        }
+        if (entry.lock.getHoldCount() > 1) {
+            entry.lock.unlock();
+            throw new ScheduleExecutionException(key, "The job cannot be modified re-entrantly while it is being " + entry.state + ".");
+        }
+        if (entry.state == ScheduleState.REMOVED) {
+            entry.lock.unlock();
+            return null;
+        }
+        return entry;
     }
 
     /**
@@ -141,6 +771,91 @@ public abstract class AbstractJobScheduler implements JobScheduler {
      */
     abstract protected ScheduleManager createManager(JobDefinition definition, SchedulePolicy policy) throws ScheduleExecutionException;
 
+    /**
+     * 컨테이너의 키별 항목으로, 키의 {@link ScheduleState}와 현재 {@link ScheduleManager}를 담습니다.
+     * <p>상태 변경은 {@code lock}을 보유한 스레드만 수행하며, 읽기는 잠금 없이 가능합니다.</p>
+     */
+    protected static final class ScheduleEntry {
+        private final ReentrantLock lock = new ReentrantLock();
+        @Getter
+        private volatile ScheduleState state = ScheduleState.PENDING;
+        @Getter
+        private volatile ScheduleManager manager;
+
+        private ScheduleEntry() {
+        }
+
+        /**
+         * 이미 엔진에 등록된 매니저를 담은 {@link ScheduleState#ACTIVE} 항목을 생성합니다.
+         */
+        static ScheduleEntry active(ScheduleManager manager) {
+            ScheduleEntry entry = new ScheduleEntry();
+            entry.activate(manager);
+            return entry;
+        }
+
+        private void activate(ScheduleManager manager) {
+            this.manager = manager;
+            this.state = ScheduleState.ACTIVE;
+        }
+
+        private void remove(Map<JobDefinitionKey, ScheduleEntry> container, JobDefinitionKey key) {
+            container.remove(key, this);
+            this.state = ScheduleState.REMOVED;
+        }
+
+        /**
+         * 잠금 없이 현재 상태를 읽습니다. 읽는 도중 상태나 매니저가 바뀌면 다시 읽어 키 단위로 일관된 값을 반환합니다.
+         * @return 조회 시점의 상태, 제거되었거나 아직 매니저가 없으면 null
+         */
+        private ScheduledJob snapshot(JobDefinitionKey key) {
+            while (true) {
+                ScheduleState state = this.state;
+                ScheduleManager manager = this.manager;
+                if (state == ScheduleState.REMOVED || manager == null) {
+                    return null;
+                }
+                long nextFireTime = manager.getNextFireTime();
+                if (this.state == state && this.manager == manager) {
+                    return ScheduledJob.of(key, manager.getPolicy(), state, nextFireTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * 일괄 변경 중인 키 하나의 진행 상태입니다. 항목의 잠금을 보유한 동안만 사용합니다.
+     */
+    private static final class Change {
+        private final JobDefinitionKey key;
+        private final ScheduleEntry entry;
+        private final ScheduleManager oldManager;
+        private final SchedulePolicy newPolicy;
+        private final ScheduleEvents.OperationEvent event;
+        private ScheduleManager newManager;
+        /** 신규 manager 생성 또는 등록 실패 원인 */
+        private Exception error;
+
+        private Change(JobDefinitionKey key, ScheduleEntry entry, SchedulePolicy newPolicy, ScheduleEvents.OperationEvent event) {
+            this.key = key;
+            this.entry = entry;
+            this.oldManager = entry.manager;
+            this.newPolicy = newPolicy;
+            this.event = event;
+        }
+
+        private void fail(Exception error, Map<JobDefinitionKey, Exception> failures) {
+            event.end(key, newPolicy, false);
+            failures.put(key, error);
+        }
+    }
+
+    /**
+     * 실행 예정 시각 색인의 항목입니다. 정렬 기준이 바뀌지 않도록 불변이며, 시각이 바뀌면 항목을 교체합니다.
+     */
+    private record FireTime(long at, long sequence, ScheduleManager manager) {
+    }
+
     /**
      * 개별 작업의 실행 상태를 관리하고 스케줄링 엔진(Spring, Quartz 등)과 상호작용하는 추상 클래스입니다.
      * <p>이 클래스는 <b>상태 전이의 원자성</b>을 보장하며, 중복 실행이나 중복 취소를 방지합니다.</p>
@@ -148,10 +863,18 @@ public abstract class AbstractJobScheduler implements JobScheduler {
     @Getter
     @RequiredArgsConstructor
     protected abstract static class ScheduleManager {
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+
         /** 현재 작업이 스케줄러에 의해 실행 중인지 여부를 나타내는 상태 변수 */
         private final AtomicBoolean scheduled = new AtomicBoolean(false);
         protected final JobDefinition jobDefinition;
         protected final SchedulePolicy policy;
+        /** 같은 시각에 예정된 매니저를 색인에서 구분하는 값 */
+        @Getter(AccessLevel.NONE)
+        private final long sequence = SEQUENCE.incrementAndGet();
+        /** 실행 예정 시각 색인에 등록된 항목 ({@link #updateNextFireTime}에서만 변경) */
+        @Getter(AccessLevel.NONE)
+        private volatile FireTime fireTime;
 
         public final void schedule() throws ScheduleExecutionException {
             if (scheduled.compareAndSet(false, true)) {
@@ -175,6 +898,22 @@ public abstract class AbstractJobScheduler implements JobScheduler {
             }
         }
 
+        /**
+         * @return 다음 실행 예정 시각 (epoch 밀리초), 정해지지 않았으면 -1
+         */
+        public long getNextFireTime() {
+            FireTime current = fireTime;
+            return current != null ? current.at() : -1L;
+        }
+
+        /**
+         * 작업이 {@link JobScheduler#unschedule 제거}된 뒤 호출되어 진행 중인 실행을 중단합니다.
+         * 재스케줄에서는 호출되지 않으므로 실행 중인 작업은 새 정책으로 바뀐 뒤에도 끝까지 실행됩니다.
+         * 중단할 수 있는 실행이 없는 엔진은 재정의하지 않습니다.
+         */
+        protected void abortRunning() {
+        }
+
         abstract protected void doSchedule();
         abstract protected void doCancel();
     }
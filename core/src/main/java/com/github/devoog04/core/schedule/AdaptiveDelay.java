@@ -0,0 +1,71 @@
+package com.github.devoog04.core.schedule;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 실행 결과에 따라 다음 실행까지의 대기 시간을 조정하는 방식을 정의합니다.
+ * <p>대기 시간은 {@code minDelay}에서 시작하여 실행이 {@link FireResult#PRODUCTIVE}이면 {@code decreaseStep}만큼 줄고,
+ * {@link FireResult#EMPTY}나 {@link FireResult#ERROR}이면 {@code backoffMultiplier}배로 늘어납니다.
+ * 결과를 알리지 않은 실행은 대기 시간을 바꾸지 않습니다. 대기 시간은 항상 {@code [minDelay, maxDelay]} 안에 있으므로,
+ * 계속 결과가 있는 작업은 최소 간격으로, 오래 비어 있는 작업은 최대 간격으로 실행됩니다.</p>
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AdaptiveDelay {
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    /** 결과가 있을 때 줄이는 폭 */
+    private final Duration decreaseStep;
+    /** 결과가 없거나 실패했을 때 늘리는 배수 */
+    private final double backoffMultiplier;
+
+    /**
+     * 결과가 있으면 {@code minDelay}만큼 줄이고, 없으면 두 배로 늘리는 방식을 생성합니다.
+     */
+    public static AdaptiveDelay of(Duration minDelay, Duration maxDelay) {
+        return of(minDelay, maxDelay, minDelay, 2.0);
+    }
+
+    /**
+     * @param minDelay          최소 대기 시간이자 첫 대기 시간
+     * @param maxDelay          최대 대기 시간
+     * @param decreaseStep      결과가 있을 때 줄이는 폭
+     * @param backoffMultiplier 결과가 없거나 실패했을 때 늘리는 배수 (1 초과)
+     */
+    public static AdaptiveDelay of(Duration minDelay, Duration maxDelay, Duration decreaseStep, double backoffMultiplier) {
+        if (minDelay == null || minDelay.isNegative() || minDelay.isZero()) {
+            throw new IllegalArgumentException("minDelay must be positive.");
+        }
+        if (maxDelay == null || maxDelay.compareTo(minDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay must not be less than minDelay.");
+        }
+        if (decreaseStep == null || decreaseStep.isNegative() || decreaseStep.isZero()) {
+            throw new IllegalArgumentException("decreaseStep must be positive.");
+        }
+        if (!(backoffMultiplier > 1.0) || Double.isInfinite(backoffMultiplier)) {
+            throw new IllegalArgumentException("backoffMultiplier must be greater than 1.");
+        }
+        return new AdaptiveDelay(minDelay, maxDelay, decreaseStep, backoffMultiplier);
+    }
+
+    /**
+     * 이번 실행 결과로 다음 대기 시간을 계산합니다.
+     * @param currentNanos 이번 실행 전의 대기 시간 (나노초)
+     * @param result       실행 결과, null이면 그대로 유지
+     */
+    long nextDelayNanos(long currentNanos, FireResult result) {
+        if (result == null) {
+            return currentNanos;
+        }
+        long next = result == FireResult.PRODUCTIVE
+                ? currentNanos - decreaseStep.toNanos()
+                : (long) Math.min(currentNanos * backoffMultiplier, (double) maxDelay.toNanos());
+        return Math.max(minDelay.toNanos(), Math.min(maxDelay.toNanos(), next));
+    }
+}
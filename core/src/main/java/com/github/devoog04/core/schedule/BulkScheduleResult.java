@@ -0,0 +1,32 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 스케줄 작업의 키별 처리 결과입니다.
+ * <p>일부 키가 실패해도 나머지 키의 처리는 계속되며, 실패한 키는 원인 예외와 함께 {@link #getFailures()}에 담깁니다.</p>
+ */
+@Getter
+public class BulkScheduleResult {
+    /** 처리할 키가 없는 결과 */
+    static final BulkScheduleResult EMPTY = new BulkScheduleResult(List.of(), Map.of());
+
+    /** 정상 처리된 키 (요청 순서) */
+    private final List<JobDefinitionKey> succeeded;
+    /** 실패한 키와 원인 예외 (요청 순서) */
+    private final Map<JobDefinitionKey, Exception> failures;
+
+    public BulkScheduleResult(List<JobDefinitionKey> succeeded, Map<JobDefinitionKey, Exception> failures) {
+        this.succeeded = Collections.unmodifiableList(succeeded);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    public boolean isAllSucceeded() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.devoog04.core.schedule;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시에 실행 중인 작업의 비용 합을 상한 이하로 제한합니다.
+ * <p>상한을 넘는 실행은 스레드를 막지 않고 대기열에 들어가, 앞선 실행이 비용을 반납할 때 반납한 스레드에서 순서대로 시작됩니다.
+ * 대기열이 비어 있지 않으면 새 실행도 뒤에 줄을 서므로 비용이 큰 작업이 작은 작업에 계속 밀리지 않습니다.
+ * 상한보다 큰 비용은 상한으로 취급하여 단독으로는 실행될 수 있게 합니다.</p>
+ */
+final class CostLimiter {
+    private final long capacity;
+    private final AtomicLong used = new AtomicLong();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    /** 대기열을 비우는 스레드가 하나만 있도록 하는 작업 카운터 */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    CostLimiter(long capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * 비용을 확보하면 {@code onAcquired}를 호출합니다. 바로 확보하면 호출한 스레드에서, 아니면 반납하는 스레드에서 호출됩니다.
+     */
+    void acquire(int cost, Runnable onAcquired) {
+        long weight = weight(cost);
+        if (waiters.isEmpty() && tryReserve(weight)) {
+            onAcquired.run();
+            return;
+        }
+        waiters.add(new Waiter(weight, onAcquired));
+        drain();
+    }
+
+    void release(int cost) {
+        used.addAndGet(-weight(cost));
+        drain();
+    }
+
+    long getUsed() {
+        return used.get();
+    }
+
+    int getWaitingCount() {
+        return waiters.size();
+    }
+
+    private long weight(int cost) {
+        return Math.min(cost, capacity);
+    }
+
+    private boolean tryReserve(long weight) {
+        long current;
+        do {
+            current = used.get();
+            if (current + weight > capacity) {
+                return false;
+            }
+        } while (!used.compareAndSet(current, current + weight));
+        return true;
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Waiter head;
+            while ((head = waiters.peek()) != null && tryReserve(head.weight)) {
+                waiters.poll();
+                head.onAcquired.run();
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private record Waiter(long weight, Runnable onAcquired) {
+    }
+}
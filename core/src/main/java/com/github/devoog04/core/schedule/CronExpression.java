@@ -0,0 +1,303 @@
+package com.github.devoog04.core.schedule;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Locale;
+
+/**
+ * 6개 필드(초 분 시 일 월 요일)로 구성된 Cron 표현식을 컴파일한 결과입니다.
+ * <p>각 필드는 비트 마스크로 저장되며 다음 문법을 지원합니다:
+ * <ul>
+ * <li>{@code *}, {@code ?} (일/요일 필드): 전체 범위</li>
+ * <li>{@code a}, {@code a-b}, {@code a,b}, {@code *}{@code /n}, {@code a/n}, {@code a-b/n}</li>
+ * <li>월({@code JAN}~{@code DEC})과 요일({@code SUN}~{@code SAT}) 이름, 요일 값 {@code 0}과 {@code 7}은 일요일</li>
+ * </ul>
+ * 일과 요일이 모두 지정된 경우 두 조건을 모두 만족하는 날짜에만 실행됩니다.</p>
+ * <p>{@link #nextFireTime(long)}은 epoch 밀리초 위에서 직접 계산하며 객체를 생성하지 않습니다.
+ * 시간대 오프셋은 다음 전환 시점(DST 등)까지 캐시되므로, 오프셋 조회도 전환 시점에만 새로 계산됩니다.
+ * DST로 인해 존재하지 않는 현지 시각은 건너뛰며, 중복되는 현지 시각은 처음 한 번만 실행됩니다.</p>
+ */
+public final class CronExpression {
+    private static final String[] MONTH_NAMES =
+            {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    private static final long SECONDS_PER_DAY = 86_400L;
+    /** 다음 실행 시점 탐색 범위 (윤년 2월 29일 + 요일 조합까지 포함) */
+    private static final long MAX_SEARCH_SECONDS = 28L * 366 * SECONDS_PER_DAY;
+
+    private final String expression;
+    private final ZoneId zoneId;
+    private final ZoneRules rules;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+
+    /** 최근 조회한 오프셋과 그 유효 구간 (불변 객체, 교체 경합은 무해) */
+    private volatile OffsetWindow offsetWindow;
+
+    private CronExpression(String expression, ZoneId zoneId, long seconds, long minutes, long hours,
+                           long daysOfMonth, long months, long daysOfWeek) {
+        this.expression = expression;
+        this.zoneId = zoneId;
+        this.rules = zoneId.getRules();
+        this.seconds = seconds;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.daysOfMonth = daysOfMonth;
+        this.months = months;
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    /**
+     * Cron 표현식을 컴파일합니다.
+     * @param expression Cron 표현식
+     * @param zoneId     실행 시각 계산 기준 시간대
+     * @throws IllegalArgumentException 표현식 문법이 올바르지 않은 경우
+     */
+    public static CronExpression parse(String expression, ZoneId zoneId) {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new IllegalArgumentException("An expression is required.");
+        }
+        if (zoneId == null) {
+            throw new IllegalArgumentException("zoneId is required.");
+        }
+        String[] fields = expression.trim().split("\\s+");
+        if (fields.length != 6) {
+            throw new IllegalArgumentException(
+                    String.format("Cron expression must consist of 6 fields (found %d in \"%s\").", fields.length, expression));
+        }
+        long daysOfWeek = parseField(fields[5], 0, 7, DAY_NAMES, true);
+        if ((daysOfWeek & (1L << 7)) != 0) {
+            // 7은 일요일(0)과 동일
+            daysOfWeek = (daysOfWeek | 1L) & ~(1L << 7);
+        }
+        return new CronExpression(expression, zoneId,
+                parseField(fields[0], 0, 59, null, false),
+                parseField(fields[1], 0, 59, null, false),
+                parseField(fields[2], 0, 23, null, false),
+                parseField(fields[3], 1, 31, null, true),
+                parseField(fields[4], 1, 12, MONTH_NAMES, false),
+                daysOfWeek);
+    }
+
+    /**
+     * 지정한 시각 이후(해당 시각 제외)의 첫 실행 시각을 계산합니다.
+     * @param epochMillis 기준 시각 (epoch 밀리초)
+     * @return 다음 실행 시각 (epoch 밀리초), 탐색 범위 내에 없으면 -1
+     */
+    public long nextFireTime(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L) + 1;
+        long limit = epochSecond + MAX_SEARCH_SECONDS;
+        while (epochSecond < limit) {
+            int offset = offsetSecondsAt(epochSecond);
+            long local = epochSecond + offset;
+            long epochDay = Math.floorDiv(local, SECONDS_PER_DAY);
+            int secondOfDay = (int) Math.floorMod(local, SECONDS_PER_DAY);
+            long date = civilFromDays(epochDay);
+            int year = (int) (date >> 9);
+            int month = (int) ((date >> 5) & 0xF);
+            int day = (int) (date & 0x1F);
+
+            if (!matches(months, month)) {
+                int nextMonth = nextSetBit(months, month + 1);
+                long target = nextMonth <= 12
+                        ? daysFromCivil(year, nextMonth, 1)
+                        : daysFromCivil(year + 1, nextSetBit(months, 1), 1);
+                epochSecond = advance(epochSecond, target * SECONDS_PER_DAY, offset);
+                continue;
+            }
+            int dayOfWeek = (int) Math.floorMod(epochDay + 4, 7L); // 1970-01-01은 목요일
+            if (!matches(daysOfMonth, day) || !matches(daysOfWeek, dayOfWeek)) {
+                epochSecond = advance(epochSecond, local + SECONDS_PER_DAY - secondOfDay, offset);
+                continue;
+            }
+            int hour = secondOfDay / 3600;
+            if (!matches(hours, hour)) {
+                int nextHour = nextSetBit(hours, hour + 1);
+                epochSecond = advance(epochSecond,
+                        local + (nextHour <= 23 ? nextHour * 3600L - secondOfDay : SECONDS_PER_DAY - secondOfDay), offset);
+                continue;
+            }
+            int secondOfHour = secondOfDay % 3600;
+            int minute = secondOfHour / 60;
+            if (!matches(minutes, minute)) {
+                int nextMinute = nextSetBit(minutes, minute + 1);
+                epochSecond = advance(epochSecond,
+                        local + (nextMinute <= 59 ? nextMinute * 60L - secondOfHour : 3600L - secondOfHour), offset);
+                continue;
+            }
+            int second = secondOfHour % 60;
+            if (!matches(seconds, second)) {
+                int nextSecond = nextSetBit(seconds, second + 1);
+                epochSecond = advance(epochSecond, local + (nextSecond <= 59 ? nextSecond - second : 60L - second), offset);
+                continue;
+            }
+            return epochSecond * 1000L;
+        }
+        return -1L;
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * 현지 시각 {@code targetLocal}에 해당하는 epoch 초를 계산합니다.
+     * 그 사이에 오프셋이 바뀐 경우 전환 이후의 오프셋으로 보정하며, 항상 현재 시각보다 뒤의 값을 반환합니다.
+     */
+    private long advance(long epochSecond, long targetLocal, int offset) {
+        long candidate = targetLocal - offset;
+        int adjusted = offsetSecondsAt(candidate);
+        if (adjusted != offset) {
+            long retry = targetLocal - adjusted;
+            // 재계산한 시각의 오프셋이 일치하지 않으면 존재하지 않는 현지 시각(DST gap)이므로 전환 이후 시각 유지
+            if (offsetSecondsAt(retry) == adjusted) {
+                candidate = retry;
+            }
+        }
+        return Math.max(candidate, epochSecond + 1);
+    }
+
+    private int offsetSecondsAt(long epochSecond) {
+        OffsetWindow window = offsetWindow;
+        if (window != null && epochSecond >= window.from && epochSecond < window.until) {
+            return window.offsetSeconds;
+        }
+        // 캐시 미스: 시간대 전환 시점에만 발생
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        int offset = rules.getOffset(instant).getTotalSeconds();
+        long from = Long.MIN_VALUE;
+        long until = Long.MAX_VALUE;
+        if (!rules.isFixedOffset()) {
+            ZoneOffsetTransition previous = rules.previousTransition(instant);
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            from = previous != null && previous.toEpochSecond() <= epochSecond ? previous.toEpochSecond() : epochSecond;
+            until = next != null ? next.toEpochSecond() : Long.MAX_VALUE;
+        }
+        offsetWindow = new OffsetWindow(from, until, offset);
+        return offset;
+    }
+
+    private static boolean matches(long mask, int value) {
+        return (mask & (1L << value)) != 0;
+    }
+
+    /**
+     * {@code from} 이상에서 처음으로 설정된 비트 위치를 반환합니다. 없으면 64를 반환합니다.
+     */
+    private static int nextSetBit(long mask, int from) {
+        return from >= 64 ? 64 : Long.numberOfTrailingZeros(mask & (-1L << from));
+    }
+
+    /**
+     * 그레고리력 날짜를 1970-01-01 기준 일수로 변환합니다.
+     */
+    static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * 1970-01-01 기준 일수를 {@code year << 9 | month << 5 | day} 형태로 변환합니다.
+     */
+    static long civilFromDays(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    private static long parseField(String field, int min, int max, String[] names, boolean allowQuestion) {
+        long mask = 0;
+        for (String part : field.split(",")) {
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Empty element in cron field \"%s\".", field));
+            }
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = parseNumber(part.substring(slash + 1), field);
+                if (step <= 0) {
+                    throw new IllegalArgumentException(String.format("Step must be positive in cron field \"%s\".", field));
+                }
+                range = part.substring(0, slash);
+            }
+            int start;
+            int end;
+            if (range.equals("*") || (allowQuestion && range.equals("?"))) {
+                start = min;
+                end = max;
+            } else {
+                int dash = range.indexOf('-');
+                if (dash > 0) {
+                    start = parseValue(range.substring(0, dash), names, min, field);
+                    end = parseValue(range.substring(dash + 1), names, min, field);
+                } else {
+                    start = parseValue(range, names, min, field);
+                    end = slash >= 0 ? max : start;
+                }
+            }
+            if (start < min || end > max || start > end) {
+                throw new IllegalArgumentException(String.format(
+                        "Value out of range [%d-%d] in cron field \"%s\".", min, max, field));
+            }
+            for (int value = start; value <= end; value += step) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+
+    private static int parseValue(String value, String[] names, int offset, String field) {
+        if (names != null) {
+            String upper = value.toUpperCase(Locale.ROOT);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(upper)) {
+                    return i + offset;
+                }
+            }
+        }
+        return parseNumber(value, field);
+    }
+
+    private static int parseNumber(String value, String field) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid value \"%s\" in cron field \"%s\".", value, field), e);
+        }
+    }
+
+    private static final class OffsetWindow {
+        private final long from;
+        private final long until;
+        private final int offsetSeconds;
+
+        private OffsetWindow(long from, long until, int offsetSeconds) {
+            this.from = from;
+            this.until = until;
+            this.offsetSeconds = offsetSeconds;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.devoog04.core.schedule;
+
+/**
+ * 실행 중인 작업이 {@link FireResult}를 스케줄러에 알리는 통로입니다.
+ * <p>스케줄러는 {@link SchedulePolicy#adaptiveDelay(AdaptiveDelay) 적응형 정책}의 실행을 {@link #capture(Runnable)}로 감싸므로,
+ * 작업 본문은 {@link Runnable} 시그니처를 바꾸지 않고 {@link #report(FireResult)}로 결과를 알릴 수 있습니다.</p>
+ */
+public final class FireFeedback {
+    private static final ThreadLocal<FireResult[]> CURRENT = new ThreadLocal<>();
+
+    private FireFeedback() {
+    }
+
+    /**
+     * 현재 실행의 결과를 알립니다. 여러 번 호출하면 마지막 값이 사용되며,
+     * 적응형 정책의 실행이 아니면 무시됩니다.
+     */
+    public static void report(FireResult result) {
+        if (result == null) {
+            throw new IllegalArgumentException("result is required.");
+        }
+        FireResult[] holder = CURRENT.get();
+        if (holder != null) {
+            holder[0] = result;
+        }
+    }
+
+    /**
+     * 작업을 실행하고 실행 중에 알린 결과를 반환합니다.
+     * @return 알린 결과, 알리지 않았으면 null
+     */
+    static FireResult capture(Runnable task) {
+        FireResult[] previous = CURRENT.get();
+        FireResult[] holder = new FireResult[1];
+        CURRENT.set(holder);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        return holder[0];
+    }
+}
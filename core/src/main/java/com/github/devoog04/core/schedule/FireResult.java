@@ -0,0 +1,13 @@
+package com.github.devoog04.core.schedule;
+
+/**
+ * 한 번의 실행 결과입니다. {@link AdaptiveDelay} 정책은 이 결과로 다음 실행까지의 대기 시간을 조정합니다.
+ */
+public enum FireResult {
+    /** 새로 처리한 것이 있음 */
+    PRODUCTIVE,
+    /** 처리할 것이 없었음 */
+    EMPTY,
+    /** 실패함, 작업 본문이 예외를 던지면 자동으로 이 결과가 됨 */
+    ERROR
+}
@@ -0,0 +1,32 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러에 등록할 작업 정의와 스케줄 정책의 쌍입니다.
+ * <p>일괄 등록({@link JobScheduler#scheduleAll}) 등 여러 작업을 한 번에 다루는 API의 입력으로 사용됩니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JobRegistration {
+    private final JobDefinition definition;
+    private final SchedulePolicy policy;
+
+    public static JobRegistration of(JobDefinition definition, SchedulePolicy policy) {
+        if (definition == null) {
+            throw new IllegalArgumentException("definition is required.");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("policy is required.");
+        }
+        return new JobRegistration(definition, policy);
+    }
+
+    public JobDefinitionKey getKey() {
+        return definition.getKey();
+    }
+}
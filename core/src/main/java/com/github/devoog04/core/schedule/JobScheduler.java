@@ -4,6 +4,11 @@ import com.github.devoog04.core.definition.JobDefinition;
 import com.github.devoog04.core.definition.JobDefinitionKey;
 import com.github.devoog04.core.schedule.exception.*;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 작업(Job)의 실행 주기를 관리하고 스케줄링을 담당하는 인터페이스입니다.
  * 모든 구현체는 멀티스레드 환경에서 스레드 안전성(Thread-safety)을 보장해야 하며,
@@ -54,4 +59,61 @@ public interface JobScheduler {
      */
     void unschedule(JobDefinitionKey key)
         throws ScheduleExecutionException;
-}
\ No newline at end of file
+
+    /**
+     * 여러 작업을 한 번에 스케줄러에 등록합니다.
+     * <p><b>일괄 처리 규정:</b>
+     * <ul>
+     * <li>각 키는 {@link #schedule}과 동일한 중복 및 원자성 규정을 따릅니다. 요청 내에서 같은 키가 반복되면 첫 번째 항목만 처리되고,
+     * 반복된 항목은 {@link DuplicateScheduleException}으로 실패에 담깁니다. 첫 번째 항목이 등록되었다면 그 키는 성공 목록에도 포함되며,
+     * 첫 번째 항목이 실패했다면 그 원인이 보고됩니다.</li>
+     * <li>일부 키의 실패는 나머지 키의 처리를 중단시키지 않으며, 실패한 키의 컨테이너 상태는 변경되지 않습니다.</li>
+     * </ul>
+     * @param registrations 등록할 작업 정의와 정책 목록
+     * @return 키별 처리 결과
+     */
+    BulkScheduleResult scheduleAll(Collection<JobRegistration> registrations);
+
+    /**
+     * 여러 작업의 스케줄 정책을 한 번에 변경합니다.
+     * <p>각 키는 {@link #reschedule}과 동일한 복구(Rollback) 규정을 따르며, 일부 키의 실패는 나머지 키의 처리를 중단시키지 않습니다.</p>
+     * @param newPolicies 대상 작업의 키와 새로 적용할 정책
+     * @return 키별 처리 결과
+     */
+    BulkScheduleResult rescheduleAll(Map<JobDefinitionKey, SchedulePolicy> newPolicies);
+
+    /**
+     * 여러 작업을 한 번에 스케줄러에서 제거합니다.
+     * <p>각 키는 {@link #unschedule}과 동일한 규정을 따르며, 일부 키의 실패는 나머지 키의 처리를 중단시키지 않습니다.</p>
+     * @param keys 대상 작업의 키 목록
+     * @return 키별 처리 결과
+     */
+    BulkScheduleResult unscheduleAll(Collection<JobDefinitionKey> keys);
+
+    /**
+     * 등록된 작업의 현재 상태를 조회합니다.
+     * <p><b>조회 규정:</b>
+     * <ul>
+     * <li>조회는 변경 요청의 잠금을 잡지 않으며, 변경 중인 키를 기다리지 않고 그 시점의 상태를 반환합니다.</li>
+     * <li>각 항목은 키 단위로 일관된 값(정책, 상태, 다음 실행 시각)이어야 하며, 키 사이의 시점은 다를 수 있습니다.</li>
+     * </ul>
+     * @return 등록된 작업 목록 (순서 없음)
+     */
+    List<ScheduledJob> getScheduledJobs();
+
+    /**
+     * 지정한 작업의 현재 상태를 조회합니다. {@link #getScheduledJobs()}와 동일한 조회 규정을 따릅니다.
+     * @param key 대상 작업의 고유 키
+     * @return 작업의 상태, 등록되지 않은 키이면 null
+     */
+    ScheduledJob getScheduledJob(JobDefinitionKey key);
+
+    /**
+     * 지금부터 지정한 시간 안에 실행될 예정인 작업을 실행 예정 시각 순으로 조회합니다.
+     * <p>{@link #getScheduledJobs()}와 동일한 조회 규정을 따르며, 구현체는 전체 작업을 훑지 않고
+     * 결과 수에 비례하는 비용으로 조회해야 합니다. 이미 예정 시각이 지나 실행을 기다리는 작업도 포함됩니다.</p>
+     * @param window 조회할 기간
+     * @return 실행 예정 시각 오름차순의 작업 목록
+     */
+    List<ScheduledJob> getJobsDueWithin(Duration window);
+}
@@ -0,0 +1,164 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.lease.Lease;
+import com.github.devoog04.core.lease.LeaseStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * {@link LeaseStore} 호출을 전용 스레드에서 묶어 처리합니다.
+ * <p>타이머 스레드가 한 틱에 만료시킨 실행들의 리스 요청은 큐에 쌓였다가, 리스 스레드가 비어 있는 즉시
+ * {@link LeaseStore#tryAcquireAll(Map)} 한 번으로 처리됩니다. 처리 중에 들어온 요청은 다음 묶음으로 넘어가므로
+ * 작업 수가 늘어도 저장소 왕복 수는 틱 수에 비례합니다.</p>
+ * <p>저장소 오류가 나면 중복 실행을 막기 위해 해당 묶음의 실행을 모두 거부합니다.</p>
+ */
+@Slf4j
+final class LeaseBatcher implements AutoCloseable {
+    private final LeaseStore store;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "collector-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    LeaseBatcher(LeaseStore store) {
+        this.store = store;
+    }
+
+    /**
+     * 리스 획득을 요청합니다. 결과는 리스 스레드에서 콜백으로 전달됩니다.
+     * @param onAcquired 획득한 경우
+     * @param onDenied   다른 노드가 가졌거나 저장소 오류인 경우
+     */
+    void acquire(JobDefinitionKey key, Duration ttl, Consumer<Lease> onAcquired, Runnable onDenied) {
+        pending.add(new Request(key, ttl, onAcquired, onDenied));
+        if (flushing.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushing.set(false);
+                Request request;
+                while ((request = pending.poll()) != null) {
+                    request.onDenied.run();
+                }
+            }
+        }
+    }
+
+    /**
+     * 리스를 갱신하고, 성공하면 {@code onRenewed}를 호출합니다.
+     * @param done 실행이 끝났는지 여부, 갱신 직전에 다시 확인하여 반납된 리스를 늘리지 않음
+     */
+    void renew(Lease lease, AtomicBoolean done, Runnable onRenewed) {
+        execute(() -> {
+            if (done.get()) {
+                return;
+            }
+            if (store.renew(lease)) {
+                onRenewed.run();
+            } else {
+                log.warn("Lease was taken by another node during execution. key = {}, token = {}",
+                        lease.getKey(), lease.getToken());
+            }
+        }, lease);
+    }
+
+    /**
+     * 리스를 반납합니다. 종료된 뒤에는 호출한 스레드에서 바로 반납하여 다른 노드가 유지 시간 만료를 기다리지 않게 합니다.
+     */
+    void release(Lease lease) {
+        try {
+            executor.execute(() -> releaseNow(lease));
+        } catch (RejectedExecutionException e) {
+            releaseNow(lease);
+        }
+    }
+
+    private void releaseNow(Lease lease) {
+        try {
+            store.release(lease);
+        } catch (RuntimeException e) {
+            log.error("Lease store operation failed. key = {}", lease.getKey(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void flush() {
+        while (true) {
+            Map<JobDefinitionKey, Duration> requests = new HashMap<>();
+            List<Request> batch = new ArrayList<>();
+            List<Request> duplicates = new ArrayList<>();
+            Request request;
+            while ((request = pending.poll()) != null) {
+                if (requests.putIfAbsent(request.key, request.ttl) == null) {
+                    batch.add(request);
+                } else {
+                    // 같은 키는 한 번에 하나의 실행만 리스를 가질 수 있음
+                    duplicates.add(request);
+                }
+            }
+            Map<JobDefinitionKey, Lease> acquired;
+            try {
+                acquired = store.tryAcquireAll(requests);
+            } catch (RuntimeException e) {
+                log.error("Failed to acquire leases; skipping {} fires.", batch.size(), e);
+                acquired = Map.of();
+            }
+            for (Request r : batch) {
+                Lease lease = acquired.get(r.key);
+                complete(lease != null ? () -> r.onAcquired.accept(lease) : r.onDenied);
+            }
+            duplicates.forEach(r -> complete(r.onDenied));
+
+            flushing.set(false);
+            // 플래그를 내린 사이에 들어온 요청은 직접 이어서 처리
+            if (pending.isEmpty() || !flushing.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private static void complete(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            log.error("Lease callback failed.", e);
+        }
+    }
+
+    private void execute(Runnable task, Lease lease) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Lease store operation failed. key = {}", lease.getKey(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Lease operation was skipped because the scheduler is closed. key = {}", lease.getKey());
+        }
+    }
+
+    private record Request(JobDefinitionKey key, Duration ttl, Consumer<Lease> onAcquired, Runnable onDenied) {
+    }
+}
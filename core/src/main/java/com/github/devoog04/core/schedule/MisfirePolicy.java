@@ -0,0 +1,94 @@
+package com.github.devoog04.core.schedule;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예정된 실행을 제때 하지 못했을 때(미스파이어)의 처리 방식을 정의합니다.
+ * <p>미스파이어는 다음 두 경우를 말합니다.
+ * <ul>
+ * <li><b>지연:</b> GC 일시 정지 등으로 실행이 늦어져, 그 사이 다음 예정 시각까지 이미 지난 경우</li>
+ * <li><b>실행 초과(overrun):</b> 이전 실행이 끝나기 전에 다음 예정 시각이 된 경우</li>
+ * </ul>
+ * 어떤 방식이든 같은 작업의 실행은 겹치지 않으며, 밀린 실행은 이전 실행이 끝난 직후 하나씩 이어서 수행됩니다.
+ * 밀린 실행의 수는 방식별 상한을 넘지 않으므로 실행기 큐에 무제한으로 쌓이지 않습니다.</p>
+ * <p>{@link ScheduleType#FIXED_RATE}와 {@link ScheduleType#CRON}에만 적용되며,
+ * 실행 종료 후 다음 실행을 예약하는 {@link ScheduleType#FIXED_DELAY}에서는 미스파이어가 발생하지 않습니다.</p>
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MisfirePolicy {
+    private static final MisfirePolicy FIRE_ONCE = new MisfirePolicy(Strategy.FIRE_ONCE, 0);
+    private static final MisfirePolicy SKIP = new MisfirePolicy(Strategy.SKIP, 0);
+
+    private final Strategy strategy;
+    /** 한 번에 보충할 수 있는 최대 실행 수 (CATCH_UP에서만 사용) */
+    private final int maxCatchUp;
+
+    /**
+     * 놓친 실행을 모두 하나로 합쳐 한 번만 실행합니다. (기본값)
+     */
+    public static MisfirePolicy fireOnce() {
+        return FIRE_ONCE;
+    }
+
+    /**
+     * 놓친 실행과 늦어진 현재 실행을 버리고 다음 예정 시각을 기다립니다.
+     */
+    public static MisfirePolicy skip() {
+        return SKIP;
+    }
+
+    /**
+     * 놓친 실행을 최대 {@code maxCatchUp}번까지 순차적으로 보충하고, 나머지는 버립니다.
+     * @param maxCatchUp 보충할 최대 실행 수
+     */
+    public static MisfirePolicy catchUp(int maxCatchUp) {
+        if (maxCatchUp <= 0) {
+            throw new IllegalArgumentException("maxCatchUp must be positive.");
+        }
+        return new MisfirePolicy(Strategy.CATCH_UP, maxCatchUp);
+    }
+
+    /**
+     * 놓친 실행 수를 셀 때의 상한입니다. 이보다 많이 놓쳐도 처리 결과는 같습니다.
+     */
+    int missedLimit() {
+        return strategy == Strategy.CATCH_UP ? maxCatchUp : 1;
+    }
+
+    /**
+     * 이번 만료 시점에 수행해야 할 실행 수를 계산합니다.
+     * @param missed 이번 실행 이후의 예정 시각 중 이미 지나간 수
+     */
+    int dueFires(int missed) {
+        return switch (strategy) {
+            case FIRE_ONCE -> 1;
+            case SKIP -> missed > 0 ? 0 : 1;
+            case CATCH_UP -> 1 + Math.min(missed, maxCatchUp);
+        };
+    }
+
+    /**
+     * 실행 중인 것과 대기 중인 것을 합친 미처리 실행 수의 상한입니다.
+     */
+    int maxOutstanding() {
+        return switch (strategy) {
+            case FIRE_ONCE -> 2;
+            case SKIP -> 1;
+            case CATCH_UP -> 1 + maxCatchUp;
+        };
+    }
+
+    public enum Strategy {
+        /** 놓친 실행을 하나로 합쳐 실행 */
+        FIRE_ONCE,
+        /** 놓친 실행을 버리고 다음 예정 시각까지 대기 */
+        SKIP,
+        /** 놓친 실행을 상한까지 보충 */
+        CATCH_UP
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link AbstractJobScheduler#reconcile}의 키별 처리 결과입니다.
+ * <p>변경이 필요했던 키만 처리 종류별로 담기며, 정책이 같아 건너뛴 키는 수만 집계됩니다.
+ * 일부 키가 실패해도 나머지 키의 처리는 계속되며, 실패한 키는 원인 예외와 함께 {@link #getFailures()}에 담깁니다.</p>
+ */
+@Getter
+public class ReconcileResult {
+    /** 새로 등록된 키 */
+    private final List<JobDefinitionKey> scheduled;
+    /** 정책이 변경된 키 */
+    private final List<JobDefinitionKey> rescheduled;
+    /** 원하는 상태에 없어 제거된 키 */
+    private final List<JobDefinitionKey> unscheduled;
+    /** 정책이 같아 변경하지 않은 키의 수 */
+    private final int unchanged;
+    /** 실패한 키와 원인 예외 */
+    private final Map<JobDefinitionKey, Exception> failures;
+
+    public ReconcileResult(List<JobDefinitionKey> scheduled, List<JobDefinitionKey> rescheduled,
+                           List<JobDefinitionKey> unscheduled, int unchanged, Map<JobDefinitionKey, Exception> failures) {
+        this.scheduled = Collections.unmodifiableList(scheduled);
+        this.rescheduled = Collections.unmodifiableList(rescheduled);
+        this.unscheduled = Collections.unmodifiableList(unscheduled);
+        this.unchanged = unchanged;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    public boolean isAllSucceeded() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * 엔진에 적용한 변경의 수입니다. 실패한 키는 포함하지 않습니다.
+     */
+    public int getChangeCount() {
+        return scheduled.size() + rescheduled.size() + unscheduled.size();
+    }
+}
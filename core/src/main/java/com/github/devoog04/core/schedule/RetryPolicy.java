@@ -0,0 +1,148 @@
+package com.github.devoog04.core.schedule;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 실행이 실패했을 때 다음 예정 시각을 기다리지 않고 다시 시도하는 방식을 정의합니다.
+ * <p>재시도는 스케줄러의 타이머에 등록되므로 대기하는 동안 실행 스레드를 차지하지 않습니다.
+ * 대기 시간은 {@code initialBackoff}에서 시작하여 시도마다 {@code multiplier}배로 늘어나고 {@code maxBackoff}를 넘지 않으며,
+ * {@code jitter}가 지정되면 그 비율만큼 무작위로 줄여 여러 작업의 재시도가 한 시각에 몰리지 않게 합니다.</p>
+ * <p>재시도를 기다리는 동안에도 같은 키의 실행은 끝나지 않은 것으로 보므로, 그 사이의 정규 실행은
+ * {@link MisfirePolicy}에 따라 대기하거나 버려집니다. 동시 실행 비용은 대기하는 동안 반납됩니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RetryPolicy {
+    private static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, 1.0, null, 0.0, error -> false);
+
+    /** 첫 실행을 포함한 최대 시도 횟수 */
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    /** 시도마다 대기 시간을 늘리는 배수 */
+    private final double multiplier;
+    /** 대기 시간의 상한 (미지정 시 null) */
+    private final Duration maxBackoff;
+    /** 대기 시간을 무작위로 줄이는 최대 비율, {@code [0, 1]} */
+    private final double jitter;
+    @Getter(AccessLevel.NONE)
+    private final Predicate<Throwable> retryable;
+
+    /**
+     * 재시도하지 않습니다. (기본값)
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * 모든 예외에 대해 대기 시간을 두 배씩 늘리며 재시도하는 방식을 생성합니다.
+     * @param maxAttempts    첫 실행을 포함한 최대 시도 횟수
+     * @param initialBackoff 첫 재시도까지의 대기 시간
+     */
+    public static RetryPolicy exponential(int maxAttempts, Duration initialBackoff) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive.");
+        }
+        if (initialBackoff == null || initialBackoff.isNegative() || initialBackoff.isZero()) {
+            throw new IllegalArgumentException("initialBackoff must be positive.");
+        }
+        return new RetryPolicy(maxAttempts, initialBackoff, 2.0, null, 0.0, error -> true);
+    }
+
+    /**
+     * 대기 시간을 늘리는 배수를 바꾼 방식을 반환합니다. 1이면 같은 간격으로 재시도합니다.
+     */
+    public RetryPolicy withMultiplier(double multiplier) {
+        if (!(multiplier >= 1.0) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("multiplier must not be less than 1.");
+        }
+        return new RetryPolicy(maxAttempts, initialBackoff, multiplier, maxBackoff, jitter, retryable);
+    }
+
+    /**
+     * 대기 시간의 상한을 지정한 방식을 반환합니다.
+     */
+    public RetryPolicy withMaxBackoff(Duration maxBackoff) {
+        if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("maxBackoff must not be less than initialBackoff.");
+        }
+        return new RetryPolicy(maxAttempts, initialBackoff, multiplier, maxBackoff, jitter, retryable);
+    }
+
+    /**
+     * 대기 시간을 최대 {@code ratio} 비율만큼 무작위로 줄이는 방식을 반환합니다.
+     * @param ratio {@code [0, 1]} 구간의 비율, 1이면 {@code [0, 대기 시간)}에서 고름
+     */
+    public RetryPolicy withJitter(double ratio) {
+        if (!(ratio >= 0.0 && ratio <= 1.0)) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1.");
+        }
+        return new RetryPolicy(maxAttempts, initialBackoff, multiplier, maxBackoff, ratio, retryable);
+    }
+
+    /**
+     * 지정한 예외 타입(하위 타입 포함)으로 실패한 경우에만 재시도하는 방식을 반환합니다.
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Throwable>... types) {
+        if (types == null || types.length == 0) {
+            throw new IllegalArgumentException("types are required.");
+        }
+        // 가변 인자 배열 자체를 넘기거나 보관하지 않고 원소만 복사하여 사용
+        Class<?>[] retryableTypes = new Class<?>[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == null) {
+                throw new IllegalArgumentException("types must not contain null.");
+            }
+            retryableTypes[i] = types[i];
+        }
+        return retryIf(error -> {
+            for (Class<?> type : retryableTypes) {
+                if (type.isInstance(error)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 조건을 만족하는 예외로 실패한 경우에만 재시도하는 방식을 반환합니다.
+     */
+    public RetryPolicy retryIf(Predicate<Throwable> retryable) {
+        if (retryable == null) {
+            throw new IllegalArgumentException("retryable is required.");
+        }
+        return new RetryPolicy(maxAttempts, initialBackoff, multiplier, maxBackoff, jitter, retryable);
+    }
+
+    /**
+     * @param attempt 방금 실패한 시도의 순번 (첫 실행은 1)
+     * @param error   실패 원인
+     * @return 시도 횟수가 남았고 재시도할 예외이면 true
+     */
+    public boolean shouldRetry(int attempt, Throwable error) {
+        return attempt < maxAttempts && retryable.test(error);
+    }
+
+    /**
+     * 다음 시도까지의 대기 시간을 계산합니다.
+     * @param attempt 방금 실패한 시도의 순번 (첫 실행은 1)
+     */
+    long backoffNanos(int attempt) {
+        double backoff = initialBackoff.toNanos() * Math.pow(multiplier, attempt - 1);
+        if (maxBackoff != null) {
+            backoff = Math.min(backoff, maxBackoff.toNanos());
+        }
+        if (jitter > 0) {
+            backoff -= backoff * jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return (long) Math.min(backoff, Long.MAX_VALUE);
+    }
+}
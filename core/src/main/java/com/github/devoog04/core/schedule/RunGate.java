@@ -0,0 +1,78 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 같은 키의 실행이 겹치지 않도록 키별 점유 상태를 관리합니다.
+ * <p>매니저가 아닌 스케줄러 단위로 공유되므로, 재스케줄로 정책이 바뀌어도 이전 정책의 실행이 끝나기 전에는
+ * 새 정책의 실행이 시작되지 않습니다. 상태는 비어 있음, 점유, 점유 중이며 대기자 있음 세 가지이고
+ * 모두 {@link ConcurrentMap}의 조건부 갱신으로만 바뀝니다. 대기자는 스레드를 점유하지 않으며 키당 하나만 보관됩니다.</p>
+ */
+final class RunGate {
+    private static final Object BUSY = new Object();
+
+    private final ConcurrentMap<JobDefinitionKey, Object> states = new ConcurrentHashMap<>();
+
+    /**
+     * 비어 있으면 점유합니다.
+     * @return 점유했으면 true
+     */
+    boolean tryEnter(JobDefinitionKey key) {
+        return states.putIfAbsent(key, BUSY) == null;
+    }
+
+    /**
+     * 점유가 풀리면 {@code waiter}가 점유한 상태로 {@link Waiter#entered()}를 호출합니다.
+     * 그 사이 비었다면 바로 호출하며, 이미 기다리는 대기자가 있으면 {@link Waiter#dropped()}를 호출하고 교체합니다.
+     */
+    void await(JobDefinitionKey key, Waiter waiter) {
+        while (true) {
+            Object current = states.putIfAbsent(key, BUSY);
+            if (current == null) {
+                waiter.entered();
+                return;
+            }
+            if (states.replace(key, current, waiter)) {
+                if (current != BUSY) {
+                    ((Waiter) current).dropped();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 점유를 해제합니다. 대기자가 있으면 점유를 넘기고 호출한 스레드에서 {@link Waiter#entered()}를 호출합니다.
+     */
+    void exit(JobDefinitionKey key) {
+        while (true) {
+            Object current = states.get(key);
+            if (current == null) {
+                return;
+            }
+            if (current == BUSY) {
+                if (states.remove(key, BUSY)) {
+                    return;
+                }
+            } else if (states.replace(key, current, BUSY)) {
+                ((Waiter) current).entered();
+                return;
+            }
+        }
+    }
+
+    interface Waiter {
+        /**
+         * 점유를 넘겨받았을 때 호출됩니다. 호출된 쪽이 {@link #exit(JobDefinitionKey)}할 책임을 집니다.
+         */
+        void entered();
+
+        /**
+         * 새 대기자에게 자리를 빼앗겼을 때 호출됩니다.
+         */
+        void dropped();
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * 스케줄러의 JFR(Java Flight Recorder) 이벤트입니다.
+ * <p>등록/재스케줄/복구/제거는 잠금 대기를 포함한 처리 시간을 갖는 이벤트이고, 만료와 실행 시작/종료는 시점 이벤트입니다.
+ * 이벤트 객체는 호출 지점에서 생성하고 {@link Event#shouldCommit()}으로 확인한 뒤에만 값을 채우므로,
+ * 기록 중이 아니면 JIT가 할당을 제거하여 실행 경로에 비용이 없고 키의 문자열 변환도 일어나지 않습니다.</p>
+ * <p>JDK Mission Control에서는 {@code Collector} 분류 아래에서 GC, 스레드 이벤트와 함께 볼 수 있습니다.</p>
+ */
+final class ScheduleEvents {
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+    static final String TIMEOUT = "timeout";
+    static final String ABANDONED = "abandoned";
+
+    private ScheduleEvents() {
+    }
+
+    /**
+     * 만료를 기록합니다.
+     * @param latenessNanos 예정 시각 대비 만료 지연
+     */
+    static void fire(JobDefinitionKey key, SchedulePolicy policy, long latenessNanos) {
+        FireEvent event = new FireEvent();
+        if (event.shouldCommit()) {
+            event.key = String.valueOf(key);
+            event.policyType = policy.getType().name();
+            event.lateness = Math.max(0, latenessNanos);
+            event.commit();
+        }
+    }
+
+    /**
+     * 작업 본문의 실행 시작을 기록합니다.
+     * @param queueDelayNanos 디스패치 후 실행 시작까지의 대기 시간
+     */
+    static void runStart(JobDefinitionKey key, SchedulePolicy policy, int attempt, long queueDelayNanos) {
+        RunStartEvent event = new RunStartEvent();
+        if (event.shouldCommit()) {
+            event.key = String.valueOf(key);
+            event.policyType = policy.getType().name();
+            event.attempt = attempt;
+            event.queueDelay = Math.max(0, queueDelayNanos);
+            event.commit();
+        }
+    }
+
+    /**
+     * 작업 본문의 실행 종료를 기록합니다. 비동기 작업은 단계를 완료한 스레드에서 기록됩니다.
+     * @param durationNanos 실행 시간
+     * @param outcome       {@link #SUCCESS}, {@link #FAILURE}, {@link #TIMEOUT}, {@link #ABANDONED} 중 하나
+     */
+    static void runEnd(JobDefinitionKey key, SchedulePolicy policy, int attempt, long durationNanos, String outcome) {
+        RunEndEvent event = new RunEndEvent();
+        if (event.shouldCommit()) {
+            event.key = String.valueOf(key);
+            event.policyType = policy.getType().name();
+            event.attempt = attempt;
+            event.executionTime = durationNanos;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    /**
+     * 처리 시간을 갖는 변경 요청 이벤트입니다. 요청 시작 시 생성하고 끝날 때 {@link #end(JobDefinitionKey, SchedulePolicy, boolean)}를 호출합니다.
+     */
+    @Category({"Collector", "Schedule"})
+    abstract static class OperationEvent extends Event {
+        @Label("Job Key")
+        String key;
+        @Label("Policy Type")
+        String policyType;
+        @Label("Succeeded")
+        boolean succeeded;
+
+        OperationEvent() {
+            begin();
+        }
+
+        /**
+         * 요청을 끝내고 기록합니다.
+         * @param policy 요청 대상 정책, 알 수 없으면 null
+         */
+        final void end(JobDefinitionKey key, SchedulePolicy policy, boolean succeeded) {
+            if (shouldCommit()) {
+                this.key = String.valueOf(key);
+                this.policyType = policy != null ? policy.getType().name() : null;
+                this.succeeded = succeeded;
+                commit();
+            }
+        }
+    }
+
+    @Name("com.github.devoog04.collector.Schedule")
+    @Label("Schedule")
+    @Description("A job registered with the scheduler")
+    static final class ScheduleEvent extends OperationEvent {
+    }
+
+    @Name("com.github.devoog04.collector.Reschedule")
+    @Label("Reschedule")
+    @Description("A policy change of a scheduled job")
+    static final class RescheduleEvent extends OperationEvent {
+    }
+
+    @Name("com.github.devoog04.collector.Rollback")
+    @Label("Reschedule Rollback")
+    @Description("Restoring the previous policy after a failed reschedule")
+    static final class RollbackEvent extends OperationEvent {
+    }
+
+    @Name("com.github.devoog04.collector.Unschedule")
+    @Label("Unschedule")
+    @Description("A job removed from the scheduler")
+    static final class UnscheduleEvent extends OperationEvent {
+    }
+
+    @Name("com.github.devoog04.collector.Fire")
+    @Label("Job Fire")
+    @Description("A scheduled fire time reached on the timer thread")
+    @Category({"Collector", "Execution"})
+    static final class FireEvent extends Event {
+        @Label("Job Key")
+        String key;
+        @Label("Policy Type")
+        String policyType;
+        @Label("Lateness")
+        @Timespan(Timespan.NANOSECONDS)
+        long lateness;
+    }
+
+    @Name("com.github.devoog04.collector.RunStart")
+    @Label("Job Run Start")
+    @Description("A job body started on a dispatcher thread")
+    @Category({"Collector", "Execution"})
+    static final class RunStartEvent extends Event {
+        @Label("Job Key")
+        String key;
+        @Label("Policy Type")
+        String policyType;
+        @Label("Attempt")
+        int attempt;
+        @Label("Queue Delay")
+        @Timespan(Timespan.NANOSECONDS)
+        long queueDelay;
+    }
+
+    @Name("com.github.devoog04.collector.RunEnd")
+    @Label("Job Run End")
+    @Description("A job body finished, failed, timed out or was abandoned")
+    @Category({"Collector", "Execution"})
+    static final class RunEndEvent extends Event {
+        @Label("Job Key")
+        String key;
+        @Label("Policy Type")
+        String policyType;
+        @Label("Attempt")
+        int attempt;
+        @Label("Execution Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long executionTime;
+        @Label("Outcome")
+        String outcome;
+    }
+}
@@ -1,30 +1,60 @@
 package com.github.devoog04.core.schedule;
 
+import com.github.devoog04.core.definition.JobDefinitionKey;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.time.ZoneId;
 
 /**
  * 스케줄링 정책을 생성하는 정적 팩토리 메서드를 제공합니다.
+ * <p>Cron 정책은 생성 시점에 {@link CronExpression}으로 한 번만 컴파일되며,
+ * 스케줄링 엔진은 {@link #nextFireTime(long)}으로 다음 실행 시각을 조회합니다.</p>
+ * <p>정책은 불변 객체이며, {@code with*} 메서드는 설정을 바꾼 새 정책을 반환합니다.
+ * 같은 설정으로 만든 정책은 {@code equals}로 같으므로 저장된 정책이나 설정 원본과 값으로 비교할 수 있습니다.</p>
  */
 @Slf4j
 @Getter
+@EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class SchedulePolicy {
     private final ScheduleType type;
     private final String expression;
     private final Duration interval;
+    /** 컴파일된 Cron 표현식 (CRON 정책에서만 존재, 값 비교는 표현식과 {@link #zoneId()}로 함) */
+    @EqualsAndHashCode.Exclude
+    private final CronExpression cron;
+    /** 미스파이어 처리 방식 */
+    private final MisfirePolicy misfire;
+    /** 작업별 실행 시각 분산 범위 (미지정 시 null) */
+    private final Duration jitter;
+    /** 실행마다 획득할 클러스터 리스의 유지 시간 (미지정 시 null) */
+    private final Duration lease;
+    /** 실행 결과에 따른 대기 시간 조정 방식 (적응형 FIXED_DELAY에서만 존재) */
+    private final AdaptiveDelay adaptive;
+    /** 실행 한 번의 시간 제한 (미지정 시 null) */
+    private final Duration timeout;
 
     /**
-     * Cron 표현식을 기반으로 하는 정책을 생성합니다.
+     * 시스템 기본 시간대를 기준으로 Cron 표현식을 기반으로 하는 정책을 생성합니다.
      * @param expression 크론 표현식 (예: "0 0/5 * * * ?")
      */
     public static SchedulePolicy cron(String expression) {
-        validateCron(expression);
-        return new SchedulePolicy(ScheduleType.CRON, expression, null);
+        return cron(expression, ZoneId.systemDefault());
+    }
+
+    /**
+     * Cron 표현식을 기반으로 하는 정책을 생성합니다.
+     * @param expression 크론 표현식 (예: "0 0/5 * * * ?")
+     * @param zoneId 실행 시각 계산 기준 시간대
+     */
+    public static SchedulePolicy cron(String expression, ZoneId zoneId) {
+        CronExpression cron = compileCron(expression, zoneId);
+        return new SchedulePolicy(ScheduleType.CRON, expression, null, cron, MisfirePolicy.fireOnce(), null, null, null, null);
     }
 
     /**
@@ -33,7 +63,28 @@ public class SchedulePolicy {
      */
     public static SchedulePolicy fixedDelay(Duration interval) {
         validateInterval(interval);
-        return new SchedulePolicy(ScheduleType.FIXED_DELAY, null, interval);
+        return new SchedulePolicy(ScheduleType.FIXED_DELAY, null, interval, null, MisfirePolicy.fireOnce(), null, null, null, null);
+    }
+
+    /**
+     * 작업이 {@link FireFeedback#report(FireResult)}로 알린 결과에 따라 대기 시간을 {@code minDelay}와 {@code maxDelay} 사이에서
+     * 조정하는 FIXED_DELAY 정책을 생성합니다. 처리할 것이 없으면 대기 시간을 두 배로 늘리고, 있으면 {@code minDelay}만큼 줄입니다.
+     * @see AdaptiveDelay#of(Duration, Duration)
+     */
+    public static SchedulePolicy adaptiveDelay(Duration minDelay, Duration maxDelay) {
+        return adaptiveDelay(AdaptiveDelay.of(minDelay, maxDelay));
+    }
+
+    /**
+     * 실행 결과에 따라 대기 시간을 조정하는 FIXED_DELAY 정책을 생성합니다. {@link #getInterval()}은 최소 대기 시간입니다.
+     * @param adaptive 대기 시간 조정 방식
+     */
+    public static SchedulePolicy adaptiveDelay(AdaptiveDelay adaptive) {
+        if (adaptive == null) {
+            throw new IllegalArgumentException("adaptive is required.");
+        }
+        return new SchedulePolicy(ScheduleType.FIXED_DELAY, null, adaptive.getMinDelay(), null, MisfirePolicy.fireOnce(),
+                null, null, adaptive, null);
     }
 
     /**
@@ -42,16 +93,157 @@ public class SchedulePolicy {
      */
     public static SchedulePolicy fixedRate(Duration interval) {
         validateInterval(interval);
-        return new SchedulePolicy(ScheduleType.FIXED_RATE, null, interval);
+        return new SchedulePolicy(ScheduleType.FIXED_RATE, null, interval, null, MisfirePolicy.fireOnce(), null, null, null, null);
     }
 
     /**
-     * Cron 표현식의 유효성을 검사합니다.
+     * 미스파이어 처리 방식을 바꾼 정책을 반환합니다. 기본값은 {@link MisfirePolicy#fireOnce()}입니다.
+     * @param misfire 미스파이어 처리 방식
      */
-    private static void validateCron(String expression) {
+    public SchedulePolicy withMisfire(MisfirePolicy misfire) {
+        if (misfire == null) {
+            throw new IllegalArgumentException("misfire is required.");
+        }
+        return new SchedulePolicy(type, expression, interval, cron, misfire, jitter, lease, adaptive, timeout);
+    }
+
+    /**
+     * 같은 시각에 몰리는 작업들의 실행 시각을 {@code window} 범위 안에서 작업마다 다르게 분산시킨 정책을 반환합니다.
+     * <p>작업별 분산 값은 {@link #jitterOffset(JobDefinitionKey)}로 키의 해시에서 결정되므로,
+     * 키의 {@code hashCode}가 재시작 후에도 같다면 실행 시각도 같습니다.
+     * <ul>
+     * <li>CRON: 모든 실행 시각을 분산 값만큼 늦춥니다.</li>
+     * <li>FIXED_RATE: 실행 시각을 epoch 기준 주기 격자에 분산 값만큼 밀어 정렬합니다. 분산 범위는 주기를 넘지 않습니다.</li>
+     * <li>FIXED_DELAY: 첫 실행만 분산 값만큼 늦춥니다.</li>
+     * </ul></p>
+     * @param window 분산 범위, {@link Duration#ZERO}이면 분산하지 않음
+     */
+    public SchedulePolicy withJitter(Duration window) {
+        if (window == null) {
+            throw new IllegalArgumentException("jitter is required.");
+        }
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("jitter must not be negative.");
+        }
+        return new SchedulePolicy(type, expression, interval, cron, misfire, window.isZero() ? null : window, lease, adaptive, timeout);
+    }
+
+    /**
+     * 실행할 때마다 {@link com.github.devoog04.core.lease.LeaseStore}에서 리스를 획득한 노드만 실행하도록 한 정책을 반환합니다.
+     * <p>리스는 실행 시작부터 최소 {@code ttl} 동안 유지되어 다른 노드의 같은 회차 실행을 막고, 실행이 길어지면 갱신됩니다.
+     * 노드 간 실행 시각이 어긋나도 한 번만 실행되도록 {@code ttl}은 주기보다 조금 짧게 두고,
+     * FIXED_RATE는 {@link #withJitter(Duration)}로 노드 간 실행 격자를 맞추는 것이 좋습니다.</p>
+     * @param ttl 리스 유지 시간, FIXED_RATE와 FIXED_DELAY는 주기보다 짧아야 함
+     */
+    public SchedulePolicy withLease(Duration ttl) {
+        if (ttl == null) {
+            throw new IllegalArgumentException("lease is required.");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("lease must be positive.");
+        }
+        if (interval != null && ttl.compareTo(interval) >= 0) {
+            throw new IllegalArgumentException("lease must be shorter than interval.");
+        }
+        return new SchedulePolicy(type, expression, interval, cron, misfire, jitter, ttl, adaptive, timeout);
+    }
+
+    /**
+     * 실행 한 번이 {@code timeout}을 넘기면 중단하도록 한 정책을 반환합니다.
+     * <p>제한 시간이 지나면 스케줄러는 실행 스레드를 인터럽트하고 비동기 실행은 취소합니다.
+     * 중단 요청에 응답하지 않고 같은 시간이 더 지나면 그 실행을 포기하고 다음 실행을 진행하므로,
+     * 작업 본문은 블로킹 호출에 자체 시간 제한을 두거나 인터럽트에 응답해야 스레드가 반납됩니다.</p>
+     * @param timeout 실행 시간 제한
+     */
+    public SchedulePolicy withTimeout(Duration timeout) {
+        if (timeout == null) {
+            throw new IllegalArgumentException("timeout is required.");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive.");
+        }
+        return new SchedulePolicy(type, expression, interval, cron, misfire, jitter, lease, adaptive, timeout);
+    }
+
+    /**
+     * 작업 키에 대한 분산 값을 계산합니다. 분산이 지정되지 않았으면 0입니다.
+     * @return {@code [0, 분산 범위)} 구간의 밀리초 값
+     */
+    public long jitterOffset(JobDefinitionKey key) {
+        if (jitter == null) {
+            return 0L;
+        }
+        long bound = jitter.toMillis();
+        if (type == ScheduleType.FIXED_RATE) {
+            bound = Math.min(bound, interval.toMillis());
+        }
+        if (bound <= 0) {
+            return 0L;
+        }
+        // 비슷한 hashCode(연속된 ID 등)도 고르게 퍼지도록 비트를 섞음 (MurmurHash3 fmix64)
+        long h = key.hashCode();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return Math.floorMod(h, bound);
+    }
+
+    /**
+     * 분산 값 0을 기준으로 다음 실행 시각을 계산합니다.
+     * @see #nextFireTime(long, long)
+     */
+    public long nextFireTime(long epochMillis) {
+        return nextFireTime(epochMillis, 0L);
+    }
+
+    /**
+     * 지정한 시각 이후의 다음 실행 시각을 계산합니다. 객체를 생성하지 않습니다.
+     * <ul>
+     * <li>CRON: 기준 시각 이후(제외) 표현식을 만족하는 첫 시각</li>
+     * <li>FIXED_RATE: 분산이 지정되면 기준 시각 이후(제외)의 첫 격자 시각({@code offset + k * interval}), 아니면 기준 시각 + 간격</li>
+     * <li>FIXED_DELAY: 기준 시각 + 간격</li>
+     * </ul>
+     * @param epochMillis  기준 시각 (epoch 밀리초)
+     * @param jitterOffset {@link #jitterOffset(JobDefinitionKey)}로 계산한 분산 값 (밀리초)
+     * @return 다음 실행 시각 (epoch 밀리초), 더 이상 실행 시각이 없으면 -1
+     */
+    public long nextFireTime(long epochMillis, long jitterOffset) {
+        if (type == ScheduleType.CRON) {
+            long next = cron.nextFireTime(epochMillis - jitterOffset);
+            return next < 0 ? next : next + jitterOffset;
+        }
+        long intervalMillis = interval.toMillis();
+        if (type == ScheduleType.FIXED_RATE && jitter != null && intervalMillis > 0) {
+            return epochMillis + intervalMillis - Math.floorMod(epochMillis - jitterOffset, intervalMillis);
+        }
+        return epochMillis + intervalMillis;
+    }
+
+    /**
+     * 값 비교에 사용하는 Cron 표현식의 시간대입니다.
+     */
+    @EqualsAndHashCode.Include
+    private ZoneId zoneId() {
+        return cron != null ? cron.getZoneId() : null;
+    }
+
+    /**
+     * Cron 표현식의 유효성을 검사하고 컴파일합니다.
+     */
+    private static CronExpression compileCron(String expression, ZoneId zoneId) {
         if (expression == null || expression.trim().isEmpty()) {
             throw new IllegalArgumentException("An expression is required.");
         }
+        if (zoneId == null) {
+            throw new IllegalArgumentException("zoneId is required.");
+        }
+        CronExpression cron = CronExpression.parse(expression, zoneId);
+        if (cron.nextFireTime(System.currentTimeMillis()) < 0) {
+            throw new IllegalArgumentException(String.format("The expression never fires: \"%s\".", expression));
+        }
+        return cron;
     }
 
     /**
@@ -65,4 +257,4 @@ public class SchedulePolicy {
             throw new IllegalArgumentException("interval must be positive.");
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.github.devoog04.core.schedule;
+
+/**
+ * 컨테이너에 등록된 키별 스케줄 상태입니다.
+ * <p>상태 전이는 키별 잠금 안에서만 일어나며, 엔진 호출 중인 키에 대한 다른 변경 요청은 해당 키에서만 대기합니다.</p>
+ * <pre>
+ * PENDING -> SCHEDULING -> ACTIVE -> (SCHEDULING | CANCELLING) -> ACTIVE | REMOVED
+ * </pre>
+ */
+public enum ScheduleState {
+    /** 키를 선점했으나 아직 엔진에 등록하지 않은 상태 */
+    PENDING,
+    /** 엔진에 등록(또는 재등록) 중인 상태 */
+    SCHEDULING,
+    /** 엔진에 등록되어 정상 동작 중인 상태 */
+    ACTIVE,
+    /** 엔진에서 취소 중인 상태 */
+    CANCELLING,
+    /** 컨테이너에서 제거된 상태 (종료 상태) */
+    REMOVED
+}
@@ -0,0 +1,29 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러에 등록된 작업 하나의 조회 시점 상태입니다.
+ * <p>{@link JobScheduler#getScheduledJobs()} 등 조회 API의 결과로, 이후의 변경이 반영되지 않는 불변 값입니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScheduledJob {
+    private final JobDefinitionKey key;
+    private final SchedulePolicy policy;
+    private final ScheduleState state;
+    /** 다음 실행 예정 시각 (epoch 밀리초), 실행 중이어서 아직 정해지지 않았거나 더 이상 예정이 없으면 -1 */
+    private final long nextFireTime;
+
+    static ScheduledJob of(JobDefinitionKey key, SchedulePolicy policy, ScheduleState state, long nextFireTime) {
+        return new ScheduledJob(key, policy, state, nextFireTime);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledJob{key=" + key + ", type=" + policy.getType() + ", state=" + state + ", nextFireTime=" + nextFireTime + "}";
+    }
+}
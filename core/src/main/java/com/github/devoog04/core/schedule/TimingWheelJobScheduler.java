@@ -0,0 +1,998 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.AsyncJobDefinition;
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.lease.Lease;
+import com.github.devoog04.core.lease.LeaseContext;
+import com.github.devoog04.core.lease.LeaseStore;
+import com.github.devoog04.core.metrics.JobMetricsRecorder;
+import com.github.devoog04.core.metrics.JobMetricsRegistry;
+import com.github.devoog04.core.schedule.dispatch.JobDispatcher;
+import com.github.devoog04.core.schedule.dispatch.RejectableTask;
+import com.github.devoog04.core.schedule.exception.NotFoundScheduleException;
+import com.github.devoog04.core.schedule.exception.ScheduleExecutionException;
+import com.github.devoog04.core.schedule.timer.HierarchicalTimingWheel;
+import com.github.devoog04.core.schedule.timer.Timeout;
+import com.github.devoog04.core.store.ScheduleStore;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link HierarchicalTimingWheel}을 스케줄링 엔진으로 사용하는 {@link JobScheduler} 구현체입니다.
+ * <p>힙 기반 스케줄러(예: {@code ScheduledThreadPoolExecutor})와 달리 작업 등록/취소가 O(1)이며,
+ * 수십만 개의 작업을 단일 타이머 스레드로 관리할 수 있습니다.
+ * <ul>
+ * <li><b>실행 분리:</b> 타이머 스레드는 만료 처리만 수행하며, 작업 본문은 항상 {@link JobDispatcher}를 통해
+ * 별도 스레드(플랫폼 스레드 풀 또는 가상 스레드)에서 실행됩니다.</li>
+ * <li><b>FIXED_RATE:</b> 이전 실행 시각이 아닌 예정 시각을 기준으로 다음 실행을 계산하여 누적 지연(drift)이 없습니다.</li>
+ * <li><b>미스파이어:</b> FIXED_RATE와 CRON은 같은 작업을 동시에 실행하지 않으며, 늦어지거나 실행 시간이 주기를 넘어
+ * 밀린 실행은 {@link SchedulePolicy#getMisfire()}에 따라 합치거나 버리거나 상한까지 보충합니다.</li>
+ * <li><b>FIXED_DELAY:</b> 작업 실행이 끝난 시점부터 간격만큼 대기 후 다음 실행을 등록합니다.
+ * {@link SchedulePolicy#adaptiveDelay(AdaptiveDelay) 적응형} 정책은 작업이 {@link FireFeedback}로 알린 결과에 따라 간격을 조정합니다.</li>
+ * <li><b>CRON:</b> 매 실행 시 {@link SchedulePolicy#nextFireTime(long, long)}으로 다음 실행 시각을 계산하여 등록합니다.</li>
+ * <li><b>분산(jitter):</b> {@link SchedulePolicy#withJitter(Duration)}가 지정되면 키별 분산 값을 한 번 계산해 두고
+ * 모든 실행 시각 계산에 사용합니다. 분산이 지정되지 않은 정책에는 빌더의 {@code defaultJitter}가 적용됩니다.</li>
+ * </ul>
+ * 주기형 작업의 첫 실행은 등록 시점으로부터 한 주기 이후입니다.</p>
+ * <p>다음 실행을 등록할 때마다 예정 시각을 색인에 반영하므로 {@link #getJobsDueWithin(Duration)}는 곧 실행될 작업만 읽습니다.
+ * FIXED_DELAY 작업은 실행 중에는 예정 시각이 없습니다.</p>
+ * <p>작업별 실행 지연, 대기 시간, 실행 시간, 실패와 중첩 실행은 {@link JobMetricsRegistry}로 기록됩니다.
+ * JFR로 기록 중이면 만료와 실행 시작/종료도 {@code com.github.devoog04.collector.*} 이벤트로 남습니다.</p>
+ * <p>{@link ScheduleStore}가 지정되면 실행마다 시작 시각을 기록하고, 다시 등록될 때 마지막 실행 시각을 기준으로 첫 실행을
+ * 계산합니다. 중단 기간 동안 놓친 실행은 즉시 한꺼번에 실행하지 않고 {@link MisfirePolicy}에 따라 처리합니다.</p>
+ * <p>{@link SchedulePolicy#withLease(Duration)}가 지정된 작업은 실행마다 {@link LeaseStore}에서 리스를 획득한 노드만 실행합니다.
+ * 리스 요청은 틱 단위로 묶여 저장소에 전달되고, 실행이 길어지면 타이머가 리스를 갱신하며,
+ * 작업 본문은 {@link LeaseContext#current()}로 펜싱 토큰을 조회할 수 있습니다.</p>
+ * <p>{@link AsyncJobDefinition 비동기 작업}은 실행을 시작한 뒤 스레드를 반납하고, 반환된 단계가 완료될 때 중첩 방지와 지표,
+ * FIXED_DELAY의 다음 실행을 처리합니다. 작업을 제거하면 진행 중인 단계는 취소됩니다.</p>
+ * <p>{@link SchedulePolicy#withTimeout(Duration) 시간 제한}이 지정된 실행은 실행마다 타이머에 만료를 등록하여 별도 감시 스레드 없이
+ * 제한 시간이 지나면 실행 스레드를 인터럽트하거나 비동기 실행을 취소합니다. 같은 시간이 더 지나도 끝나지 않으면 그 실행을 포기하고
+ * 키 점유와 비용, 리스를 반납하여 다음 실행을 진행하며, 반환하지 않는 스레드 수는 {@link #getHungRunCount()}로 집계됩니다.</p>
+ * <p>작업 정의에 {@link JobDefinition#getRetryPolicy() 재시도 방식}이 있으면 실패한 실행은 다음 예정 시각을 기다리지 않고
+ * 대기 시간 뒤 타이머에서 다시 전달됩니다. 대기하는 동안 스레드와 비용은 반납하지만 키 점유는 유지하므로,
+ * 그 사이의 정규 실행은 이전 실행이 끝나지 않은 것과 같이 처리됩니다.</p>
+ * <p>같은 키의 실행은 재스케줄 전후에도 겹치지 않습니다. 이전 실행이 끝나지 않았으면 {@link MisfirePolicy#skip()}은
+ * 이번 실행을 버리고, 그 외에는 하나만 대기시켰다가 이어서 실행합니다. 빌더의 {@code maxConcurrentCost}가 지정되면
+ * 실행 중인 작업의 {@link JobDefinition#getCost() 비용} 합이 상한을 넘는 실행은 스레드를 막지 않고 미뤄졌다가
+ * 앞선 실행이 끝날 때 순서대로 시작됩니다.</p>
+ * <p>{@link #rescheduleCoalesced}로 요청한 같은 키의 재스케줄은 빌더의 {@code rescheduleWindow} 동안 모였다가 마지막 정책만 한 번 적용됩니다.</p>
+ */
+@Slf4j
+public class TimingWheelJobScheduler extends AbstractJobScheduler implements AutoCloseable {
+    public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private final HierarchicalTimingWheel timer;
+    private final JobDispatcher dispatcher;
+    private final JobMetricsRegistry metrics;
+    /** 분산이 지정되지 않은 정책에 적용할 분산 범위 (미지정 시 null) */
+    private final Duration defaultJitter;
+    /** 리스 저장소 호출 묶음 처리기 (리스 저장소 미지정 시 null) */
+    private final LeaseBatcher leases;
+    /** 같은 키의 실행이 겹치지 않도록 하는 키별 점유 상태 */
+    private final RunGate gate = new RunGate();
+    /** 동시 실행 비용 제한기 (상한 미지정 시 null) */
+    private final CostLimiter limiter;
+    /** 시간 제한을 넘겨 포기했지만 아직 반환하지 않은 실행 수 */
+    private final AtomicInteger hungRuns = new AtomicInteger();
+    /** 재스케줄 요청을 모으는 시간 (나노초, 0이면 모으지 않고 바로 적용) */
+    private final long rescheduleWindowNanos;
+    /** 적용을 기다리는 키별 재스케줄 */
+    private final Map<JobDefinitionKey, PendingReschedule> pendingReschedules = new ConcurrentHashMap<>();
+    /** 모아 둔 재스케줄을 적용하는 스레드 (타이머 스레드가 키 잠금과 저장소 호출을 기다리지 않도록 분리) */
+    private final ExecutorService rescheduler = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "collector-rescheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean closed;
+
+    public TimingWheelJobScheduler(Executor executor) {
+        this(null, executor, null, null, null, null, null, null, null, null);
+    }
+
+    public TimingWheelJobScheduler(JobDispatcher dispatcher) {
+        this(dispatcher, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * @param dispatcher    작업 본문의 실행 방식 ({@code dispatcher}와 {@code executor} 중 하나 필수)
+     * @param executor      작업 본문을 실행할 {@link Executor}, {@link JobDispatcher#executor(Executor)}로 감싸집니다.
+     * @param tickDuration  타이머 해상도, 미지정 시 {@link #DEFAULT_TICK_DURATION}
+     * @param ticksPerWheel 레벨당 슬롯 수, 미지정 시 {@link #DEFAULT_TICKS_PER_WHEEL}
+     * @param metrics       작업별 실행 지표 수집기, 미지정 시 {@link JobMetricsRegistry#NOOP}
+     * @param store         스케줄 저장소, 미지정 시 저장하지 않음
+     * @param leaseStore    리스 저장소, 미지정 시 리스를 지정한 정책은 등록할 수 없음
+     * @param defaultJitter 분산이 지정되지 않은 정책에 적용할 {@link SchedulePolicy#withJitter(Duration) 분산 범위}, 미지정 시 분산하지 않음
+     * @param maxConcurrentCost 동시에 실행 중인 작업의 {@link JobDefinition#getCost() 비용} 합의 상한, 미지정 시 제한하지 않음
+     * @param rescheduleWindow  {@link #rescheduleCoalesced}가 같은 키의 요청을 모아 마지막 정책만 적용할 시간, 미지정 시 모으지 않고 바로 적용
+     */
+    @Builder
+    private TimingWheelJobScheduler(JobDispatcher dispatcher, Executor executor,
+                                    Duration tickDuration, Integer ticksPerWheel,
+                                    JobMetricsRegistry metrics, ScheduleStore store, LeaseStore leaseStore,
+                                    Duration defaultJitter, Integer maxConcurrentCost, Duration rescheduleWindow) {
+        super(store);
+        if (dispatcher == null && executor == null) {
+            throw new IllegalArgumentException("dispatcher or executor is required.");
+        }
+        this.dispatcher = dispatcher != null ? dispatcher : JobDispatcher.executor(executor);
+        this.metrics = metrics != null ? metrics : JobMetricsRegistry.NOOP;
+        this.leases = leaseStore != null ? new LeaseBatcher(leaseStore) : null;
+        this.defaultJitter = defaultJitter != null && !defaultJitter.isZero() ? defaultJitter : null;
+        if (this.defaultJitter != null && this.defaultJitter.isNegative()) {
+            throw new IllegalArgumentException("defaultJitter must not be negative.");
+        }
+        if (maxConcurrentCost != null && maxConcurrentCost <= 0) {
+            throw new IllegalArgumentException("maxConcurrentCost must be positive.");
+        }
+        this.limiter = maxConcurrentCost != null ? new CostLimiter(maxConcurrentCost) : null;
+        if (rescheduleWindow != null && rescheduleWindow.isNegative()) {
+            throw new IllegalArgumentException("rescheduleWindow must not be negative.");
+        }
+        this.rescheduleWindowNanos = rescheduleWindow != null ? rescheduleWindow.toNanos() : 0L;
+        this.timer = new HierarchicalTimingWheel(
+                tickDuration != null ? tickDuration : DEFAULT_TICK_DURATION,
+                ticksPerWheel != null ? ticksPerWheel : DEFAULT_TICKS_PER_WHEEL,
+                "collector-timer");
+    }
+
+    @Override
+    protected ScheduleManager createManager(JobDefinition definition, SchedulePolicy policy) throws ScheduleExecutionException {
+        if (policy.getLease() != null && leases == null) {
+            throw new ScheduleExecutionException(definition.getKey(), "A lease store is required for leased schedules.");
+        }
+        return new WheelScheduleManager(definition, effectivePolicy(policy));
+    }
+
+    @Override
+    protected SchedulePolicy effectivePolicy(SchedulePolicy policy) {
+        return policy.getJitter() == null && defaultJitter != null ? policy.withJitter(defaultJitter) : policy;
+    }
+
+    @Override
+    protected SchedulePolicy pendingPolicy(JobDefinitionKey key) {
+        PendingReschedule pending = pendingReschedules.get(key);
+        return pending != null ? pending.policy : null;
+    }
+
+    /**
+     * 같은 키의 재스케줄 요청을 빌더의 {@code rescheduleWindow} 동안 모아 마지막 정책만 한 번 적용합니다.
+     * <p>설정 배포 중 같은 키에 요청이 몰려도 엔진의 취소/등록은 한 번이며, 적용은 {@link #reschedule}과 같은 복구 규정을 따릅니다.
+     * 적용은 타이머가 아닌 스케줄러 전용 스레드에서 수행되며, 호출 시점에는 작업 존재 여부와 리스 저장소 필요 여부만 검사합니다.
+     * 창이 지나 적용되기 전까지 조회 API는 이전 정책을 반환합니다.</p>
+     * <p>반환된 future는 창 안에서 합쳐진 요청이 함께 기다리며, 마지막 정책이 적용되면 완료되고 적용에 실패하면 그 예외로 완료됩니다.
+     * 적용 전에 작업이 제거되면 {@link NotFoundScheduleException}으로, 스케줄러가 닫히면 취소로 완료됩니다.</p>
+     * @param key       대상 작업의 고유 키
+     * @param newPolicy 새로 적용할 스케줄 정책
+     * @return 적용 결과
+     * @throws NotFoundScheduleException  대상 키가 존재하지 않을 경우
+     * @throws ScheduleExecutionException 리스를 지정한 정책인데 리스 저장소가 없는 경우
+     */
+    public CompletableFuture<Void> rescheduleCoalesced(JobDefinitionKey key, SchedulePolicy newPolicy)
+            throws NotFoundScheduleException, ScheduleExecutionException {
+        if (newPolicy == null) {
+            throw new IllegalArgumentException("newPolicy is required.");
+        }
+        if (!container.containsKey(key)) {
+            throw new NotFoundScheduleException(key);
+        }
+        if (newPolicy.getLease() != null && leases == null) {
+            throw new ScheduleExecutionException(key, "A lease store is required for leased schedules.");
+        }
+        // 창의 첫 요청만 적용을 예약하고, 이후 요청은 보관된 정책을 바꾸기만 함
+        PendingReschedule created = new PendingReschedule(newPolicy);
+        PendingReschedule pending = pendingReschedules.merge(key, created, (current, ignored) -> {
+            current.policy = newPolicy;
+            return current;
+        });
+        if (pending == created) {
+            if (rescheduleWindowNanos == 0) {
+                submitPending(key, pending);
+            } else {
+                try {
+                    pending.timeout = timer.newTimeout(expired -> submitPending(key, pending),
+                            rescheduleWindowNanos, TimeUnit.NANOSECONDS);
+                } catch (IllegalStateException e) {
+                    // close()와 경합한 경우: 타이머가 이미 종료됨
+                    discardPending(key, pending, new CancellationException("The scheduler is closed."));
+                }
+            }
+        }
+        return pending.future.copy();
+    }
+
+    private void submitPending(JobDefinitionKey key, PendingReschedule pending) {
+        try {
+            rescheduler.execute(() -> applyPending(key, pending));
+        } catch (RejectedExecutionException e) {
+            discardPending(key, pending, new CancellationException("The scheduler is closed."));
+        }
+    }
+
+    /**
+     * 보관된 마지막 정책을 키의 잠금 안에서 꺼내 적용하고, 결과로 future를 완료합니다.
+     */
+    private void applyPending(JobDefinitionKey key, PendingReschedule pending) {
+        try {
+            rescheduleLatest(key, () -> pendingReschedules.remove(key, pending) ? pending.policy : null);
+            pending.future.complete(null);
+        } catch (Exception e) {
+            pendingReschedules.remove(key, pending);
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 적용을 기다리는 재스케줄을 버리고 예약된 적용을 취소합니다.
+     */
+    private void discardPending(JobDefinitionKey key, PendingReschedule pending, Throwable cause) {
+        pendingReschedules.remove(key, pending);
+        pending.cancelTimeout();
+        pending.future.completeExceptionally(cause);
+    }
+
+    /**
+     * 시간 제한을 넘겨 중단을 요청했지만 응답하지 않아 포기한 실행 중, 아직 작업 본문이 반환하지 않은 수를 반환합니다.
+     * 이 수만큼 디스패처의 스레드가 묶여 있습니다.
+     */
+    public int getHungRunCount() {
+        return hungRuns.get();
+    }
+
+    @Override
+    protected void onRemoved(JobDefinitionKey key) {
+        PendingReschedule pending = pendingReschedules.remove(key);
+        if (pending != null) {
+            pending.cancelTimeout();
+            NotFoundScheduleException cause = new NotFoundScheduleException(key);
+            // 항목의 잠금을 보유한 상태이므로 future의 후속 작업은 전용 스레드에서 실행
+            try {
+                rescheduler.execute(() -> pending.future.completeExceptionally(cause));
+            } catch (RejectedExecutionException e) {
+                pending.future.completeExceptionally(cause);
+            }
+        }
+        metrics.unregister(key);
+    }
+
+    /**
+     * 타이머와 디스패처, 리스 처리기, 저장소를 중지합니다. 이미 실행 중인 작업은 영향을 받지 않습니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        pendingReschedules.forEach((key, pending) -> discardPending(key, pending, new CancellationException("The scheduler is closed.")));
+        rescheduler.shutdown();
+        timer.close();
+        dispatcher.close();
+        if (leases != null) {
+            leases.close();
+        }
+        getStore().close();
+    }
+
+    /**
+     * 적용을 기다리는 키 하나의 재스케줄입니다. 창 안의 요청은 정책만 바꾸고 같은 결과를 기다립니다.
+     */
+    private static final class PendingReschedule {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile SchedulePolicy policy;
+        /** 창이 지나면 적용을 전달하는 타이머 (창이 0이면 null) */
+        private volatile Timeout timeout;
+
+        private PendingReschedule(SchedulePolicy policy) {
+            this.policy = policy;
+        }
+
+        private void cancelTimeout() {
+            Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+
+    /**
+     * 타이밍 휠에 다음 실행을 등록하고, 만료 시 작업을 {@link JobDispatcher}로 전달하는 매니저입니다.
+     * <p>FIXED_RATE와 CRON은 실행 중이거나 대기 중인 실행 수({@code outstanding})를 세어 한 번에 하나씩만 실행하며,
+     * 그 상한과 놓친 실행의 처리는 {@link MisfirePolicy}를 따릅니다. 카운터는 스케줄할 때마다 새로 만들어
+     * 이전 세대의 실행이 새 세대의 카운터를 건드리지 않도록 합니다.</p>
+     * <p>실행은 키 점유({@link RunGate}), 비용 확보({@link CostLimiter}), 리스 획득을 차례로 거쳐 전달되며,
+     * 점유와 비용은 실행이 끝나거나 전달하지 못했을 때 {@link #leave()}로 반납합니다.</p>
+     */
+    private final class WheelScheduleManager extends ScheduleManager {
+        private final long intervalNanos;
+        private final MisfirePolicy misfire;
+        /** 실행 결과에 따른 대기 시간 조정 방식 (적응형 FIXED_DELAY가 아니면 null) */
+        private final AdaptiveDelay adaptive;
+        /** 다음 실행까지의 대기 시간 (FIXED_DELAY), 적응형이면 실행 결과에 따라 바뀜 */
+        private volatile long currentDelayNanos;
+        /** 키별 실행 시각 분산 값 (밀리초) */
+        private final long jitterOffset;
+        private final JobMetricsRecorder recorder;
+        /** 실행 비용, 1 미만은 1로 취급 */
+        private final int cost;
+        /** 실패한 실행의 재시도 방식 (재시도하지 않으면 null) */
+        private final RetryPolicy retryPolicy;
+        /** 현재 실행 중인 작업 본문의 수 (중첩 실행 감지용) */
+        private final AtomicInteger running = new AtomicInteger();
+        /** 실행 시간 제한 (나노초), 제한이 없으면 0 */
+        private final long timeoutNanos;
+        /** 완료를 기다리는 비동기 실행 */
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        /** 작업이 제거되어 진행 중인 비동기 실행을 취소한 경우 true */
+        private volatile boolean aborted;
+        /** 다음 예정 실행 시각 (FIXED_RATE, System.nanoTime 기준) */
+        private long nextFireNanos;
+        /** 다음 예정 실행 시각 (CRON, epoch 밀리초) */
+        private long nextCronMillis;
+        private volatile boolean active;
+        /** 스케줄/취소가 반복될 때 이전 세대의 타이머와 실행이 다시 등록되지 않도록 구분하는 값 */
+        private volatile int generation;
+        private volatile Timeout timeout;
+        /** 실행 중이거나 실행을 기다리는 발화 수 (FIXED_RATE, CRON) */
+        private volatile AtomicInteger outstanding = new AtomicInteger();
+
+        private WheelScheduleManager(JobDefinition jobDefinition, SchedulePolicy policy) {
+            super(jobDefinition, policy);
+            this.intervalNanos = policy.getInterval() != null ? policy.getInterval().toNanos() : 0L;
+            this.misfire = policy.getMisfire();
+            this.adaptive = policy.getAdaptive();
+            this.timeoutNanos = policy.getTimeout() != null ? policy.getTimeout().toNanos() : 0L;
+            this.currentDelayNanos = intervalNanos;
+            this.jitterOffset = policy.jitterOffset(jobDefinition.getKey());
+            this.recorder = metrics.register(jobDefinition.getKey());
+            this.cost = Math.max(1, jobDefinition.getCost());
+            RetryPolicy retry = jobDefinition.getRetryPolicy();
+            this.retryPolicy = retry != null && retry.getMaxAttempts() > 1 ? retry : null;
+        }
+
+        @Override
+        protected void doSchedule() {
+            int gen = ++generation;
+            outstanding = new AtomicInteger();
+            nextCronMillis = 0L;
+            active = true;
+            // 저장소에 마지막 실행 시각이 있으면 이어서 계산 (이미 지난 시각이면 즉시 만료되어 미스파이어로 처리)
+            long lastFire = lastFireTime(jobDefinition.getKey());
+            switch (policy.getType()) {
+                case FIXED_RATE -> {
+                    long delayNanos = lastFire >= 0 ? untilNanos(policy.nextFireTime(lastFire, jitterOffset))
+                            : policy.getJitter() != null ? untilNanos(policy.nextFireTime(System.currentTimeMillis(), jitterOffset))
+                            : intervalNanos;
+                    nextFireNanos = System.nanoTime() + delayNanos;
+                    arm(delayNanos, gen);
+                }
+                case FIXED_DELAY -> arm(lastFire >= 0 ? untilNanos(policy.nextFireTime(lastFire))
+                        : intervalNanos + TimeUnit.MILLISECONDS.toNanos(jitterOffset), gen);
+                case CRON -> {
+                    long due = lastFire >= 0 ? policy.nextFireTime(lastFire, jitterOffset) : -1L;
+                    if (due >= 0 && due <= System.currentTimeMillis()) {
+                        nextCronMillis = due;
+                        arm(untilNanos(due), gen);
+                    } else {
+                        armNextCron(gen);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 지정한 시각까지 남은 시간을 계산합니다. 이미 지난 시각이면 음수입니다.
+         */
+        private long untilNanos(long epochMillis) {
+            return TimeUnit.MILLISECONDS.toNanos(epochMillis - System.currentTimeMillis());
+        }
+
+        @Override
+        protected void doCancel() {
+            active = false;
+            Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+            updateNextFireTime(this, -1L);
+        }
+
+        /**
+         * 타이머 스레드에서 호출됩니다. 다음 실행을 먼저 등록한 뒤 작업을 {@link JobDispatcher}로 전달합니다.
+         */
+        private void fire(int gen, long deadlineNanos) {
+            if (!isCurrent(gen)) {
+                return;
+            }
+            long now = System.nanoTime();
+            recorder.recordFireLateness(now - deadlineNanos);
+            ScheduleEvents.fire(jobDefinition.getKey(), policy, now - deadlineNanos);
+            switch (policy.getType()) {
+                case FIXED_RATE -> {
+                    // 한 주기 이상 늦었다면 지나간 예정 시각을 건너뛰어 위상만 유지 (즉시 재발화 폭주 방지)
+                    int missed = 0;
+                    long late = now - nextFireNanos;
+                    if (late >= intervalNanos) {
+                        long periods = late / intervalNanos;
+                        missed = (int) Math.min(periods, misfire.missedLimit());
+                        nextFireNanos += periods * intervalNanos;
+                    }
+                    nextFireNanos += intervalNanos;
+                    arm(nextFireNanos - now, gen);
+                    submit(missed, gen);
+                }
+                case CRON -> {
+                    int missed = countMissedCron(System.currentTimeMillis());
+                    armNextCron(gen);
+                    submit(missed, gen);
+                }
+                case FIXED_DELAY -> {
+                    // 실행이 끝나야 다음 실행 시각이 정해짐
+                    updateNextFireTime(this, -1L);
+                    dispatch(gen, null);
+                }
+            }
+        }
+
+        /**
+         * 이번 만료로 수행할 실행을 미처리 실행 수에 더하고, 실행 중인 것이 없으면 실행을 시작합니다.
+         * 상한을 넘는 실행은 버려집니다.
+         * @param missed 이번 실행 이후의 예정 시각 중 이미 지나간 수
+         */
+        private void submit(int missed, int gen) {
+            AtomicInteger counter = outstanding;
+            int due = misfire.dueFires(missed);
+            int limit = misfire.maxOutstanding();
+            int prev;
+            int accepted;
+            do {
+                prev = counter.get();
+                accepted = Math.min(due, Math.max(0, limit - prev));
+            } while (accepted > 0 && !counter.compareAndSet(prev, prev + accepted));
+            if (accepted < 1 + missed) {
+                recorder.recordOverlap();
+            }
+            if (prev == 0 && accepted > 0) {
+                dispatch(gen, counter);
+            }
+        }
+
+        /**
+         * 현재 예정 시각 이후의 CRON 실행 시각 중 이미 지나간 수를 {@link MisfirePolicy}의 상한까지 셉니다.
+         */
+        private int countMissedCron(long nowMillis) {
+            int missed = 0;
+            long fireTime = nextCronMillis;
+            while (missed < misfire.missedLimit()
+                    && (fireTime = policy.nextFireTime(fireTime, jitterOffset)) >= 0 && fireTime <= nowMillis) {
+                missed++;
+            }
+            return missed;
+        }
+
+        /**
+         * 같은 키의 이전 실행이 끝났는지 확인한 뒤 실행을 진행합니다.
+         * 이전 실행이 남아 있으면 {@link MisfirePolicy#skip()}은 이번 실행을 버리고, 그 외에는 끝날 때까지 대기시킵니다.
+         * @param counter 미처리 실행 수, FIXED_DELAY는 null
+         */
+        private void dispatch(int gen, AtomicInteger counter) {
+            JobDefinitionKey key = jobDefinition.getKey();
+            if (gate.tryEnter(key)) {
+                limit(gen, counter, 1);
+                return;
+            }
+            recorder.recordOverlap();
+            if (misfire.getStrategy() == MisfirePolicy.Strategy.SKIP) {
+                skip(gen, counter);
+                return;
+            }
+            gate.await(key, new RunGate.Waiter() {
+                @Override
+                public void entered() {
+                    if (isCurrent(gen)) {
+                        limit(gen, counter, 1);
+                    } else {
+                        gate.exit(key);
+                    }
+                }
+
+                @Override
+                public void dropped() {
+                    skip(gen, counter);
+                }
+            });
+        }
+
+        /**
+         * 동시 실행 비용 상한이 있으면 비용을 확보한 뒤에 실행을 진행합니다. 확보하지 못한 실행은 스레드를 막지 않고 미뤄집니다.
+         * @param attempt 시도 순번 (첫 실행은 1, 재시도마다 증가)
+         */
+        private void limit(int gen, AtomicInteger counter, int attempt) {
+            if (limiter == null) {
+                lease(gen, counter, attempt);
+                return;
+            }
+            limiter.acquire(cost, () -> {
+                if (isCurrent(gen)) {
+                    lease(gen, counter, attempt);
+                } else {
+                    leave();
+                }
+            });
+        }
+
+        /**
+         * 리스가 필요한 작업은 리스를 획득한 뒤에, 아니면 바로 {@link JobDispatcher}로 전달합니다.
+         */
+        private void lease(int gen, AtomicInteger counter, int attempt) {
+            if (policy.getLease() == null) {
+                send(gen, counter, attempt, null);
+                return;
+            }
+            leases.acquire(jobDefinition.getKey(), policy.getLease(), lease -> {
+                if (isCurrent(gen)) {
+                    send(gen, counter, attempt, lease);
+                } else {
+                    leases.release(lease);
+                    leave();
+                }
+            }, () -> {
+                log.debug("Lease is held by another node; skipping fire. key = {}", jobDefinition.getKey());
+                leave();
+                skip(gen, counter);
+            });
+        }
+
+        /**
+         * {@link JobDispatcher}로 전달합니다. 받지 않았거나, 받은 뒤 실행하지 않고 버린 경우에는 {@link #rejected}로 정리합니다.
+         */
+        private void send(int gen, AtomicInteger counter, int attempt, Lease lease) {
+            long dispatchedNanos = System.nanoTime();
+            try {
+                dispatcher.dispatch(jobDefinition, new RejectableTask() {
+                    @Override
+                    public void run() {
+                        WheelScheduleManager.this.run(gen, counter, attempt, dispatchedNanos, lease);
+                    }
+
+                    @Override
+                    public void reject(RejectedExecutionException cause) {
+                        rejected(gen, counter, lease, cause);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejected(gen, counter, lease, e);
+            }
+        }
+
+        /**
+         * 실행되지 못한 발화의 리스와 비용, 키 점유를 반납하고 버립니다.
+         */
+        private void rejected(int gen, AtomicInteger counter, Lease lease, RejectedExecutionException cause) {
+            log.error("Job execution was rejected by the dispatcher. key = {}", jobDefinition.getKey(), cause);
+            if (lease != null) {
+                leases.release(lease);
+            }
+            leave();
+            skip(gen, counter);
+        }
+
+        /**
+         * 실행하지 못한 발화를 버립니다.
+         */
+        private void skip(int gen, AtomicInteger counter) {
+            if (counter != null) {
+                // 실행 중인 것이 없으므로 밀린 실행도 함께 버리고 다음 예정 시각을 기다림
+                counter.set(0);
+            } else {
+                arm(currentDelayNanos, gen);
+            }
+        }
+
+        /**
+         * 확보한 비용과 키 점유를 반납합니다. 기다리던 실행이 있으면 호출한 스레드에서 이어서 전달됩니다.
+         */
+        private void leave() {
+            if (limiter != null) {
+                limiter.release(cost);
+            }
+            gate.exit(jobDefinition.getKey());
+        }
+
+        private void run(int gen, AtomicInteger counter, int attempt, long dispatchedNanos, Lease lease) {
+            // 호출 스레드에서 바로 실행하는 디스패처가 타이머 스레드를 막지 않도록 차단
+            if (timer.isTimerThread()) {
+                log.error("Job must not run on the timer thread; check the dispatcher. key = {}", jobDefinition.getKey());
+                if (lease != null) {
+                    leases.release(lease);
+                }
+                leave();
+                complete(gen, counter);
+                return;
+            }
+            long startNanos = System.nanoTime();
+            recorder.recordQueueDelay(startNanos - dispatchedNanos);
+            ScheduleEvents.runStart(jobDefinition.getKey(), policy, attempt, startNanos - dispatchedNanos);
+            recordFire(jobDefinition.getKey(), System.currentTimeMillis());
+            if (running.getAndIncrement() > 0) {
+                recorder.recordOverlap();
+            }
+            Execution execution = new Execution(gen, counter, attempt, startNanos, lease);
+            if (lease != null) {
+                renewLater(lease, execution.done);
+            }
+            execution.attach(Thread.currentThread());
+            if (timeoutNanos > 0) {
+                execution.deadline = after(timeoutNanos, () -> expire(execution));
+            }
+            CompletableFuture<?> future;
+            FireResult result = null;
+            try {
+                if (jobDefinition instanceof AsyncJobDefinition async) {
+                    future = start(async, lease);
+                    execution.future = future;
+                } else {
+                    Runnable body = jobDefinition.getRunnable();
+                    if (lease != null) {
+                        Runnable unleased = body;
+                        body = () -> LeaseContext.runWith(lease, unleased);
+                    }
+                    if (adaptive != null) {
+                        result = FireFeedback.capture(body);
+                    } else {
+                        body.run();
+                    }
+                    future = null;
+                }
+            } catch (Throwable t) {
+                execution.detach();
+                log.error("Job execution failed. key = {}, attempt = {}", jobDefinition.getKey(), attempt, t);
+                finish(execution, t, null);
+                return;
+            }
+            execution.detach();
+            if (future == null) {
+                finish(execution, execution.timedOut ? timeoutError() : null, result);
+                return;
+            }
+            // 비동기 작업: 스레드를 반납하고 완료 시점에 마무리
+            inFlight.add(future);
+            if (aborted) {
+                future.cancel(true);
+            } else if (execution.timedOut) {
+                cancelLater(future);
+            }
+            future.whenComplete((value, error) -> {
+                inFlight.remove(future);
+                Throwable failure = execution.timedOut ? timeoutError() : null;
+                if (error instanceof CancellationException) {
+                    log.debug("Job execution was cancelled. key = {}", jobDefinition.getKey());
+                } else if (error != null) {
+                    failure = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    log.error("Job execution failed. key = {}, attempt = {}", jobDefinition.getKey(), attempt, failure);
+                }
+                finish(execution, failure, value instanceof FireResult fireResult ? fireResult : null);
+            });
+        }
+
+        /**
+         * 비동기 작업의 실행을 시작합니다. 리스는 시작하는 동안에만 {@link LeaseContext}로 전달됩니다.
+         */
+        private CompletableFuture<?> start(AsyncJobDefinition async, Lease lease) {
+            CompletionStage<?>[] started = new CompletionStage<?>[1];
+            Runnable begin = () -> started[0] = async.execute();
+            if (lease != null) {
+                LeaseContext.runWith(lease, begin);
+            } else {
+                begin.run();
+            }
+            if (started[0] == null) {
+                throw new IllegalStateException("Async job returned no completion stage.");
+            }
+            return started[0].toCompletableFuture();
+        }
+
+        /**
+         * 실행이 끝난 뒤 리스를 반납하고 지표와 적응형 대기 시간을 갱신한 뒤, 다음 실행으로 넘어갑니다.
+         * 이미 포기한 실행이 뒤늦게 끝난 경우에는 포기한 실행 수만 줄입니다.
+         */
+        private void finish(Execution execution, Throwable error, FireResult result) {
+            if (!execution.state.compareAndSet(Execution.RUNNING, Execution.FINISHED)) {
+                hungRuns.decrementAndGet();
+                log.info("Abandoned job execution has finished. key = {}", jobDefinition.getKey());
+                return;
+            }
+            release(execution, error, result);
+        }
+
+        /**
+         * 실행 시간 제한이 지나면 타이머 스레드에서 호출됩니다. 실행 스레드를 인터럽트하고 비동기 실행은 취소하며,
+         * 같은 시간이 더 지나도 끝나지 않으면 {@link #abandon}합니다.
+         */
+        private void expire(Execution execution) {
+            if (execution.state.get() != Execution.RUNNING) {
+                return;
+            }
+            execution.timedOut = true;
+            recorder.recordTimeout();
+            log.warn("Job execution timed out; interrupting. key = {}, timeout = {}", jobDefinition.getKey(), policy.getTimeout());
+            execution.interrupt();
+            CompletableFuture<?> future = execution.future;
+            if (future != null) {
+                cancelLater(future);
+            }
+            execution.deadline = after(timeoutNanos, () -> abandon(execution));
+        }
+
+        /**
+         * 중단 요청에 응답하지 않는 실행을 포기합니다. 키 점유와 비용, 리스를 반납하여 다음 실행을 진행하며,
+         * 실행 중인 스레드는 작업 본문이 반환할 때까지 돌려받지 못하므로 {@link #getHungRunCount()}로 집계합니다.
+         */
+        private void abandon(Execution execution) {
+            if (!execution.state.compareAndSet(Execution.RUNNING, Execution.ABANDONED)) {
+                return;
+            }
+            hungRuns.incrementAndGet();
+            recorder.recordHung();
+            Thread thread = execution.thread();
+            Throwable trace = new Throwable("Stack trace of the hung job execution");
+            trace.setStackTrace(thread != null ? thread.getStackTrace() : new StackTraceElement[0]);
+            log.error("Job execution ignored the interrupt and was abandoned. key = {}, thread = {}",
+                    jobDefinition.getKey(), thread != null ? thread.getName() : "async", trace);
+            release(execution, timeoutError(), null);
+        }
+
+        /**
+         * 실행의 리스를 반납하고 지표와 적응형 대기 시간을 갱신합니다.
+         * 재시도할 실패이면 키 점유를 유지한 채 {@link #retryLater}로 넘기고, 아니면 점유와 비용을 반납하고 다음 실행으로 넘어갑니다.
+         * @param error 실패 원인, 성공했으면 null
+         */
+        private void release(Execution execution, Throwable error, FireResult result) {
+            boolean retry = false;
+            try {
+                Timeout deadline = execution.deadline;
+                if (deadline != null) {
+                    deadline.cancel();
+                }
+                if (execution.lease != null) {
+                    execution.done.set(true);
+                    leases.release(execution.lease);
+                }
+                running.decrementAndGet();
+                long durationNanos = System.nanoTime() - execution.startNanos;
+                recorder.recordRun(durationNanos, error != null);
+                ScheduleEvents.runEnd(jobDefinition.getKey(), policy, execution.attempt, durationNanos, outcome(execution, error));
+                retry = error != null && retryPolicy != null && execution.state.get() == Execution.FINISHED
+                        && isCurrent(execution.gen) && retryPolicy.shouldRetry(execution.attempt, error);
+                if (adaptive != null && !retry) {
+                    currentDelayNanos = adaptive.nextDelayNanos(currentDelayNanos, error != null ? FireResult.ERROR : result);
+                }
+            } finally {
+                if (retry) {
+                    retryLater(execution);
+                } else {
+                    leave();
+                    complete(execution.gen, execution.counter);
+                }
+            }
+        }
+
+        /**
+         * 비용만 반납하고 키 점유는 유지한 채, 대기 시간 뒤 타이머에서 다음 시도를 진행합니다.
+         */
+        private void retryLater(Execution execution) {
+            int gen = execution.gen;
+            AtomicInteger counter = execution.counter;
+            int attempt = execution.attempt + 1;
+            long backoffNanos = retryPolicy.backoffNanos(execution.attempt);
+            if (limiter != null) {
+                limiter.release(cost);
+            }
+            recorder.recordRetry();
+            log.warn("Retrying the failed job execution. key = {}, attempt = {}, backoff = {}ms",
+                    jobDefinition.getKey(), attempt, TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+            Timeout retry = after(backoffNanos, () -> {
+                if (isCurrent(gen)) {
+                    limit(gen, counter, attempt);
+                } else {
+                    gate.exit(jobDefinition.getKey());
+                    complete(gen, counter);
+                }
+            });
+            if (retry == null) {
+                gate.exit(jobDefinition.getKey());
+                complete(gen, counter);
+            }
+        }
+
+        /**
+         * 시간 제한으로 끝난 실행의 실패 원인입니다. {@link RetryPolicy}의 재시도 조건에 전달됩니다.
+         */
+        private TimeoutException timeoutError() {
+            return new TimeoutException("Job execution timed out after " + policy.getTimeout() + ".");
+        }
+
+        /**
+         * 실행 종료 이벤트에 기록할 결과입니다.
+         */
+        private String outcome(Execution execution, Throwable error) {
+            if (error == null) {
+                return ScheduleEvents.SUCCESS;
+            }
+            if (execution.state.get() == Execution.ABANDONED) {
+                return ScheduleEvents.ABANDONED;
+            }
+            return execution.timedOut ? ScheduleEvents.TIMEOUT : ScheduleEvents.FAILURE;
+        }
+
+        /**
+         * 취소에 연결된 후속 작업이 타이머 스레드를 막지 않도록 공용 풀에서 취소합니다.
+         */
+        private void cancelLater(CompletableFuture<?> future) {
+            CompletableFuture.runAsync(() -> future.cancel(true));
+        }
+
+        /**
+         * 지정한 시간 뒤 타이머 스레드에서 작업을 실행합니다. 스케줄러가 닫혔으면 null입니다.
+         */
+        private Timeout after(long delayNanos, Runnable task) {
+            if (closed) {
+                return null;
+            }
+            try {
+                return timer.newTimeout(expired -> task.run(), delayNanos, TimeUnit.NANOSECONDS);
+            } catch (IllegalStateException e) {
+                // close()와 경합한 경우: 타이머가 이미 종료됨
+                return null;
+            }
+        }
+
+        @Override
+        protected void abortRunning() {
+            aborted = true;
+            inFlight.forEach(future -> future.cancel(true));
+        }
+
+        /**
+         * 실행이 끝난 뒤 FIXED_DELAY는 다음 실행을 등록하고, 그 외에는 대기 중인 실행을 이어서 전달합니다.
+         */
+        private void complete(int gen, AtomicInteger counter) {
+            if (counter == null) {
+                arm(currentDelayNanos, gen);
+            } else if (counter.decrementAndGet() > 0 && isCurrent(gen)) {
+                dispatch(gen, counter);
+            }
+        }
+
+        /**
+         * 리스 유지 시간의 1/3마다 실행이 끝날 때까지 리스를 갱신합니다.
+         */
+        private void renewLater(Lease lease, AtomicBoolean done) {
+            if (closed) {
+                return;
+            }
+            try {
+                timer.newTimeout(expired -> {
+                    if (!done.get()) {
+                        leases.renew(lease, done, () -> renewLater(lease, done));
+                    }
+                }, lease.getTtl().toNanos() / 3, TimeUnit.NANOSECONDS);
+            } catch (IllegalStateException e) {
+                // close()와 경합한 경우: 타이머가 이미 종료됨
+            }
+        }
+
+        private void armNextCron(int gen) {
+            long now = System.currentTimeMillis();
+            // 타이머가 벽시계보다 조금 일찍 만료되어도 같은 시각을 다시 등록하지 않도록 보정
+            long next = policy.nextFireTime(Math.max(now, nextCronMillis), jitterOffset);
+            if (next < 0) {
+                log.warn("Cron expression has no further fire time. key = {}, expression = {}",
+                        jobDefinition.getKey(), policy.getExpression());
+                updateNextFireTime(this, -1L);
+                return;
+            }
+            nextCronMillis = next;
+            arm(TimeUnit.MILLISECONDS.toNanos(next - now), gen);
+        }
+
+        private void arm(long delayNanos, int gen) {
+            if (!isCurrent(gen) || closed) {
+                return;
+            }
+            long deadlineNanos = System.nanoTime() + delayNanos;
+            Timeout next;
+            try {
+                next = timer.newTimeout(expired -> fire(gen, deadlineNanos), delayNanos, TimeUnit.NANOSECONDS);
+            } catch (IllegalStateException e) {
+                // close()와 경합한 경우: 타이머가 이미 종료됨
+                return;
+            }
+            timeout = next;
+            updateNextFireTime(this, System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(delayNanos));
+            // doCancel과의 경합: 취소가 먼저 반영된 경우 방금 등록한 타이머와 예정 시각도 취소
+            if (!isCurrent(gen)) {
+                next.cancel();
+                updateNextFireTime(this, -1L);
+            }
+        }
+
+        private boolean isCurrent(int gen) {
+            return active && generation == gen;
+        }
+
+        /**
+         * 실행 하나의 상태입니다. 정상 종료와 포기 중 먼저 일어난 쪽만 자원을 반납합니다.
+         */
+        private final class Execution {
+            private static final int RUNNING = 0;
+            private static final int FINISHED = 1;
+            private static final int ABANDONED = 2;
+
+            private final int gen;
+            private final AtomicInteger counter;
+            private final int attempt;
+            private final long startNanos;
+            private final Lease lease;
+            private final AtomicInteger state = new AtomicInteger(RUNNING);
+            /** 리스 갱신 중단 여부 */
+            private final AtomicBoolean done = new AtomicBoolean();
+            /** 작업 본문을 실행 중인 스레드, 본문이 반환하면 null */
+            private Thread thread;
+            private volatile CompletableFuture<?> future;
+            /** 시간 제한 또는 포기 타이머 */
+            private volatile Timeout deadline;
+            private volatile boolean timedOut;
+
+            private Execution(int gen, AtomicInteger counter, int attempt, long startNanos, Lease lease) {
+                this.gen = gen;
+                this.counter = counter;
+                this.attempt = attempt;
+                this.startNanos = startNanos;
+                this.lease = lease;
+            }
+
+            private synchronized void attach(Thread thread) {
+                this.thread = thread;
+            }
+
+            private synchronized Thread thread() {
+                return thread;
+            }
+
+            /**
+             * 본문이 반환한 뒤 호출합니다. 이후에는 인터럽트하지 않으며, 이미 전달된 인터럽트는 풀의 다음 작업에 남지 않도록 지웁니다.
+             */
+            private void detach() {
+                synchronized (this) {
+                    thread = null;
+                }
+                if (timedOut) {
+                    Thread.interrupted();
+                }
+            }
+
+            private synchronized void interrupt() {
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+        }
+    }
+}
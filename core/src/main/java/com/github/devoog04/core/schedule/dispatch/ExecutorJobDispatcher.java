@@ -0,0 +1,35 @@
+package com.github.devoog04.core.schedule.dispatch;
+
+import com.github.devoog04.core.definition.JobDefinition;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 외부에서 주입된 {@link Executor}(플랫폼 스레드 풀 등)로 작업을 전달하는 {@link JobDispatcher}입니다.
+ * <p>{@link Executor}의 생명주기는 주입한 쪽에서 관리합니다.</p>
+ */
+public class ExecutorJobDispatcher implements JobDispatcher {
+    private final Executor executor;
+    private volatile boolean closed;
+
+    public ExecutorJobDispatcher(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor is required.");
+        }
+        this.executor = executor;
+    }
+
+    @Override
+    public void dispatch(JobDefinition definition, Runnable task) throws RejectedExecutionException {
+        if (closed) {
+            throw new RejectedExecutionException("Dispatcher has already been closed.");
+        }
+        executor.execute(task);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
@@ -0,0 +1,314 @@
+package com.github.devoog04.core.schedule.dispatch;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link JobDefinitionKey#getGroup() 그룹}별 실행 큐를 두고 그룹 사이에 실행 기회를 가중치대로 나누는 {@link JobDispatcher}입니다.
+ * <p>한 그룹의 작업이 한꺼번에 몰려도 다른 그룹의 작업이 그 뒤에 줄을 서지 않도록 하기 위한 실행 모드입니다.
+ * <ul>
+ * <li><b>가중 공정 분배:</b> 그룹마다 가상 시각을 두고 실행할 때마다 {@code 1 / weight}만큼 늘려, 가상 시각이 가장 작은 그룹의
+ * 작업을 먼저 시작합니다(stride scheduling). 쉬던 그룹은 현재 가상 시각에서 다시 시작하므로 밀린 몫을 몰아서 쓰지 않습니다.</li>
+ * <li><b>그룹 상한:</b> {@code quota}가 지정된 그룹은 동시에 그 수만큼만 실행되며, 나머지는 그룹 큐에서 기다립니다.</li>
+ * <li><b>작업 훔치기:</b> 선택된 작업은 work-stealing 방식의 {@link ForkJoinPool}에서 실행되어 쉬는 워커가 다른 워커의 작업을 가져갑니다.
+ * 풀에는 워커 수만큼만 넘기므로 순서는 항상 그룹 큐에서 결정되고 풀 안에 대기열이 쌓이지 않습니다.</li>
+ * </ul>
+ * 그룹 큐 조작은 짧은 임계 구역에서만 이루어지며 {@link #dispatch}는 블로킹 없이 반환합니다.</p>
+ */
+@Slf4j
+public class FairGroupJobDispatcher implements JobDispatcher {
+    /** 그룹을 지정하지 않은 작업이 속하는 그룹 */
+    public static final String DEFAULT_GROUP = "default";
+    public static final String THREAD_NAME_PREFIX = "collector-fair-";
+    /** 가중치 1인 그룹이 한 번 실행할 때 늘어나는 가상 시각 */
+    private static final long STRIDE = 1L << 20;
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final int defaultWeight;
+    private final int defaultQuota;
+    private final Map<String, Integer> weights;
+    private final Map<String, Integer> quotas;
+    private final ConcurrentMap<String, Group> groups = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 실행할 작업이 있고 상한에 걸리지 않은 그룹, 가상 시각 순 */
+    private final PriorityQueue<Group> ready = new PriorityQueue<>(
+            Comparator.<Group>comparingLong(group -> group.pass).thenComparingLong(group -> group.sequence));
+    private final AtomicInteger groupSequence = new AtomicInteger();
+    /** 가장 최근에 시작한 작업의 가상 시각 */
+    private long virtualTime;
+    /** 풀에 넘긴 뒤 끝나지 않은 작업 수 */
+    private int inFlight;
+    private volatile boolean closed;
+
+    /**
+     * @param parallelism   워커 스레드 수, 미지정 시 가용 프로세서 수
+     * @param weights       그룹별 가중치 (1 이상), 미지정 시 모든 그룹이 {@code defaultWeight}
+     * @param quotas        그룹별 동시 실행 상한 (1 이상), 미지정 시 모든 그룹이 {@code defaultQuota}
+     * @param defaultWeight 가중치가 지정되지 않은 그룹의 가중치, 미지정 시 1
+     * @param defaultQuota  상한이 지정되지 않은 그룹의 동시 실행 상한, 미지정 시 제한 없음
+     */
+    @Builder
+    private FairGroupJobDispatcher(Integer parallelism, Map<String, Integer> weights,
+                                   Map<String, Integer> quotas, Integer defaultWeight, Integer defaultQuota) {
+        this.parallelism = parallelism != null ? parallelism : Runtime.getRuntime().availableProcessors();
+        if (this.parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive.");
+        }
+        this.defaultWeight = defaultWeight != null ? defaultWeight : 1;
+        this.defaultQuota = defaultQuota != null ? defaultQuota : Integer.MAX_VALUE;
+        this.weights = weights != null ? Map.copyOf(weights) : Map.of();
+        this.quotas = quotas != null ? Map.copyOf(quotas) : Map.of();
+        if (this.defaultWeight <= 0 || this.weights.values().stream().anyMatch(weight -> weight <= 0)) {
+            throw new IllegalArgumentException("weight must be positive.");
+        }
+        if (this.defaultQuota <= 0 || this.quotas.values().stream().anyMatch(quota -> quota <= 0)) {
+            throw new IllegalArgumentException("quota must be positive.");
+        }
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.pool = new ForkJoinPool(this.parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName(THREAD_NAME_PREFIX + threadSequence.incrementAndGet());
+            return thread;
+        }, null, true);
+    }
+
+    @Override
+    public void dispatch(JobDefinition definition, Runnable task) throws RejectedExecutionException {
+        if (closed) {
+            throw new RejectedExecutionException("Dispatcher has already been closed.");
+        }
+        Group group = groups.computeIfAbsent(groupOf(definition.getKey()), this::newGroup);
+        List<Start> starts;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new RejectedExecutionException("Dispatcher has already been closed.");
+            }
+            group.tasks.add(task);
+            offer(group);
+            starts = pump();
+        } finally {
+            lock.unlock();
+        }
+        execute(starts);
+    }
+
+    /**
+     * 현재 실행 중인 작업 수를 반환합니다.
+     */
+    public int getRunningCount() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 그룹 큐에서 실행을 기다리는 작업 수를 반환합니다.
+     */
+    public int getWaitingCount() {
+        lock.lock();
+        try {
+            return groups.values().stream().mapToInt(group -> group.tasks.size()).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 그룹에서 실행 중인 작업 수를 반환합니다.
+     */
+    public int getRunningCount(String group) {
+        Group target = groups.get(group);
+        if (target == null) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            return target.running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 새 작업 수신을 중단하고 대기 중인 작업을 거부합니다. 이미 시작된 작업은 계속 실행됩니다.
+     */
+    @Override
+    public void close() {
+        List<Runnable> dropped = new ArrayList<>();
+        lock.lock();
+        try {
+            closed = true;
+            ready.clear();
+            groups.values().forEach(group -> {
+                dropped.addAll(group.tasks);
+                group.tasks.clear();
+            });
+        } finally {
+            lock.unlock();
+        }
+        pool.shutdown();
+        RejectedExecutionException cause = new RejectedExecutionException("Dispatcher has been closed.");
+        dropped.forEach(task -> reject(task, cause));
+    }
+
+    private String groupOf(JobDefinitionKey key) {
+        String group = key.getGroup();
+        return group != null ? group : DEFAULT_GROUP;
+    }
+
+    private Group newGroup(String name) {
+        return new Group(name, weights.getOrDefault(name, defaultWeight), quotas.getOrDefault(name, defaultQuota),
+                groupSequence.incrementAndGet());
+    }
+
+    /**
+     * 실행할 작업이 있고 상한에 걸리지 않은 그룹을 준비 큐에 넣습니다. 락을 잡은 상태에서 호출합니다.
+     */
+    private void offer(Group group) {
+        if (group.queued || group.tasks.isEmpty() || group.running >= group.quota) {
+            return;
+        }
+        group.pass = Math.max(group.pass, virtualTime);
+        group.queued = true;
+        ready.add(group);
+    }
+
+    /**
+     * 워커 수만큼 채워질 때까지 가상 시각이 가장 작은 그룹의 작업을 꺼냅니다. 락을 잡은 상태에서 호출합니다.
+     */
+    private List<Start> pump() {
+        List<Start> starts = null;
+        while (inFlight < parallelism) {
+            Group group = ready.poll();
+            if (group == null) {
+                break;
+            }
+            group.queued = false;
+            Runnable task = group.tasks.poll();
+            group.running++;
+            inFlight++;
+            virtualTime = group.pass;
+            group.pass += group.stride;
+            offer(group);
+            if (starts == null) {
+                starts = new ArrayList<>();
+            }
+            starts.add(new Start(group, task));
+        }
+        return starts != null ? starts : List.of();
+    }
+
+    private void complete(Group group) {
+        List<Start> starts;
+        lock.lock();
+        try {
+            group.running--;
+            inFlight--;
+            if (closed) {
+                return;
+            }
+            offer(group);
+            starts = pump();
+        } finally {
+            lock.unlock();
+        }
+        execute(starts);
+    }
+
+    /**
+     * 락 밖에서 풀에 넘깁니다. 워커 스레드에서 호출되면 해당 워커의 큐에 들어가고 쉬는 워커가 가져갑니다.
+     */
+    private void execute(List<Start> starts) {
+        for (Start start : starts) {
+            try {
+                pool.execute(start);
+            } catch (RejectedExecutionException e) {
+                // close()와 경합한 경우: 시작하지 못한 작업은 거부하고, 닫힌 뒤이므로 다음 작업을 꺼내지 않음
+                log.warn("Fair dispatcher pool rejected a task during shutdown. group = {}", start.group);
+                lock.lock();
+                try {
+                    start.group.running--;
+                    inFlight--;
+                } finally {
+                    lock.unlock();
+                }
+                reject(start.task, e);
+            }
+        }
+    }
+
+    private void reject(Runnable task, RejectedExecutionException cause) {
+        try {
+            JobDispatcher.reject(task, cause);
+        } catch (RuntimeException e) {
+            log.error("Failed to reject a dropped task.", e);
+        }
+    }
+
+    /**
+     * 풀에 넘기는 실행 단위입니다. 끝나면 그룹의 실행 수를 돌려주고 다음 작업을 꺼냅니다.
+     */
+    private final class Start implements Runnable {
+        private final Group group;
+        private final Runnable task;
+
+        private Start(Group group, Runnable task) {
+            this.group = group;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } finally {
+                complete(group);
+            }
+        }
+    }
+
+    private static final class Group {
+        private final String name;
+        private final long stride;
+        private final int quota;
+        private final long sequence;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private long pass;
+        private int running;
+        private boolean queued;
+
+        private Group(String name, int weight, int quota, long sequence) {
+            this.name = name;
+            this.stride = STRIDE / weight;
+            this.quota = quota;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
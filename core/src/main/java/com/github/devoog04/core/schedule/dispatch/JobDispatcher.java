@@ -0,0 +1,58 @@
+package com.github.devoog04.core.schedule.dispatch;
+
+import com.github.devoog04.core.definition.JobDefinition;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 타이머가 만료시킨 작업의 본문을 실제로 실행할 위치를 결정하는 인터페이스입니다.
+ * <p>{@link #dispatch}는 타이머 스레드에서 호출되므로 구현체는 블로킹 없이 즉시 반환해야 하며,
+ * 전달받은 작업을 호출 스레드에서 직접 실행해서는 안 됩니다.</p>
+ * <p>예외 없이 받은 작업은 반드시 실행하거나, 실행하지 않고 버린다면(종료, 스레드 생성 실패 등) {@link #reject}로
+ * 스케줄러에 돌려주어야 합니다. 그렇지 않으면 해당 키의 점유와 리스가 반납되지 않아 다시 실행되지 않습니다.</p>
+ */
+public interface JobDispatcher extends AutoCloseable {
+
+    /**
+     * 작업 실행을 요청합니다.
+     * @param definition 실행 대상 작업 정의 (그룹, 로깅 등 참조용)
+     * @param task       실제로 실행할 작업 (스케줄러가 감싼 실행 로직)
+     * @throws RejectedExecutionException 디스패처가 종료되었거나 작업을 수용할 수 없는 경우,
+     *                                    이번 호출의 {@code task}를 받지 않았다는 뜻이며 이미 받은 다른 작업의 실패를 전하지 않음
+     */
+    void dispatch(JobDefinition definition, Runnable task) throws RejectedExecutionException;
+
+    /**
+     * 새 작업 수신을 중단합니다. 외부에서 주입된 실행 자원은 종료하지 않습니다.
+     * 받은 뒤 시작하지 않은 작업을 버린다면 {@link #reject}로 돌려줍니다.
+     */
+    @Override
+    void close();
+
+    /**
+     * 받은 작업을 실행하지 않고 버렸음을 스케줄러에 알립니다. {@link RejectableTask}가 아니면 아무 일도 하지 않습니다.
+     * @param task  {@link #dispatch}로 받은 작업
+     * @param cause 버린 이유
+     */
+    static void reject(Runnable task, RejectedExecutionException cause) {
+        if (task instanceof RejectableTask rejectable) {
+            rejectable.reject(cause);
+        }
+    }
+
+    /**
+     * 플랫폼 스레드 풀 등 기존 {@link Executor}로 작업을 전달하는 디스패처를 생성합니다.
+     */
+    static JobDispatcher executor(Executor executor) {
+        return new ExecutorJobDispatcher(executor);
+    }
+
+    /**
+     * 실행마다 가상 스레드를 생성하는 디스패처를 생성합니다. (Java 21 이상 필요)
+     * @param maxConcurrency 동시 실행 상한, 0 이하이면 제한 없음
+     */
+    static JobDispatcher virtualThreads(int maxConcurrency) {
+        return new VirtualThreadJobDispatcher(maxConcurrency);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.devoog04.core.schedule.dispatch;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 가상 스레드가 캐리어 스레드를 고정(pinning)한 작업을 찾아내기 위한 진단 도구입니다.
+ * <p>JFR의 {@code jdk.VirtualThreadPinned} 이벤트를 인프로세스 스트림으로 구독하며,
+ * {@link VirtualThreadJobDispatcher}가 부여한 스레드 이름에서 작업 키를 추출하여 키별 고정 횟수를 집계합니다.
+ * {@code synchronized} 블록 안의 블로킹 I/O 등 고정을 일으키는 수집 작업을 찾는 데 사용합니다.</p>
+ * <p>가상 스레드를 지원하지 않는 런타임에서는 이벤트가 발생하지 않으므로 아무 동작도 하지 않습니다.</p>
+ */
+@Slf4j
+public class PinnedThreadMonitor implements AutoCloseable {
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Consumer<PinnedEvent> listener;
+    private final Map<String, LongAdder> pinnedCounts = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    /**
+     * @param threshold 이 시간 이상 고정된 경우만 보고합니다.
+     * @param listener  고정 이벤트를 추가로 전달받을 콜백 (nullable)
+     */
+    public PinnedThreadMonitor(Duration threshold, Consumer<PinnedEvent> listener) {
+        this.threshold = threshold != null ? threshold : Duration.ofMillis(20);
+        this.listener = listener;
+    }
+
+    /**
+     * JFR 이벤트 구독을 시작합니다.
+     */
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        stream = recordingStream;
+    }
+
+    /**
+     * 작업 키(문자열 표현)별 누적 고정 횟수를 반환합니다.
+     */
+    public Map<String, Long> getPinnedCounts() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        pinnedCounts.forEach((key, count) -> counts.put(key, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        String threadName = thread != null ? thread.getJavaName() : null;
+        if (threadName == null || !threadName.startsWith(VirtualThreadJobDispatcher.THREAD_NAME_PREFIX)) {
+            return;
+        }
+        String key = threadName.substring(VirtualThreadJobDispatcher.THREAD_NAME_PREFIX.length());
+        pinnedCounts.computeIfAbsent(key, k -> new LongAdder()).increment();
+
+        String stackTrace = format(event.getStackTrace());
+        log.warn("Virtual thread pinned its carrier. key = {}, duration = {}\n{}", key, event.getDuration(), stackTrace);
+        if (listener != null) {
+            listener.accept(new PinnedEvent(key, event.getDuration(), stackTrace));
+        }
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        int count = 0;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (count++ == MAX_LOGGED_FRAMES) {
+                builder.append("\t...\n");
+                break;
+            }
+            builder.append("\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 고정 이벤트 정보입니다.
+     * @param key        작업 키의 문자열 표현
+     * @param duration   고정 시간
+     * @param stackTrace 고정 시점의 스택 (상위 일부 프레임)
+     */
+    public record PinnedEvent(String key, Duration duration, String stackTrace) {
+    }
+}
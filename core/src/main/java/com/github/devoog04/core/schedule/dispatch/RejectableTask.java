@@ -0,0 +1,17 @@
+package com.github.devoog04.core.schedule.dispatch;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 디스패처가 받은 뒤 실행하지 못하고 버릴 때 알림을 받는 작업입니다.
+ * <p>스케줄러가 {@link JobDispatcher#dispatch}에 넘기는 작업은 이 인터페이스를 구현하며, 거부되면 실행을 위해 확보한
+ * 키 점유, 동시 실행 비용, 리스를 반납합니다. 디스패처는 {@link JobDispatcher#reject}로 알립니다.</p>
+ */
+public interface RejectableTask extends Runnable {
+
+    /**
+     * 작업이 실행되지 않고 버려졌음을 알립니다. 작업마다 최대 한 번, 임의의 스레드에서 호출되며 블로킹하지 않습니다.
+     * @param cause 버려진 이유
+     */
+    void reject(RejectedExecutionException cause);
+}
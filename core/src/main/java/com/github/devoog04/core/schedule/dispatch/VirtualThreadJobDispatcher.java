@@ -0,0 +1,166 @@
+package com.github.devoog04.core.schedule.dispatch;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업 실행마다 새 가상 스레드(Virtual Thread)를 생성하는 {@link JobDispatcher}입니다.
+ * <p>블로킹 I/O 위주의 수집 작업이 풀 크기에 묶이지 않도록 하기 위한 실행 모드입니다.
+ * <ul>
+ * <li><b>동시 실행 상한:</b> {@code maxConcurrency}가 지정되면 초과된 실행은 대기 큐에 쌓이고,
+ * 실행 중인 작업이 끝날 때 순서대로 시작됩니다. 타이머 스레드는 대기하지 않습니다.</li>
+ * <li><b>스레드 이름:</b> 각 가상 스레드는 {@code collector-vt-<key>} 형태의 이름을 가지며,
+ * {@link PinnedThreadMonitor}가 이 이름으로 캐리어 스레드를 고정(pinning)한 작업을 식별합니다.</li>
+ * </ul>
+ * 가상 스레드는 Java 21 이상에서만 사용할 수 있으며, 그 이하 런타임에서는 생성 시 예외가 발생합니다.</p>
+ */
+@Slf4j
+public class VirtualThreadJobDispatcher implements JobDispatcher {
+    public static final String THREAD_NAME_PREFIX = "collector-vt-";
+
+    private final ThreadFactory threadFactory;
+    private final int maxConcurrency;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Queue<NamedTask> waitingTasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+
+    /**
+     * @param maxConcurrency 동시 실행 상한, 0 이하이면 제한 없음
+     * @throws UnsupportedOperationException 런타임이 가상 스레드를 지원하지 않는 경우
+     */
+    public VirtualThreadJobDispatcher(int maxConcurrency) {
+        this(virtualThreadFactory(), maxConcurrency);
+    }
+
+    VirtualThreadJobDispatcher(ThreadFactory threadFactory, int maxConcurrency) {
+        this.threadFactory = threadFactory;
+        this.maxConcurrency = maxConcurrency > 0 ? maxConcurrency : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void dispatch(JobDefinition definition, Runnable task) throws RejectedExecutionException {
+        if (closed) {
+            throw new RejectedExecutionException("Dispatcher has already been closed.");
+        }
+        NamedTask named = new NamedTask(THREAD_NAME_PREFIX + definition.getKey(), task);
+        waitingTasks.add(named);
+        // close()가 큐를 비운 뒤에 넣었다면 이번 작업은 받지 않은 것으로 처리
+        if (closed && waitingTasks.remove(named)) {
+            throw new RejectedExecutionException("Dispatcher has already been closed.");
+        }
+        drain();
+    }
+
+    /**
+     * 현재 실행 중인 작업 수를 반환합니다.
+     */
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    /**
+     * 동시 실행 상한으로 인해 대기 중인 작업 수를 반환합니다.
+     */
+    public int getWaitingCount() {
+        return waitingTasks.size();
+    }
+
+    /**
+     * 새 작업 수신을 중단하고 대기 중인 작업을 거부합니다. 이미 시작된 가상 스레드는 계속 실행됩니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        RejectedExecutionException cause = new RejectedExecutionException("Dispatcher has been closed.");
+        NamedTask waiting;
+        while ((waiting = waitingTasks.poll()) != null) {
+            reject(waiting, cause);
+        }
+    }
+
+    /**
+     * 허용량이 남아 있는 동안 대기 큐의 작업을 가상 스레드로 시작합니다.
+     * 실행을 마친 가상 스레드에서도 호출되므로 예외를 던지지 않으며, 시작하지 못한 작업은 거부합니다.
+     */
+    private void drain() {
+        while (!waitingTasks.isEmpty()) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            NamedTask task = waitingTasks.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            start(task);
+        }
+    }
+
+    private void start(NamedTask task) {
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    running.decrementAndGet();
+                    drain();
+                }
+            }).start();
+        } catch (Throwable t) {
+            running.decrementAndGet();
+            log.error("Failed to start a virtual thread. thread = {}", task.threadName, t);
+            reject(task, new RejectedExecutionException("Failed to start a virtual thread.", t));
+        }
+    }
+
+    private void reject(NamedTask task, RejectedExecutionException cause) {
+        try {
+            JobDispatcher.reject(task.task, cause);
+        } catch (RuntimeException e) {
+            log.error("Failed to reject a dropped task. thread = {}", task.threadName, e);
+        }
+    }
+
+    /**
+     * {@code Thread.ofVirtual().factory()}를 리플렉션으로 조회합니다. (Java 17 바이트코드 호환 유지)
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class).invoke(builder, THREAD_NAME_PREFIX);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later.", e);
+        }
+    }
+
+    /**
+     * 실행할 가상 스레드의 이름을 붙인 작업입니다.
+     */
+    private static final class NamedTask implements Runnable {
+        private final String threadName;
+        private final Runnable task;
+
+        private NamedTask(String threadName, Runnable task) {
+            this.threadName = threadName;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            Thread.currentThread().setName(threadName);
+            task.run();
+        }
+    }
+}
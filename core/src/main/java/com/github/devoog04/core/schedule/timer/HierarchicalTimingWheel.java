@@ -0,0 +1,238 @@
+package com.github.devoog04.core.schedule.timer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 계층형 해시 타이밍 휠(Hierarchical Hashed Timing Wheel) 기반의 단일 스레드 타이머입니다.
+ * <p>이 클래스는 다음과 같은 특성을 가집니다:
+ * <ul>
+ * <li><b>O(1) 등록/취소:</b> 등록과 취소는 락 없는 큐에 항목을 넣는 것으로 끝나며,
+ * 휠 버킷 반영은 타이머 스레드가 다음 틱에 일괄 처리합니다.</li>
+ * <li><b>계층 구조:</b> 각 레벨은 {@code ticksPerWheel}개의 슬롯을 가지며, 상위 레벨의 한 슬롯은
+ * 하위 레벨 한 바퀴에 해당합니다. 하위 레벨이 한 바퀴를 돌 때마다 상위 레벨 슬롯을 하위로 내려 재배치(cascade)합니다.</li>
+ * <li><b>정밀도:</b> 만료 시점은 틱 단위로 올림되므로 최대 1틱만큼 늦게 만료될 수 있습니다.</li>
+ * </ul>
+ * {@link TimerTask}는 타이머 스레드에서 실행되므로 즉시 반환되어야 합니다.</p>
+ */
+@Slf4j
+public class HierarchicalTimingWheel implements AutoCloseable {
+    private static final int ST_INIT = 0;
+    private static final int ST_STARTED = 1;
+    private static final int ST_SHUTDOWN = 2;
+
+    @Getter
+    private final long tickNanos;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final int maxLevels;
+    /** 레벨별 버킷 배열입니다. 상위 레벨은 필요할 때 생성됩니다. (타이머 스레드 전용) */
+    private final Timeout.Bucket[][] levels;
+
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(ST_INIT);
+    private final Thread workerThread;
+    private final long startNanos;
+
+    /** 마지막으로 처리한 틱 (타이머 스레드 전용) */
+    private long currentTick;
+
+    /**
+     * @param tickDuration  한 틱의 길이 (타이머 해상도)
+     * @param ticksPerWheel 레벨당 슬롯 수. 2의 거듭제곱으로 올림됩니다.
+     * @param threadName    타이머 스레드 이름
+     */
+    public HierarchicalTimingWheel(Duration tickDuration, int ticksPerWheel, String threadName) {
+        if (tickDuration == null || tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive.");
+        }
+        if (ticksPerWheel < 2 || ticksPerWheel > (1 << 16)) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 2 and 65536.");
+        }
+        this.tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), tickDuration.toNanos());
+        this.wheelBits = 32 - Integer.numberOfLeadingZeros(ticksPerWheel - 1);
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.maxLevels = (63 + wheelBits - 1) / wheelBits;
+        this.levels = new Timeout.Bucket[maxLevels][];
+        this.levels[0] = newWheel();
+        this.startNanos = System.nanoTime();
+        this.workerThread = new Thread(this::runWorker, threadName);
+        this.workerThread.setDaemon(true);
+    }
+
+    /**
+     * 지정한 지연 시간 이후 타이머 스레드에서 실행될 작업을 등록합니다.
+     * @return 취소에 사용할 수 있는 {@link Timeout}
+     */
+    public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new IllegalArgumentException("task is required.");
+        }
+        start();
+        long deadlineNanos = System.nanoTime() + Math.max(0, unit.toNanos(delay)) - startNanos;
+        // 만료 시점보다 일찍 실행되지 않도록 틱 단위 올림
+        long deadlineTick = (deadlineNanos + tickNanos - 1) / tickNanos;
+        Timeout timeout = new Timeout(this, task, deadlineTick);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 타이머를 중지합니다. 아직 만료되지 않은 모든 작업은 실행되지 않습니다.
+     */
+    @Override
+    public void close() {
+        if (state.getAndSet(ST_SHUTDOWN) == ST_SHUTDOWN) {
+            return;
+        }
+        if (Thread.currentThread() == workerThread) {
+            return;
+        }
+        workerThread.interrupt();
+        try {
+            workerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isTimerThread() {
+        return Thread.currentThread() == workerThread;
+    }
+
+    void cancelled(Timeout timeout) {
+        cancelledTimeouts.add(timeout);
+    }
+
+    private void start() {
+        int current = state.get();
+        if (current == ST_INIT && state.compareAndSet(ST_INIT, ST_STARTED)) {
+            workerThread.start();
+        } else if (current == ST_SHUTDOWN) {
+            throw new IllegalStateException("Timer has already been shut down.");
+        }
+    }
+
+    private void runWorker() {
+        while (state.get() == ST_STARTED) {
+            long nowTick = (System.nanoTime() - startNanos) / tickNanos;
+            while (currentTick < nowTick) {
+                processTick(currentTick + 1);
+            }
+            long sleepNanos = (currentTick + 1) * tickNanos - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+            }
+        }
+    }
+
+    private void processTick(long tick) {
+        currentTick = tick;
+        int index = (int) (tick & wheelMask);
+        if (index == 0) {
+            cascade(1, tick);
+        }
+        transferPendingTimeouts();
+        removeCancelledTimeouts();
+        expire(levels[0][index], tick);
+    }
+
+    /**
+     * 하위 레벨이 한 바퀴를 돌았을 때 상위 레벨의 현재 슬롯을 하위 레벨로 재배치합니다.
+     */
+    private void cascade(int level, long tick) {
+        if (level >= maxLevels) {
+            return;
+        }
+        int index = (int) ((tick >>> (wheelBits * level)) & wheelMask);
+        // 상위 레벨은 필요할 때만 생성되므로 중간 레벨이 비어 있을 수 있음
+        Timeout timeout = levels[level] != null ? levels[level][index].drain() : null;
+        while (timeout != null) {
+            Timeout next = detach(timeout);
+            if (!timeout.isCancelled()) {
+                place(timeout);
+            }
+            timeout = next;
+        }
+        if (index == 0) {
+            cascade(level + 1, tick);
+        }
+    }
+
+    private void expire(Timeout.Bucket bucket, long tick) {
+        Timeout timeout = bucket.drain();
+        while (timeout != null) {
+            Timeout next = detach(timeout);
+            if (timeout.deadlineTick <= tick) {
+                try {
+                    timeout.expire();
+                } catch (Throwable t) {
+                    log.warn("An exception was thrown by a timer task.", t);
+                }
+            } else if (!timeout.isCancelled()) {
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            timeout.unlink();
+        }
+    }
+
+    /**
+     * 남은 틱 수에 맞는 레벨과 슬롯에 항목을 배치합니다.
+     */
+    private void place(Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta <= 0) {
+            levels[0][(int) (currentTick & wheelMask)].add(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < maxLevels - 1 && (delta >>> (wheelBits * (level + 1))) != 0) {
+            level++;
+        }
+        if (levels[level] == null) {
+            levels[level] = newWheel();
+        }
+        int index = (int) ((timeout.deadlineTick >>> (wheelBits * level)) & wheelMask);
+        levels[level][index].add(timeout);
+    }
+
+    private static Timeout detach(Timeout timeout) {
+        Timeout next = timeout.next;
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = null;
+        return next;
+    }
+
+    private Timeout.Bucket[] newWheel() {
+        Timeout.Bucket[] wheel = new Timeout.Bucket[wheelMask + 1];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Timeout.Bucket();
+        }
+        return wheel;
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.devoog04.core.schedule.timer;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * {@link HierarchicalTimingWheel}에 등록된 단일 타이머 항목입니다.
+ * <p>버킷의 이중 연결 리스트에 직접 연결되는 침투형(intrusive) 노드이므로,
+ * 버킷 삽입과 제거가 모두 O(1)로 수행됩니다. 연결 필드는 타이머 스레드에서만 변경됩니다.</p>
+ */
+public final class Timeout {
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private final HierarchicalTimingWheel timer;
+    @Getter
+    private final TimerTask task;
+    /** 타이머 시작 시점 기준의 만료 틱 */
+    final long deadlineTick;
+
+    private volatile int state = ST_INIT;
+
+    // 타이머 스레드 전용 필드
+    Bucket bucket;
+    Timeout prev;
+    Timeout next;
+
+    Timeout(HierarchicalTimingWheel timer, TimerTask task, long deadlineTick) {
+        this.timer = timer;
+        this.task = task;
+        this.deadlineTick = deadlineTick;
+    }
+
+    /**
+     * 타이머를 취소합니다. 실제 버킷에서의 제거는 타이머 스레드가 다음 틱에 수행합니다.
+     * @return 이번 호출로 취소되었으면 true, 이미 만료/취소된 경우 false
+     */
+    public boolean cancel() {
+        if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+            return false;
+        }
+        timer.cancelled(this);
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return state == ST_CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state == ST_EXPIRED;
+    }
+
+    void expire() {
+        if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+            return;
+        }
+        task.run(this);
+    }
+
+    /**
+     * 소속 버킷에서 자신을 분리합니다.
+     */
+    void unlink() {
+        if (bucket != null) {
+            bucket.remove(this);
+        }
+    }
+
+    /**
+     * 하나의 휠 슬롯을 나타내는 이중 연결 리스트입니다.
+     */
+    static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * 버킷의 모든 항목을 분리하여 첫 노드를 반환합니다. 반환된 노드들은 {@code next}로 계속 연결되어 있습니다.
+         */
+        Timeout drain() {
+            Timeout first = head;
+            head = tail = null;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.devoog04.core.schedule.timer;
+
+/**
+ * {@link HierarchicalTimingWheel}의 만료 시점에 타이머 스레드에서 실행되는 작업입니다.
+ * <p>타이머 스레드는 모든 작업이 공유하므로, 구현체는 즉시 반환되어야 하며
+ * 사용자 코드나 블로킹 연산을 직접 실행해서는 안 됩니다.</p>
+ */
+@FunctionalInterface
+public interface TimerTask {
+    /**
+     * @param timeout 만료된 {@link Timeout}
+     */
+    void run(Timeout timeout);
+}
@@ -0,0 +1,37 @@
+package com.github.devoog04.core.store;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * {@link JobDefinitionKey}를 바이트 배열로 변환하는 코덱입니다.
+ * <p>키는 애플리케이션이 정의하는 인터페이스이므로 저장소를 사용하려면 코덱을 함께 제공해야 합니다.
+ * {@code decode(encode(key))}는 원래 키와 {@code equals}여야 합니다.</p>
+ */
+public interface JobKeyCodec {
+
+    byte[] encode(JobDefinitionKey key);
+
+    JobDefinitionKey decode(byte[] bytes);
+
+    /**
+     * 키를 문자열로 표현할 수 있을 때 사용하는 UTF-8 코덱을 생성합니다.
+     * @param toString   키를 문자열로 변환
+     * @param fromString 문자열을 키로 변환
+     */
+    static JobKeyCodec ofString(Function<JobDefinitionKey, String> toString, Function<String, JobDefinitionKey> fromString) {
+        return new JobKeyCodec() {
+            @Override
+            public byte[] encode(JobDefinitionKey key) {
+                return toString.apply(key).getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public JobDefinitionKey decode(byte[] bytes) {
+                return fromString.apply(new String(bytes, StandardCharsets.UTF_8));
+            }
+        };
+    }
+}
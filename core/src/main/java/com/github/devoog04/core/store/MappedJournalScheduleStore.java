@@ -0,0 +1,457 @@
+package com.github.devoog04.core.store;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 메모리 매핑된 추가 전용(append-only) 저널과 압축 스냅샷으로 스케줄을 저장하는 {@link ScheduleStore}입니다.
+ * <p>디렉터리에는 두 파일이 생깁니다.
+ * <ul>
+ * <li><b>저널:</b> 등록/재스케줄/제거/실행 이벤트를 고정 크기의 매핑 파일에 순서대로 덧붙입니다.
+ * 레코드는 {@code [길이][CRC32][본문]} 형식이며, 쓰기는 메모리 복사로 끝나므로 실행 경로에서 호출해도 가볍습니다.</li>
+ * <li><b>스냅샷:</b> 저널이 가득 차거나 {@link #compact()}, {@link #close()}가 호출되면 현재 상태 전체를 임시 파일에 쓰고
+ * 원자적으로 교체한 뒤 저널을 비웁니다.</li>
+ * </ul>
+ * 시작 시 스냅샷을 읽고 저널을 재생하여 상태를 복원합니다. 재생은 멱등이므로 압축 도중 중단되어도 상태가 어긋나지 않으며,
+ * 저널을 비울 때 세대(epoch) 값을 올리고 CRC에 포함하므로 이전 세대의 레코드는 재생되지 않습니다.</p>
+ * <p>매핑된 파일에 쓴 내용은 프로세스가 비정상 종료되어도 유지됩니다. OS 장애까지 대비하려면 {@link #flush()}를 주기적으로 호출합니다.</p>
+ */
+@Slf4j
+public class MappedJournalScheduleStore implements ScheduleStore {
+    public static final int DEFAULT_JOURNAL_CAPACITY = 64 * 1024 * 1024;
+    static final String JOURNAL_FILE = "schedules.journal";
+    static final String SNAPSHOT_FILE = "schedules.snapshot";
+
+    private static final int JOURNAL_MAGIC = 0x434A524E;
+    private static final int SNAPSHOT_MAGIC = 0x43534E50;
+    private static final int FORMAT_VERSION = 1;
+    /** magic, version, epoch */
+    private static final int HEADER_SIZE = 12;
+    /** length, crc */
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private static final byte OP_SAVE = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_FIRE = 3;
+
+    private final Path directory;
+    private final JobKeyCodec keyCodec;
+    private final Map<JobDefinitionKey, Entry> entries = new ConcurrentHashMap<>();
+
+    // 아래 필드는 lock 보유 시에만 접근
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Integer, Entry> entriesById = new HashMap<>();
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer scratch = ByteBuffer.allocate(256);
+    private FileChannel channel;
+    private MappedByteBuffer journal;
+    private int epoch;
+    private int nextId = 1;
+    private boolean closed;
+
+    public MappedJournalScheduleStore(Path directory, JobKeyCodec keyCodec) {
+        this(directory, keyCodec, DEFAULT_JOURNAL_CAPACITY);
+    }
+
+    /**
+     * 디렉터리의 스냅샷과 저널을 읽어 상태를 복원합니다.
+     * @param directory       저장 디렉터리, 없으면 생성
+     * @param keyCodec        작업 키 코덱
+     * @param journalCapacity 저널 파일 크기 (바이트), 가득 차면 압축
+     */
+    public MappedJournalScheduleStore(Path directory, JobKeyCodec keyCodec, int journalCapacity) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory is required.");
+        }
+        if (keyCodec == null) {
+            throw new IllegalArgumentException("keyCodec is required.");
+        }
+        if (journalCapacity < 1024) {
+            throw new IllegalArgumentException("journalCapacity must be at least 1024 bytes.");
+        }
+        this.directory = directory;
+        this.keyCodec = keyCodec;
+        try {
+            Files.createDirectories(directory);
+            loadSnapshot();
+            openJournal(journalCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the schedule store: " + directory, e);
+        }
+        decodePolicies();
+    }
+
+    @Override
+    public void save(JobDefinitionKey key, SchedulePolicy policy) {
+        byte[] policyBytes = SchedulePolicyCodec.encode(policy);
+        lock.lock();
+        try {
+            ensureOpen();
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry(nextId++, key, keyCodec.encode(key));
+                entriesById.put(entry.id, entry);
+                entries.put(key, entry);
+            } else if (Arrays.equals(entry.policyBytes, policyBytes)) {
+                // 복원 직후 재등록 등 정책이 같으면 기록하지 않음
+                entry.policy = policy;
+                return;
+            }
+            entry.policyBytes = policyBytes;
+            entry.policy = policy;
+            ByteBuffer body = body(1 + 4 + 4 + entry.keyBytes.length + 4 + policyBytes.length);
+            body.put(OP_SAVE).putInt(entry.id)
+                    .putInt(entry.keyBytes.length).put(entry.keyBytes)
+                    .putInt(policyBytes.length).put(policyBytes);
+            append(body);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(JobDefinitionKey key) {
+        lock.lock();
+        try {
+            ensureOpen();
+            Entry entry = entries.remove(key);
+            if (entry == null) {
+                return;
+            }
+            entriesById.remove(entry.id);
+            append(body(1 + 4).put(OP_REMOVE).putInt(entry.id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void recordFire(JobDefinitionKey key, long epochMillis) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        entry.lastFireTime = epochMillis;
+        lock.lock();
+        try {
+            // 종료 후 끝난 실행과 제거와 경합한 실행은 기록하지 않음
+            if (!closed && entriesById.get(entry.id) == entry) {
+                append(body(1 + 4 + 8).put(OP_FIRE).putInt(entry.id).putLong(epochMillis));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long lastFireTime(JobDefinitionKey key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.lastFireTime : -1L;
+    }
+
+    @Override
+    public Collection<StoredSchedule> loadAll() {
+        lock.lock();
+        try {
+            List<StoredSchedule> schedules = new ArrayList<>(entries.size());
+            for (Entry entry : entries.values()) {
+                schedules.add(new StoredSchedule(entry.key, entry.policy, entry.lastFireTime));
+            }
+            return schedules;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 상태를 스냅샷으로 쓰고 저널을 비웁니다.
+     */
+    public void compact() {
+        lock.lock();
+        try {
+            ensureOpen();
+            writeSnapshot();
+            resetJournal();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact the schedule store: " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저널의 변경 내용을 디스크에 강제로 기록합니다.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            ensureOpen();
+            journal.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷을 남기고 파일을 닫습니다. 다음 시작 시에는 스냅샷만 읽으면 됩니다.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            try {
+                writeSnapshot();
+                resetJournal();
+            } finally {
+                closed = true;
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close the schedule store: " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Schedule store is closed.");
+        }
+    }
+
+    /**
+     * 재사용 버퍼를 비우고 반환합니다. 실행 기록마다 객체를 만들지 않기 위해 사용합니다.
+     */
+    private ByteBuffer body(int size) {
+        if (scratch.capacity() < size) {
+            scratch = ByteBuffer.allocate(Integer.highestOneBit(size) << 1);
+        }
+        return scratch.clear();
+    }
+
+    private void append(ByteBuffer body) {
+        body.flip();
+        int length = body.remaining();
+        if (HEADER_SIZE + RECORD_HEADER_SIZE + length > journal.capacity()) {
+            throw new IllegalArgumentException("The record does not fit in the journal: " + length + " bytes.");
+        }
+        if (journal.remaining() < RECORD_HEADER_SIZE + length) {
+            compact();
+        }
+        journal.putInt(length);
+        journal.putInt(checksum(body.array(), 0, length));
+        journal.put(body.array(), 0, length);
+    }
+
+    private int checksum(byte[] bytes, int offset, int length) {
+        crc.reset();
+        crc.update(epoch >>> 24);
+        crc.update(epoch >>> 16);
+        crc.update(epoch >>> 8);
+        crc.update(epoch);
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private void openJournal(int journalCapacity) throws IOException {
+        channel = FileChannel.open(directory.resolve(JOURNAL_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long capacity = Math.max(journalCapacity, channel.size());
+        journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        if (journal.getInt(0) == JOURNAL_MAGIC && journal.getInt(4) == FORMAT_VERSION) {
+            epoch = journal.getInt(8);
+            journal.position(HEADER_SIZE);
+            replayJournal();
+        } else {
+            epoch = 0;
+            resetJournal();
+        }
+    }
+
+    /**
+     * 저널의 유효한 레코드를 순서대로 적용하고, 쓰기 위치를 마지막 유효 레코드 뒤로 맞춥니다.
+     */
+    private void replayJournal() {
+        byte[] record = new byte[256];
+        int replayed = 0;
+        while (journal.remaining() >= RECORD_HEADER_SIZE) {
+            int start = journal.position();
+            int length = journal.getInt(start);
+            int storedChecksum = journal.getInt(start + 4);
+            if (length <= 0 || length > journal.remaining() - RECORD_HEADER_SIZE) {
+                break;
+            }
+            if (record.length < length) {
+                record = new byte[Integer.highestOneBit(length) << 1];
+            }
+            journal.get(start + RECORD_HEADER_SIZE, record, 0, length);
+            if (checksum(record, 0, length) != storedChecksum) {
+                // 기록 도중 중단된 레코드 또는 이전 세대의 레코드
+                break;
+            }
+            apply(ByteBuffer.wrap(record, 0, length));
+            journal.position(start + RECORD_HEADER_SIZE + length);
+            replayed++;
+        }
+        log.debug("Replayed {} schedule journal records from {}", replayed, directory);
+    }
+
+    private void apply(ByteBuffer record) {
+        byte op = record.get();
+        int id = record.getInt();
+        switch (op) {
+            case OP_SAVE -> {
+                byte[] keyBytes = new byte[record.getInt()];
+                record.get(keyBytes);
+                byte[] policyBytes = new byte[record.getInt()];
+                record.get(policyBytes);
+                Entry entry = entriesById.get(id);
+                if (entry == null) {
+                    entry = new Entry(id, keyCodec.decode(keyBytes), keyBytes);
+                    entriesById.put(id, entry);
+                    entries.put(entry.key, entry);
+                }
+                entry.policyBytes = policyBytes;
+                entry.policy = null;
+                nextId = Math.max(nextId, id + 1);
+            }
+            case OP_REMOVE -> {
+                Entry entry = entriesById.remove(id);
+                if (entry != null) {
+                    entries.remove(entry.key);
+                }
+            }
+            case OP_FIRE -> {
+                Entry entry = entriesById.get(id);
+                if (entry != null) {
+                    entry.lastFireTime = record.getLong();
+                }
+            }
+            default -> throw new IllegalStateException("Unknown schedule journal record: " + op);
+        }
+    }
+
+    private void resetJournal() {
+        epoch++;
+        journal.clear();
+        journal.putInt(JOURNAL_MAGIC).putInt(FORMAT_VERSION).putInt(epoch);
+        journal.force();
+    }
+
+    private void loadSnapshot() throws IOException {
+        Path path = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return;
+        }
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(path));
+        int contentLength = snapshot.limit() - 4;
+        CRC32 snapshotCrc = new CRC32();
+        snapshotCrc.update(snapshot.array(), 0, Math.max(0, contentLength));
+        if (contentLength < 16 || (int) snapshotCrc.getValue() != snapshot.getInt(contentLength)
+                || snapshot.getInt() != SNAPSHOT_MAGIC || snapshot.getInt() != FORMAT_VERSION) {
+            throw new IllegalStateException("Corrupted schedule snapshot: " + path);
+        }
+        nextId = snapshot.getInt();
+        int count = snapshot.getInt();
+        for (int i = 0; i < count; i++) {
+            int id = snapshot.getInt();
+            byte[] keyBytes = new byte[snapshot.getInt()];
+            snapshot.get(keyBytes);
+            byte[] policyBytes = new byte[snapshot.getInt()];
+            snapshot.get(policyBytes);
+            Entry entry = new Entry(id, keyCodec.decode(keyBytes), keyBytes);
+            entry.policyBytes = policyBytes;
+            entry.lastFireTime = snapshot.getLong();
+            entriesById.put(id, entry);
+            entries.put(entry.key, entry);
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        Path target = directory.resolve(SNAPSHOT_FILE);
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(out), 64 * 1024), new CRC32());
+            DataOutputStream data = new DataOutputStream(checked);
+            data.writeInt(SNAPSHOT_MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeInt(nextId);
+            data.writeInt(entriesById.size());
+            for (Entry entry : entriesById.values()) {
+                data.writeInt(entry.id);
+                data.writeInt(entry.keyBytes.length);
+                data.write(entry.keyBytes);
+                data.writeInt(entry.policyBytes.length);
+                data.write(entry.policyBytes);
+                data.writeLong(entry.lastFireTime);
+            }
+            data.flush();
+            data.writeInt((int) checked.getChecksum().getValue());
+            data.flush();
+            out.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 복원이 끝난 뒤 최종 정책만 한 번씩 해석합니다. 해석할 수 없는 정책은 경고 후 버립니다.
+     */
+    private void decodePolicies() {
+        Iterator<Entry> iterator = entriesById.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            try {
+                entry.policy = SchedulePolicyCodec.decode(entry.policyBytes);
+            } catch (RuntimeException e) {
+                log.warn("Dropping a stored schedule whose policy cannot be restored. key = {}", entry.key, e);
+                iterator.remove();
+                entries.remove(entry.key);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final int id;
+        private final JobDefinitionKey key;
+        private final byte[] keyBytes;
+        private byte[] policyBytes;
+        private SchedulePolicy policy;
+        private volatile long lastFireTime = -1L;
+
+        private Entry(int id, JobDefinitionKey key, byte[] keyBytes) {
+            this.id = id;
+            this.key = key;
+            this.keyBytes = keyBytes;
+        }
+    }
+}
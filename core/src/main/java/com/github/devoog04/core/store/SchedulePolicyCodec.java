@@ -0,0 +1,94 @@
+package com.github.devoog04.core.store;
+
+import com.github.devoog04.core.schedule.AdaptiveDelay;
+import com.github.devoog04.core.schedule.MisfirePolicy;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import com.github.devoog04.core.schedule.ScheduleType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * {@link SchedulePolicy}를 바이트 배열로 변환합니다.
+ * <p>형식이 바뀌면 {@link #VERSION}을 올리고 이전 버전의 해석을 유지합니다.</p>
+ */
+final class SchedulePolicyCodec {
+    static final int VERSION = 4;
+
+    private SchedulePolicyCodec() {
+    }
+
+    static byte[] encode(SchedulePolicy policy) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(policy.getType().ordinal());
+            if (policy.getType() == ScheduleType.CRON) {
+                out.writeUTF(policy.getExpression());
+                out.writeUTF(policy.getCron().getZoneId().getId());
+            } else {
+                out.writeLong(policy.getInterval().toNanos());
+            }
+            out.writeByte(policy.getMisfire().getStrategy().ordinal());
+            out.writeInt(policy.getMisfire().getMaxCatchUp());
+            out.writeLong(policy.getJitter() != null ? policy.getJitter().toMillis() : 0L);
+            out.writeLong(policy.getLease() != null ? policy.getLease().toMillis() : 0L);
+            AdaptiveDelay adaptive = policy.getAdaptive();
+            out.writeBoolean(adaptive != null);
+            if (adaptive != null) {
+                out.writeLong(adaptive.getMaxDelay().toNanos());
+                out.writeLong(adaptive.getDecreaseStep().toNanos());
+                out.writeDouble(adaptive.getBackoffMultiplier());
+            }
+            out.writeLong(policy.getTimeout() != null ? policy.getTimeout().toNanos() : 0L);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static SchedulePolicy decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readUnsignedByte();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalStateException("Unsupported schedule policy format version: " + version);
+            }
+            ScheduleType type = ScheduleType.values()[in.readUnsignedByte()];
+            SchedulePolicy policy = switch (type) {
+                case CRON -> SchedulePolicy.cron(in.readUTF(), ZoneId.of(in.readUTF()));
+                case FIXED_RATE -> SchedulePolicy.fixedRate(Duration.ofNanos(in.readLong()));
+                case FIXED_DELAY -> SchedulePolicy.fixedDelay(Duration.ofNanos(in.readLong()));
+            };
+            MisfirePolicy.Strategy strategy = MisfirePolicy.Strategy.values()[in.readUnsignedByte()];
+            int maxCatchUp = in.readInt();
+            MisfirePolicy misfire = switch (strategy) {
+                case FIRE_ONCE -> MisfirePolicy.fireOnce();
+                case SKIP -> MisfirePolicy.skip();
+                case CATCH_UP -> MisfirePolicy.catchUp(maxCatchUp);
+            };
+            long jitterMillis = in.readLong();
+            // 버전 2: 리스 유지 시간
+            long leaseMillis = version >= 2 ? in.readLong() : 0L;
+            // 버전 3: 적응형 대기 시간 (최소 대기 시간은 간격과 같음)
+            if (version >= 3 && in.readBoolean()) {
+                policy = SchedulePolicy.adaptiveDelay(AdaptiveDelay.of(policy.getInterval(),
+                        Duration.ofNanos(in.readLong()), Duration.ofNanos(in.readLong()), in.readDouble()));
+            }
+            // 버전 4: 실행 시간 제한
+            long timeoutNanos = version >= 4 ? in.readLong() : 0L;
+            policy = policy.withMisfire(misfire).withJitter(Duration.ofMillis(jitterMillis));
+            if (leaseMillis > 0) {
+                policy = policy.withLease(Duration.ofMillis(leaseMillis));
+            }
+            return timeoutNanos > 0 ? policy.withTimeout(Duration.ofNanos(timeoutNanos)) : policy;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
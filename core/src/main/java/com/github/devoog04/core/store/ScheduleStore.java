@@ -0,0 +1,72 @@
+package com.github.devoog04.core.store;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스케줄 등록 정보와 마지막 실행 시각을 재시작 후에도 유지하기 위한 저장소 SPI입니다.
+ * <p>작업 본문({@link Runnable})은 저장하지 않습니다. 재시작 후 애플리케이션이 작업 정의를 다시 만들면,
+ * 스케줄러가 저장된 정책과 마지막 실행 시각으로 스케줄을 복원합니다.</p>
+ * <p>스케줄러는 저장소 오류로 스케줄 변경을 실패시키지 않으므로, 구현체는 오류를 {@link RuntimeException}으로 던집니다.</p>
+ */
+public interface ScheduleStore extends AutoCloseable {
+    /** 아무것도 저장하지 않는 인스턴스 */
+    ScheduleStore NONE = new ScheduleStore() {
+        @Override
+        public void save(JobDefinitionKey key, SchedulePolicy policy) {
+        }
+
+        @Override
+        public void remove(JobDefinitionKey key) {
+        }
+
+        @Override
+        public void recordFire(JobDefinitionKey key, long epochMillis) {
+        }
+
+        @Override
+        public long lastFireTime(JobDefinitionKey key) {
+            return -1L;
+        }
+
+        @Override
+        public Collection<StoredSchedule> loadAll() {
+            return List.of();
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * 작업의 정책을 저장합니다. 등록과 재스케줄 모두 이 메서드로 기록됩니다.
+     */
+    void save(JobDefinitionKey key, SchedulePolicy policy);
+
+    /**
+     * 작업을 제거합니다. 저장되지 않은 키는 무시합니다.
+     */
+    void remove(JobDefinitionKey key);
+
+    /**
+     * 작업의 마지막 실행 시각을 기록합니다. 작업 실행마다 호출되므로 가벼워야 합니다.
+     */
+    void recordFire(JobDefinitionKey key, long epochMillis);
+
+    /**
+     * @return 마지막 실행 시각 (epoch 밀리초), 기록이 없으면 -1
+     */
+    long lastFireTime(JobDefinitionKey key);
+
+    /**
+     * 저장된 모든 스케줄을 반환합니다.
+     */
+    Collection<StoredSchedule> loadAll();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,18 @@
+package com.github.devoog04.core.store;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ScheduleStore}에 저장된 작업 하나의 스케줄 정보입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoredSchedule {
+    private final JobDefinitionKey key;
+    private final SchedulePolicy policy;
+    /** 마지막 실행 시각 (epoch 밀리초), 기록이 없으면 -1 */
+    private final long lastFireTime;
+}
@@ -0,0 +1,332 @@
+package com.github.devoog04.core.cluster;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.schedule.BulkScheduleResult;
+import com.github.devoog04.core.schedule.JobRegistration;
+import com.github.devoog04.core.schedule.JobScheduler;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import com.github.devoog04.core.schedule.ScheduledJob;
+import com.github.devoog04.core.schedule.exception.DuplicateScheduleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+@DisplayName("PartitionedJobScheduler 검증")
+class PartitionedJobSchedulerTest {
+    private static final SchedulePolicy POLICY = SchedulePolicy.fixedRate(Duration.ofSeconds(1));
+
+    @Nested
+    @DisplayName("ConsistentHashRing 검증")
+    class Context_Ring {
+        @Test
+        @DisplayName("노드가 3개일 때, 키가 노드별로 고르게 분배")
+        void givenThreeNodes_whenOwnerOf_thenBalanced() {
+            ConsistentHashRing ring = ConsistentHashRing.of(List.of("a", "b", "c"));
+            Map<String, Integer> counts = new HashMap<>();
+
+            for (int i = 0; i < 30_000; i++) {
+                counts.merge(ring.ownerOf(new TestKey("job-" + i)), 1, Integer::sum);
+            }
+
+            // 노드마다 평균(10000)의 ±15% 이내
+            assertThat(counts).containsOnlyKeys("a", "b", "c");
+            counts.values().forEach(count -> assertThat(count).isBetween(8_500, 11_500));
+        }
+
+        @Test
+        @DisplayName("노드를 추가할 때, 약 1/4의 키만 새 노드로 이동")
+        void givenNodeAdded_whenOwnerOf_thenMinimalMovement() {
+            ConsistentHashRing before = ConsistentHashRing.of(List.of("a", "b", "c"));
+            ConsistentHashRing after = ConsistentHashRing.of(List.of("a", "b", "c", "d"));
+            int moved = 0;
+
+            for (int i = 0; i < 20_000; i++) {
+                TestKey key = new TestKey("job-" + i);
+                String owner = after.ownerOf(key);
+                if (!owner.equals(before.ownerOf(key))) {
+                    assertThat(owner).isEqualTo("d");
+                    moved++;
+                }
+            }
+
+            assertThat(moved).isBetween(4_000, 6_000);
+        }
+
+        @Test
+        @DisplayName("노드 입력 순서가 달라도 같은 배정, 노드가 없으면 null")
+        void givenSameNodes_whenOwnerOf_thenDeterministic() {
+            ConsistentHashRing ring = ConsistentHashRing.of(List.of("a", "b", "c"));
+            ConsistentHashRing reordered = ConsistentHashRing.of(List.of("c", "a", "b"));
+
+            for (int i = 0; i < 1_000; i++) {
+                TestKey key = new TestKey("job-" + i);
+                assertThat(reordered.ownerOf(key)).isEqualTo(ring.ownerOf(key));
+            }
+            assertThat(ConsistentHashRing.of(List.of()).ownerOf(new TestKey("job"))).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("분할 등록 검증")
+    class Context_Partition {
+        @Test
+        @DisplayName("모든 노드가 같은 작업을 등록할 때, 각 작업은 한 노드에만 등록")
+        void givenAllNodesRegister_whenScheduleAll_thenDisjoint() {
+            Cluster cluster = new Cluster("a", "b");
+
+            cluster.scheduleAll(1_000);
+
+            assertThat(cluster.local("a").keys).isNotEmpty().doesNotContainAnyElementsOf(cluster.local("b").keys);
+            assertThat(cluster.local("a").keys.size() + cluster.local("b").keys.size()).isEqualTo(1_000);
+        }
+
+        @Test
+        @DisplayName("노드가 추가될 때, 새 노드가 맡는 키만 기존 노드에서 해제되고 새 노드에 등록")
+        void givenNodeJoined_whenRebalance_thenOnlyMovedKeys() {
+            Cluster cluster = new Cluster("a", "b");
+            cluster.scheduleAll(1_000);
+            Set<JobDefinitionKey> beforeA = Set.copyOf(cluster.local("a").keys);
+            Set<JobDefinitionKey> beforeB = Set.copyOf(cluster.local("b").keys);
+
+            cluster.join("c");
+            cluster.scheduleAll(1_000, "c");
+
+            Set<JobDefinitionKey> c = cluster.local("c").keys;
+            assertThat(c).isNotEmpty();
+            assertThat(cluster.local("a").keys).doesNotContainAnyElementsOf(c);
+            assertThat(cluster.local("b").keys).doesNotContainAnyElementsOf(c);
+            assertThat(beforeA).containsAll(cluster.local("a").keys);
+            assertThat(beforeB).containsAll(cluster.local("b").keys);
+            assertThat(cluster.local("a").keys.size() + cluster.local("b").keys.size() + c.size()).isEqualTo(1_000);
+        }
+
+        @Test
+        @DisplayName("노드가 빠질 때, 남은 노드가 그 노드의 키를 넘겨받음")
+        void givenNodeLeft_whenRebalance_thenAcquired() {
+            Cluster cluster = new Cluster("a", "b");
+            cluster.scheduleAll(1_000);
+
+            cluster.leave("b");
+
+            assertThat(cluster.local("a").keys).hasSize(1_000);
+        }
+
+        @Test
+        @DisplayName("다른 노드 담당 작업도 중복 등록은 Exception, 해제 후 재등록 가능")
+        void givenRemoteKey_whenScheduleTwice_thenThrowsException() {
+            Cluster cluster = new Cluster("a", "b");
+            PartitionedJobScheduler a = cluster.node("a");
+            TestKey remote = cluster.keyOwnedBy("b");
+
+            a.schedule(new TestDefinition(remote), POLICY);
+
+            assertThat(cluster.local("a").keys).doesNotContain(remote);
+            assertThatThrownBy(() -> a.schedule(new TestDefinition(remote), POLICY))
+                    .isInstanceOf(DuplicateScheduleException.class);
+            a.unschedule(remote);
+            a.schedule(new TestDefinition(remote), POLICY);
+        }
+
+        @Test
+        @DisplayName("여러 키를 일괄 변경하거나 제거할 때, 담당 키만 하위 스케줄러에 한 번씩 일괄 위임")
+        void givenManyKeys_whenRescheduleAllAndUnscheduleAll_thenSingleDelegateCall() {
+            Cluster cluster = new Cluster("a", "b");
+            cluster.scheduleAll(100);
+            PartitionedJobScheduler a = cluster.node("a");
+            Set<JobDefinitionKey> owned = Set.copyOf(cluster.local("a").keys);
+            Map<JobDefinitionKey, SchedulePolicy> newPolicies = new LinkedHashMap<>();
+            for (int i = 0; i < 100; i++) {
+                newPolicies.put(new TestKey("job-" + i), SchedulePolicy.fixedRate(Duration.ofSeconds(2)));
+            }
+            TestKey unknown = new TestKey("unknown");
+            newPolicies.put(unknown, POLICY);
+
+            BulkScheduleResult rescheduled = a.rescheduleAll(newPolicies);
+            BulkScheduleResult unscheduled = a.unscheduleAll(newPolicies.keySet());
+
+            assertThat(rescheduled.getSucceeded()).hasSize(100);
+            assertThat(rescheduled.getFailures()).containsOnlyKeys(unknown);
+            assertThat(cluster.local("a").rescheduleCalls).singleElement()
+                    .satisfies(keys -> assertThat(keys).containsExactlyInAnyOrderElementsOf(owned));
+            assertThat(unscheduled.isAllSucceeded()).isTrue();
+            assertThat(cluster.local("a").unscheduleCalls).singleElement()
+                    .satisfies(keys -> assertThat(keys).containsExactlyInAnyOrderElementsOf(owned));
+            assertThat(cluster.local("a").keys).isEmpty();
+            a.schedule(new TestDefinition(new TestKey("job-0")), POLICY);
+        }
+
+        @Test
+        @DisplayName("요청 내 같은 키가 반복될 때, 첫 항목만 등록하고 반복 항목은 중복 실패")
+        void givenRepeatedKey_whenScheduleAll_thenReportDuplicate() {
+            Cluster cluster = new Cluster("a");
+            TestKey key = new TestKey("job-0");
+
+            BulkScheduleResult result = cluster.node("a").scheduleAll(List.of(
+                    JobRegistration.of(new TestDefinition(key), POLICY),
+                    JobRegistration.of(new TestDefinition(key), POLICY)));
+
+            assertThat(result.getSucceeded()).containsExactly(key);
+            assertThat(result.getFailures()).containsOnlyKeys(key);
+            assertThat(result.getFailures().get(key)).isInstanceOf(DuplicateScheduleException.class);
+            assertThat(cluster.local("a").keys).containsExactly(key);
+        }
+    }
+
+    /**
+     * 단일 프로세스에서 여러 노드를 흉내 냅니다.
+     */
+    private static class Cluster {
+        private final Map<String, StaticMembershipProvider> providers = new LinkedHashMap<>();
+        private final Map<String, PartitionedJobScheduler> nodes = new LinkedHashMap<>();
+        private final Map<String, LocalScheduler> locals = new LinkedHashMap<>();
+        private final List<String> members = new ArrayList<>();
+
+        Cluster(String... nodeIds) {
+            members.addAll(List.of(nodeIds));
+            for (String nodeId : nodeIds) {
+                add(nodeId);
+            }
+        }
+
+        void join(String nodeId) {
+            members.add(nodeId);
+            providers.values().forEach(provider -> provider.setMembers(members));
+            add(nodeId);
+        }
+
+        void leave(String nodeId) {
+            members.remove(nodeId);
+            providers.remove(nodeId);
+            nodes.remove(nodeId);
+            providers.values().forEach(provider -> provider.setMembers(members));
+        }
+
+        void scheduleAll(int count, String... nodeIds) {
+            List<JobRegistration> registrations = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                registrations.add(JobRegistration.of(new TestDefinition(new TestKey("job-" + i)), POLICY));
+            }
+            Collection<String> targets = nodeIds.length == 0 ? nodes.keySet() : List.of(nodeIds);
+            targets.forEach(nodeId -> assertThat(nodes.get(nodeId).scheduleAll(registrations).isAllSucceeded()).isTrue());
+        }
+
+        TestKey keyOwnedBy(String nodeId) {
+            for (int i = 0; ; i++) {
+                TestKey key = new TestKey("job-" + i);
+                if (nodes.get(nodeId).isOwned(key)) {
+                    return key;
+                }
+            }
+        }
+
+        PartitionedJobScheduler node(String nodeId) {
+            return nodes.get(nodeId);
+        }
+
+        LocalScheduler local(String nodeId) {
+            return locals.get(nodeId);
+        }
+
+        private void add(String nodeId) {
+            StaticMembershipProvider provider = new StaticMembershipProvider(nodeId, members);
+            LocalScheduler local = new LocalScheduler();
+            providers.put(nodeId, provider);
+            locals.put(nodeId, local);
+            nodes.put(nodeId, new PartitionedJobScheduler(local, provider));
+        }
+    }
+
+    /**
+     * 등록된 키만 기록하는 로컬 스케줄러
+     */
+    private static class LocalScheduler implements JobScheduler {
+        private final Set<JobDefinitionKey> keys = ConcurrentHashMap.newKeySet();
+        /** 일괄 변경/제거 호출마다 전달된 키 */
+        private final List<Collection<JobDefinitionKey>> rescheduleCalls = new ArrayList<>();
+        private final List<Collection<JobDefinitionKey>> unscheduleCalls = new ArrayList<>();
+
+        @Override
+        public void schedule(JobDefinition definition, SchedulePolicy policy) {
+            if (!keys.add(definition.getKey())) {
+                throw new DuplicateScheduleException(definition.getKey());
+            }
+        }
+
+        @Override
+        public void reschedule(JobDefinitionKey key, SchedulePolicy newPolicy) {
+        }
+
+        @Override
+        public void unschedule(JobDefinitionKey key) {
+            keys.remove(key);
+        }
+
+        @Override
+        public BulkScheduleResult scheduleAll(Collection<JobRegistration> registrations) {
+            List<JobDefinitionKey> succeeded = new ArrayList<>();
+            registrations.forEach(registration -> {
+                schedule(registration.getDefinition(), registration.getPolicy());
+                succeeded.add(registration.getKey());
+            });
+            return new BulkScheduleResult(succeeded, Map.of());
+        }
+
+        @Override
+        public BulkScheduleResult rescheduleAll(Map<JobDefinitionKey, SchedulePolicy> newPolicies) {
+            rescheduleCalls.add(List.copyOf(newPolicies.keySet()));
+            return new BulkScheduleResult(List.copyOf(newPolicies.keySet()), Map.of());
+        }
+
+        @Override
+        public BulkScheduleResult unscheduleAll(Collection<JobDefinitionKey> keys) {
+            unscheduleCalls.add(List.copyOf(keys));
+            keys.forEach(this::unschedule);
+            return new BulkScheduleResult(List.copyOf(keys), Map.of());
+        }
+
+        @Override
+        public List<ScheduledJob> getScheduledJobs() {
+            return List.of();
+        }
+
+        @Override
+        public ScheduledJob getScheduledJob(JobDefinitionKey key) {
+            return null;
+        }
+
+        @Override
+        public List<ScheduledJob> getJobsDueWithin(Duration window) {
+            return List.of();
+        }
+    }
+
+    private record TestKey(String name) implements JobDefinitionKey {
+    }
+
+    private record TestDefinition(JobDefinitionKey key) implements JobDefinition {
+        @Override
+        public JobDefinitionKey getKey() {
+            return key;
+        }
+
+        @Override
+        public Runnable getRunnable() {
+            return () -> {
+            };
+        }
+    }
+}
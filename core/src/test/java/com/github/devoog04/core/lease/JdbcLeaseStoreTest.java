@@ -0,0 +1,110 @@
+package com.github.devoog04.core.lease;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JdbcLeaseStore 검증")
+class JdbcLeaseStoreTest {
+    private static final Duration TTL = Duration.ofMillis(200);
+
+    private JdbcLeaseStore nodeA;
+    private JdbcLeaseStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        nodeA = JdbcLeaseStore.builder().dataSource(dataSource).owner("node-a").build();
+        nodeB = JdbcLeaseStore.builder().dataSource(dataSource).owner("node-b").build();
+        nodeA.initializeSchema();
+    }
+
+    @Test
+    @DisplayName("여러 키를 한 번에 요청할 때, 비어 있는 키만 획득하고 다른 노드는 획득 실패")
+    void givenBatch_whenTryAcquireAll_thenExclusive() {
+        Map<JobDefinitionKey, Duration> requests = requests(100, Duration.ofMinutes(1));
+
+        Map<JobDefinitionKey, Lease> acquired = nodeA.tryAcquireAll(requests);
+        Map<JobDefinitionKey, Lease> denied = nodeB.tryAcquireAll(requests);
+
+        assertThat(acquired).hasSize(100);
+        assertThat(acquired.values()).allSatisfy(lease -> {
+            assertThat(lease.getOwner()).isEqualTo("node-a");
+            assertThat(lease.getToken()).isEqualTo(1L);
+            assertThat(lease.isValid()).isTrue();
+        });
+        assertThat(denied).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 일부 키를 보유할 때, 행이 없는 키만 추가하여 획득")
+    void givenPartiallyHeld_whenTryAcquireAll_thenOnlyMissingInserted() {
+        Map<JobDefinitionKey, Duration> held = requests(50, Duration.ofMinutes(1));
+        nodeB.tryAcquireAll(held);
+        Map<JobDefinitionKey, Duration> requests = requests(100, Duration.ofMinutes(1));
+
+        Map<JobDefinitionKey, Lease> acquired = nodeA.tryAcquireAll(requests);
+
+        assertThat(acquired).hasSize(50);
+        assertThat(acquired.keySet()).doesNotContainAnyElementsOf(held.keySet());
+        assertThat(acquired.values()).allSatisfy(lease -> {
+            assertThat(lease.getOwner()).isEqualTo("node-a");
+            assertThat(lease.getToken()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("반납 후 유지 시간이 지날 때, 다른 노드가 더 큰 펜싱 토큰으로 획득")
+    void givenReleased_whenExpired_thenAcquiredWithHigherToken() throws InterruptedException {
+        Map<JobDefinitionKey, Duration> requests = requests(1, TTL);
+        Lease first = nodeA.tryAcquireAll(requests).get(new TestKey("job-0"));
+
+        // 실행이 일찍 끝나도 유지 시간 동안은 다른 노드가 획득하지 못함
+        nodeA.release(first);
+        assertThat(nodeB.tryAcquireAll(requests)).isEmpty();
+
+        Thread.sleep(TTL.toMillis() + 50);
+        Lease second = nodeB.tryAcquireAll(requests).get(new TestKey("job-0"));
+
+        assertThat(second).isNotNull();
+        assertThat(second.getToken()).isGreaterThan(first.getToken());
+    }
+
+    @Test
+    @DisplayName("리스를 갱신할 때 만료 시각이 늘어나고, 다른 노드가 가져간 리스는 갱신 실패")
+    void givenLease_whenRenew_thenExtendedOrLost() throws InterruptedException {
+        Map<JobDefinitionKey, Duration> requests = requests(1, TTL);
+        Lease lease = nodeA.tryAcquireAll(requests).get(new TestKey("job-0"));
+        long expiresAt = lease.getExpiresAt();
+
+        Thread.sleep(20);
+        assertThat(nodeA.renew(lease)).isTrue();
+        assertThat(lease.getExpiresAt()).isGreaterThan(expiresAt);
+
+        Thread.sleep(TTL.toMillis() + 50);
+        assertThat(nodeB.tryAcquireAll(requests)).hasSize(1);
+        assertThat(nodeA.renew(lease)).isFalse();
+        assertThat(lease.isValid()).isFalse();
+    }
+
+    private static Map<JobDefinitionKey, Duration> requests(int count, Duration ttl) {
+        Map<JobDefinitionKey, Duration> requests = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            requests.put(new TestKey("job-" + i), ttl);
+        }
+        return requests;
+    }
+
+    private record TestKey(String name) implements JobDefinitionKey {
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.devoog04.core.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyHistogram 검증")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("1~1000ms 값을 기록할 때, 백분위 값이 정밀도 오차 범위 이내")
+    void givenUniformValues_whenPercentile_thenWithinRelativeError() {
+        // Given: 하위 버킷 4개 -> 상대 오차 25% 이내
+        LatencyHistogram histogram = new LatencyHistogram(2);
+
+        // When
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        // Then
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMaxMicros()).isEqualTo(1_000_000);
+        assertThat(histogram.getMeanMicros()).isCloseTo(500_500, within(1.0));
+        assertThat(histogram.getPercentileMicros(0.5)).isBetween(500_000L, 625_000L);
+        assertThat(histogram.getPercentileMicros(0.99)).isBetween(990_000L, 1_000_000L);
+        assertThat(histogram.getPercentileMicros(1.0)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    @DisplayName("기록이 없거나 음수를 기록할 때, 0으로 처리")
+    void givenEmptyOrNegative_whenPercentile_thenZero() {
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        assertThat(histogram.getPercentileMicros(0.99)).isZero();
+
+        histogram.record(-5);
+
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getPercentileMicros(0.99)).isZero();
+    }
+
+    @Test
+    @DisplayName("범위를 넘는 값을 기록할 때, 마지막 버킷에 누적되고 최댓값은 유지")
+    void givenHugeValue_whenRecord_thenClampToLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram(1);
+
+        histogram.record(TimeUnit.DAYS.toNanos(30));
+
+        assertThat(histogram.getMaxMicros()).isEqualTo(TimeUnit.DAYS.toMicros(30));
+        assertThat(histogram.getPercentileMicros(0.5)).isPositive();
+    }
+
+    @Test
+    @DisplayName("정밀도가 범위를 벗어날 때, 예외 발생")
+    void givenInvalidPrecision_whenCreate_thenThrow() {
+        assertThatThrownBy(() -> new LatencyHistogram(5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("subBucketBits must be between 0 and 4.");
+    }
+}
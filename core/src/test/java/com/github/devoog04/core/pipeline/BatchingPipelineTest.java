@@ -0,0 +1,179 @@
+package com.github.devoog04.core.pipeline;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import com.github.devoog04.core.schedule.TimingWheelJobScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BatchingPipeline 검증")
+class BatchingPipelineTest {
+
+    @Test
+    @DisplayName("묶음 크기만큼 모일 때, 크기 단위로 기록")
+    void givenRecords_whenBatchFilled_thenFlushedBySize() throws InterruptedException {
+        // Given
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(3);
+        BatchingPipeline<Integer> pipeline = BatchingPipeline.<Integer>builder()
+                .sink(batch -> {
+                    batches.add(batch);
+                    latch.countDown();
+                })
+                .batchSize(100)
+                .flushInterval(Duration.ofMinutes(1))
+                .build();
+
+        // When
+        IntStream.range(0, 300).forEach(pipeline::emit);
+
+        // Then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).hasSize(3).allSatisfy(batch -> assertThat(batch).hasSize(100));
+        pipeline.close();
+    }
+
+    @Test
+    @DisplayName("묶음이 차지 않을 때, 플러시 간격이 지나면 모인 만큼 기록")
+    void givenFewRecords_whenIntervalElapsed_thenFlushedByTime() throws InterruptedException {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        BatchingPipeline<Integer> pipeline = BatchingPipeline.<Integer>builder()
+                .sink(batch -> {
+                    batches.add(batch);
+                    latch.countDown();
+                })
+                .batchSize(100)
+                .flushInterval(Duration.ofMillis(100))
+                .build();
+
+        IntStream.range(0, 7).forEach(pipeline::emit);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(7);
+        pipeline.close();
+    }
+
+    @Test
+    @DisplayName("기록이 밀려 버퍼가 가득 찰 때, 레코드를 내보내는 스레드가 대기")
+    void givenSlowSink_whenBufferFull_thenEmitBlocks() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        BatchingPipeline<Integer> pipeline = BatchingPipeline.<Integer>builder()
+                .sink(batch -> release.await())
+                .batchSize(10)
+                .capacity(10)
+                .flushInterval(Duration.ofMinutes(1))
+                .build();
+        IntStream.range(0, 20).forEach(pipeline::emit); // 10개는 기록 중, 10개는 버퍼에
+
+        // When
+        AtomicBoolean emitted = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            pipeline.emit(20);
+            emitted.set(true);
+        });
+        producer.start();
+        Thread.sleep(200);
+
+        // Then
+        assertThat(emitted).isFalse();
+        release.countDown();
+        producer.join(5_000);
+        assertThat(emitted).isTrue();
+        pipeline.close();
+        assertThat(pipeline.getFlushedCount()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("닫을 때 남은 레코드를 모두 기록하고, 이후 내보내기는 예외")
+    void givenPending_whenClose_thenDrainedAndRejected() {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        BatchingPipeline<Integer> pipeline = BatchingPipeline.<Integer>builder()
+                .sink(written::addAll)
+                .batchSize(1_000)
+                .flushInterval(Duration.ofMinutes(1))
+                .flushWorkers(4)
+                .build();
+        IntStream.range(0, 2_500).forEach(pipeline::emit);
+
+        pipeline.close();
+
+        assertThat(written).hasSize(2_500);
+        assertThat(pipeline.getPendingCount()).isZero();
+        assertThatThrownBy(() -> pipeline.emit(1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("기록이 실패할 때, 실패 수로 집계하고 다음 묶음은 계속 기록")
+    void givenFailingSink_whenFlush_thenCountedAndContinued() {
+        AtomicBoolean failed = new AtomicBoolean();
+        BatchingPipeline<Integer> pipeline = BatchingPipeline.<Integer>builder()
+                .sink(batch -> {
+                    if (failed.compareAndSet(false, true)) {
+                        throw new IllegalStateException("sink down");
+                    }
+                })
+                .batchSize(5)
+                .build();
+
+        IntStream.range(0, 10).forEach(pipeline::emit);
+        pipeline.close();
+
+        assertThat(pipeline.getFailedCount()).isEqualTo(5);
+        assertThat(pipeline.getFlushedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("여러 수집 작업이 파이프라인을 공유할 때, 작업을 가로질러 묶음으로 기록")
+    void givenCollectingJobs_whenScheduled_thenBatchedAcrossJobs() throws InterruptedException {
+        // Given
+        List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        BatchingPipeline<String> pipeline = BatchingPipeline.<String>builder()
+                .sink(batch -> {
+                    batches.add(batch);
+                    latch.countDown();
+                })
+                .batchSize(50)
+                .flushInterval(Duration.ofMinutes(1))
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        TimingWheelJobScheduler scheduler = new TimingWheelJobScheduler(executor);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            TestKey key = new TestKey("job-" + i);
+            scheduler.schedule(CollectingJobDefinition.<String>of(key, emitter -> {
+                for (int n = 0; n < 5; n++) {
+                    emitter.emit(key.name() + "-" + n);
+                }
+            }, pipeline), SchedulePolicy.fixedRate(Duration.ofMillis(50)));
+        }
+
+        // Then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches.get(0)).hasSize(50);
+        scheduler.close();
+        executor.shutdownNow();
+        pipeline.close();
+    }
+
+    private record TestKey(String name) implements JobDefinitionKey {
+    }
+}
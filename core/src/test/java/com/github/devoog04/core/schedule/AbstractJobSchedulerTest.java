@@ -10,6 +10,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +54,17 @@ class AbstractJobSchedulerTest {
         scheduler.container.clear();
     }
 
+    private void register(JobDefinitionKey key, AbstractJobScheduler.ScheduleManager manager) {
+        scheduler.container.put(key, AbstractJobScheduler.ScheduleEntry.active(manager));
+    }
+
+    private AbstractJobScheduler.ScheduleManager managerOf(JobDefinitionKey key) {
+        AbstractJobScheduler.ScheduleEntry entry = scheduler.container.get(key);
+        assertThat(entry).isNotNull();
+        assertThat(entry.getState()).isEqualTo(ScheduleState.ACTIVE);
+        return entry.getManager();
+    }
+
     @Nested
     @DisplayName("schedule 메서드 검증")
     class Context_Schedule {
@@ -61,7 +82,7 @@ class AbstractJobSchedulerTest {
             verify(scheduler, times(1)).createManager(definition, policy);
             verify(newManager, times(1)).schedule();
             // Then: 신규 manager 등록 확인 
-            assertThat(scheduler.container).containsKey(key).containsValue(newManager);
+            assertThat(managerOf(key)).isEqualTo(newManager);
         }
 
         @Test
@@ -70,7 +91,7 @@ class AbstractJobSchedulerTest {
             // Given: 기존 manager 등록
             AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
             JobDefinitionKey key = definition.getKey();
-            scheduler.container.put(key, oldManager);
+            register(key, oldManager);
 
             // When & Then: 로직 실행 & 예외 발생
             assertThatThrownBy(() -> scheduler.schedule(definition, policy))
@@ -79,7 +100,7 @@ class AbstractJobSchedulerTest {
             // Then: 신규 manager 생성 호출 X
             verify(scheduler, never()).createManager(any(), any());
             // Then: 기존 manager 등록 확인
-            assertThat(scheduler.container).containsKey(key).containsValue(oldManager);
+            assertThat(managerOf(key)).isEqualTo(oldManager);
         }
 
         @Test
@@ -130,7 +151,7 @@ class AbstractJobSchedulerTest {
             // Given: 기존 manager 등록
             AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
             when(oldManager.getJobDefinition()).thenReturn(definition);
-            scheduler.container.put(key, oldManager);
+            register(key, oldManager);
 
             // Given : 신규 policy 생성
             SchedulePolicy newPolicy = mock(SchedulePolicy.class);
@@ -153,7 +174,7 @@ class AbstractJobSchedulerTest {
             
             // Then : 신규 manager 등록 확인
             assertThat(scheduler.container).hasSize(1);
-            assertThat(scheduler.container.get(key)).isEqualTo(newManager);
+            assertThat(managerOf(key)).isEqualTo(newManager);
         }
 
         @Test
@@ -174,7 +195,7 @@ class AbstractJobSchedulerTest {
         void givenOldManagerCancelError_whenReschedule_thenIgnoreAndExceptionPropagation() {
             // Given : 기존 manager 등록
             AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
-            scheduler.container.put(key, oldManager);
+            register(key, oldManager);
             
             // Given : 기존 manager 취소 -> Exception
             doThrow(new RuntimeException("Test error message")).when(oldManager).cancel();
@@ -190,7 +211,7 @@ class AbstractJobSchedulerTest {
             // Then : 기존 manager 취소 호출
             verify(oldManager, times(1)).cancel();
             // Then : 기존 manager 등록 확인
-            assertThat(scheduler.container.get(key)).isEqualTo(oldManager);
+            assertThat(managerOf(key)).isEqualTo(oldManager);
         }
 
         @Test
@@ -199,7 +220,7 @@ class AbstractJobSchedulerTest {
             // Given : 기존 manager 등록
             AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
             when(oldManager.getJobDefinition()).thenReturn(definition);
-            scheduler.container.put(key, oldManager);
+            register(key, oldManager);
             
             // Given : 교체할 policy 생성
             SchedulePolicy newPolicy = mock(SchedulePolicy.class);
@@ -222,7 +243,7 @@ class AbstractJobSchedulerTest {
             inOrder.verify(oldManager, times(1)).schedule();
 
             // Then : 기존 manager 등록 확인
-            assertThat(scheduler.container.get(key)).isEqualTo(oldManager);
+            assertThat(managerOf(key)).isEqualTo(oldManager);
         }
 
         @Test
@@ -231,7 +252,7 @@ class AbstractJobSchedulerTest {
             // Given : 기존 manager 등록
             AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
             when(oldManager.getJobDefinition()).thenReturn(definition);
-            scheduler.container.put(key, oldManager);
+            register(key, oldManager);
 
             // Given : 교체할 policy 생성
             SchedulePolicy newPolicy = mock(SchedulePolicy.class);
@@ -260,7 +281,7 @@ class AbstractJobSchedulerTest {
             inOrder.verify(oldManager, times(1)).schedule();
 
             // Then : 기존 manager 등록 확인
-            assertThat(scheduler.container.get(key)).isEqualTo(oldManager);
+            assertThat(managerOf(key)).isEqualTo(oldManager);
         }
 
         @Test
@@ -269,7 +290,7 @@ class AbstractJobSchedulerTest {
             // Given : 기존 manager 등록
             AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
             when(oldManager.getJobDefinition()).thenReturn(definition);
-            scheduler.container.put(key, oldManager);
+            register(key, oldManager);
 
             // Given : 기존 manager 스케줄 -> Exception
             doThrow(new RuntimeException("Test error message1")).when(oldManager).schedule();
@@ -313,7 +334,7 @@ class AbstractJobSchedulerTest {
         void givenExistingKey_whenUnschedule_thenSuccess() {
             // Given: 기존 manager 등록
             AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
-            scheduler.container.put(key, oldManager);
+            register(key, oldManager);
 
             // When : 로직 실행
             scheduler.unschedule(key);
@@ -339,7 +360,7 @@ class AbstractJobSchedulerTest {
         void givenCancelError_whenUnschedule_thenKeepJobAndExceptionPropagation() {
             // Given: 기존 manager 등록
             AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
-            scheduler.container.put(key, oldManager);
+            register(key, oldManager);
 
             // Given : 기존 manager 취소 -> Exception
             doThrow(new RuntimeException("Test error message")).when(oldManager).cancel();
@@ -354,7 +375,374 @@ class AbstractJobSchedulerTest {
             verify(oldManager, times(1)).cancel();
             // Then : 기존 manager 등록 확인
             assertThat(scheduler.container).containsKey(key);
-            assertThat(scheduler.container.get(key)).isEqualTo(oldManager);
+            assertThat(managerOf(key)).isEqualTo(oldManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("scheduleAll 메서드 검증")
+    class Context_ScheduleAll {
+
+        @Test
+        @DisplayName("신규 job들을 등록할 때, 모두 Success")
+        void givenNewJobs_whenScheduleAll_thenAllSuccess() {
+            // Given: 신규 job 2개
+            JobDefinition definition1 = newDefinition();
+            JobDefinition definition2 = newDefinition();
+            AbstractJobScheduler.ScheduleManager manager1 = newManager(definition1);
+            AbstractJobScheduler.ScheduleManager manager2 = newManager(definition2);
+            when(scheduler.createManager(definition1, policy)).thenReturn(manager1);
+            when(scheduler.createManager(definition2, policy)).thenReturn(manager2);
+
+            // When: 로직 실행
+            BulkScheduleResult result = scheduler.scheduleAll(List.of(
+                    JobRegistration.of(definition1, policy), JobRegistration.of(definition2, policy)));
+
+            // Then: 모두 스케줄 및 등록
+            assertThat(result.isAllSucceeded()).isTrue();
+            assertThat(result.getSucceeded()).containsExactly(definition1.getKey(), definition2.getKey());
+            verify(manager1, times(1)).schedule();
+            verify(manager2, times(1)).schedule();
+            assertThat(managerOf(definition1.getKey())).isEqualTo(manager1);
+            assertThat(managerOf(definition2.getKey())).isEqualTo(manager2);
+        }
+
+        @Test
+        @DisplayName("일부 job이 이미 존재하거나 스케줄 실패할 때, 해당 key만 실패 및 나머지 Success")
+        void givenPartialFailure_whenScheduleAll_thenReportPerKey() {
+            // Given: 기존 job, 스케줄 실패 job, 정상 job
+            AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
+            register(key, oldManager);
+
+            JobDefinition failing = newDefinition();
+            AbstractJobScheduler.ScheduleManager failingManager = newManager(failing);
+            when(scheduler.createManager(failing, policy)).thenReturn(failingManager);
+            doThrow(new RuntimeException("Test error message")).when(failingManager).schedule();
+
+            JobDefinition healthy = newDefinition();
+            AbstractJobScheduler.ScheduleManager healthyManager = newManager(healthy);
+            when(scheduler.createManager(healthy, policy)).thenReturn(healthyManager);
+
+            // When: 로직 실행
+            BulkScheduleResult result = scheduler.scheduleAll(List.of(
+                    JobRegistration.of(definition, policy),
+                    JobRegistration.of(failing, policy),
+                    JobRegistration.of(healthy, policy)));
+
+            // Then: key별 결과
+            assertThat(result.getSucceeded()).containsExactly(healthy.getKey());
+            assertThat(result.getFailures()).containsOnlyKeys(key, failing.getKey());
+            assertThat(result.getFailures().get(key)).isInstanceOf(DuplicateScheduleException.class);
+            assertThat(result.getFailures().get(failing.getKey())).hasMessage("Test error message");
+
+            // Then: 기존 job 유지, 실패 job 미등록, 정상 job 등록
+            assertThat(managerOf(key)).isEqualTo(oldManager);
+            assertThat(scheduler.container).doesNotContainKey(failing.getKey());
+            assertThat(managerOf(healthy.getKey())).isEqualTo(healthyManager);
+        }
+
+        @Test
+        @DisplayName("요청 내 같은 key가 반복될 때, 첫 항목만 등록하고 반복 항목은 중복 실패")
+        void givenRepeatedKey_whenScheduleAll_thenFirstOnlyAndReportDuplicate() {
+            AbstractJobScheduler.ScheduleManager newManager = newManager(definition);
+            when(scheduler.createManager(definition, policy)).thenReturn(newManager);
+            SchedulePolicy otherPolicy = mock(SchedulePolicy.class);
+
+            BulkScheduleResult result = scheduler.scheduleAll(List.of(
+                    JobRegistration.of(definition, policy), JobRegistration.of(definition, otherPolicy)));
+
+            assertThat(result.getSucceeded()).containsExactly(key);
+            assertThat(result.getFailures()).containsOnlyKeys(key);
+            assertThat(result.getFailures().get(key)).isInstanceOf(DuplicateScheduleException.class);
+            verify(scheduler, never()).createManager(definition, otherPolicy);
+            assertThat(managerOf(key)).isEqualTo(newManager);
+        }
+
+        private JobDefinition newDefinition() {
+            JobDefinitionKey newKey = mock(JobDefinitionKey.class);
+            JobDefinition newDefinition = mock(JobDefinition.class);
+            when(newDefinition.getKey()).thenReturn(newKey);
+            return newDefinition;
+        }
+
+        private AbstractJobScheduler.ScheduleManager newManager(JobDefinition jobDefinition) {
+            AbstractJobScheduler.ScheduleManager manager = mock(AbstractJobScheduler.ScheduleManager.class);
+            lenient().when(manager.getJobDefinition()).thenReturn(jobDefinition);
+            return manager;
+        }
+    }
+
+    @Nested
+    @DisplayName("rescheduleAll 메서드 검증")
+    class Context_RescheduleAll {
+
+        @Test
+        @DisplayName("기존 job들을 변경할 때, 취소와 등록을 엔진에 한 번씩 일괄 위임")
+        void givenExistingJobs_whenRescheduleAll_thenBatchEngineCalls() {
+            // Given: 기존 job 2개와 신규 manager
+            JobDefinition definition1 = newDefinition();
+            JobDefinition definition2 = newDefinition();
+            AbstractJobScheduler.ScheduleManager oldManager1 = newManager(definition1);
+            AbstractJobScheduler.ScheduleManager oldManager2 = newManager(definition2);
+            register(definition1.getKey(), oldManager1);
+            register(definition2.getKey(), oldManager2);
+            AbstractJobScheduler.ScheduleManager newManager1 = newManager(definition1);
+            AbstractJobScheduler.ScheduleManager newManager2 = newManager(definition2);
+            when(scheduler.createManager(definition1, policy)).thenReturn(newManager1);
+            when(scheduler.createManager(definition2, policy)).thenReturn(newManager2);
+
+            // When: 로직 실행
+            Map<JobDefinitionKey, SchedulePolicy> newPolicies = new LinkedHashMap<>();
+            newPolicies.put(definition1.getKey(), policy);
+            newPolicies.put(definition2.getKey(), policy);
+            BulkScheduleResult result = scheduler.rescheduleAll(newPolicies);
+
+            // Then: 엔진 일괄 호출 및 신규 manager로 교체
+            assertThat(result.getSucceeded()).containsExactly(definition1.getKey(), definition2.getKey());
+            verify(scheduler, times(1)).cancelManagers(List.of(oldManager1, oldManager2));
+            verify(scheduler, times(1)).scheduleManagers(List.of(newManager1, newManager2));
+            assertThat(managerOf(definition1.getKey())).isEqualTo(newManager1);
+            assertThat(managerOf(definition2.getKey())).isEqualTo(newManager2);
+        }
+
+        @Test
+        @DisplayName("일부 신규 manager 스케줄 실패하거나 job이 없을 때, 해당 key만 실패 및 기존 manager 롤백")
+        void givenPartialFailure_whenRescheduleAll_thenRollbackPerKey() {
+            // Given: 스케줄 실패 job, 정상 job, 미등록 key
+            JobDefinition failing = newDefinition();
+            JobDefinition healthy = newDefinition();
+            AbstractJobScheduler.ScheduleManager failingOld = newManager(failing);
+            AbstractJobScheduler.ScheduleManager healthyOld = newManager(healthy);
+            register(failing.getKey(), failingOld);
+            register(healthy.getKey(), healthyOld);
+            AbstractJobScheduler.ScheduleManager failingNew = newManager(failing);
+            AbstractJobScheduler.ScheduleManager healthyNew = newManager(healthy);
+            doThrow(new RuntimeException("Test error message")).when(failingNew).schedule();
+            when(scheduler.createManager(failing, policy)).thenReturn(failingNew);
+            when(scheduler.createManager(healthy, policy)).thenReturn(healthyNew);
+            JobDefinitionKey missing = mock(JobDefinitionKey.class);
+
+            // When: 로직 실행
+            Map<JobDefinitionKey, SchedulePolicy> newPolicies = new LinkedHashMap<>();
+            newPolicies.put(failing.getKey(), policy);
+            newPolicies.put(missing, policy);
+            newPolicies.put(healthy.getKey(), policy);
+            BulkScheduleResult result = scheduler.rescheduleAll(newPolicies);
+
+            // Then: key별 결과 (요청 순서)
+            assertThat(result.getSucceeded()).containsExactly(healthy.getKey());
+            assertThat(result.getFailures()).containsOnlyKeys(failing.getKey(), missing);
+            assertThat(result.getFailures().get(failing.getKey())).hasMessage("Test error message");
+            assertThat(result.getFailures().get(missing)).isInstanceOf(NotFoundScheduleException.class);
+
+            // Then: 실패 job은 기존 manager 롤백, 정상 job은 교체
+            verify(failingOld, times(1)).schedule();
+            assertThat(managerOf(failing.getKey())).isEqualTo(failingOld);
+            assertThat(managerOf(healthy.getKey())).isEqualTo(healthyNew);
+        }
+
+        private JobDefinition newDefinition() {
+            JobDefinitionKey newKey = mock(JobDefinitionKey.class);
+            JobDefinition newDefinition = mock(JobDefinition.class);
+            when(newDefinition.getKey()).thenReturn(newKey);
+            return newDefinition;
+        }
+
+        private AbstractJobScheduler.ScheduleManager newManager(JobDefinition jobDefinition) {
+            AbstractJobScheduler.ScheduleManager manager = mock(AbstractJobScheduler.ScheduleManager.class);
+            lenient().when(manager.getJobDefinition()).thenReturn(jobDefinition);
+            return manager;
+        }
+    }
+
+    @Nested
+    @DisplayName("unscheduleAll 메서드 검증")
+    class Context_UnscheduleAll {
+
+        @Test
+        @DisplayName("일부 manager 취소 실패할 때, 해당 key만 유지 및 나머지 제거")
+        void givenPartialCancelError_whenUnscheduleAll_thenReportPerKey() {
+            // Given: 취소 실패 manager, 정상 manager
+            AbstractJobScheduler.ScheduleManager failingManager = mock(AbstractJobScheduler.ScheduleManager.class);
+            register(key, failingManager);
+            doThrow(new RuntimeException("Test error message")).when(failingManager).cancel();
+
+            JobDefinitionKey otherKey = mock(JobDefinitionKey.class);
+            AbstractJobScheduler.ScheduleManager otherManager = mock(AbstractJobScheduler.ScheduleManager.class);
+            register(otherKey, otherManager);
+
+            // When: 로직 실행
+            BulkScheduleResult result = scheduler.unscheduleAll(List.of(key, otherKey));
+
+            // Then: key별 결과
+            assertThat(result.getSucceeded()).containsExactly(otherKey);
+            assertThat(result.getFailures()).containsOnlyKeys(key);
+            assertThat(managerOf(key)).isEqualTo(failingManager);
+            assertThat(scheduler.container).doesNotContainKey(otherKey);
+            verify(scheduler, times(1)).cancelManagers(List.of(failingManager, otherManager));
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile 메서드 검증")
+    class Context_Reconcile {
+
+        @Test
+        @DisplayName("원하는 상태와 비교할 때, 추가/변경/제거된 job만 처리 및 정책이 같은 job은 유지")
+        void givenDesiredState_whenReconcile_thenApplyChangesOnly() {
+            // Given: 유지할 job, 정책이 바뀔 job, 제거될 job 등록
+            JobDefinition kept = newDefinition();
+            JobDefinition changed = newDefinition();
+            JobDefinition removed = newDefinition();
+            AbstractJobScheduler.ScheduleManager keptManager = newManager(kept, SchedulePolicy.fixedRate(Duration.ofMinutes(1)));
+            AbstractJobScheduler.ScheduleManager changedManager = newManager(changed, SchedulePolicy.fixedRate(Duration.ofMinutes(1)));
+            AbstractJobScheduler.ScheduleManager removedManager = newManager(removed, SchedulePolicy.fixedRate(Duration.ofMinutes(1)));
+            register(kept.getKey(), keptManager);
+            register(changed.getKey(), changedManager);
+            register(removed.getKey(), removedManager);
+
+            // Given: 신규 job과 변경된 정책의 manager
+            JobDefinition added = newDefinition();
+            SchedulePolicy newPolicy = SchedulePolicy.fixedRate(Duration.ofMinutes(5));
+            AbstractJobScheduler.ScheduleManager addedManager = newManager(added, newPolicy);
+            AbstractJobScheduler.ScheduleManager rescheduledManager = newManager(changed, newPolicy);
+            when(scheduler.createManager(added, newPolicy)).thenReturn(addedManager);
+            when(scheduler.createManager(changed, newPolicy)).thenReturn(rescheduledManager);
+
+            // When: 값이 같은 새 정책 객체로 원하는 상태 전달
+            ReconcileResult result = scheduler.reconcile(List.of(
+                    JobRegistration.of(kept, SchedulePolicy.fixedRate(Duration.ofMinutes(1))),
+                    JobRegistration.of(changed, newPolicy),
+                    JobRegistration.of(added, newPolicy)));
+
+            // Then: 처리 종류별 결과
+            assertThat(result.isAllSucceeded()).isTrue();
+            assertThat(result.getScheduled()).containsExactly(added.getKey());
+            assertThat(result.getRescheduled()).containsExactly(changed.getKey());
+            assertThat(result.getUnscheduled()).containsExactly(removed.getKey());
+            assertThat(result.getUnchanged()).isEqualTo(1);
+
+            // Then: 유지할 job은 엔진 호출 없음
+            verify(keptManager, never()).cancel();
+            verify(scheduler, times(2)).createManager(any(), any());
+            assertThat(managerOf(kept.getKey())).isEqualTo(keptManager);
+            assertThat(managerOf(changed.getKey())).isEqualTo(rescheduledManager);
+            assertThat(managerOf(added.getKey())).isEqualTo(addedManager);
+            assertThat(scheduler.container).doesNotContainKey(removed.getKey());
+        }
+
+        @Test
+        @DisplayName("일부 job 변경이 실패할 때, 해당 key만 실패 및 나머지 처리")
+        void givenPartialFailure_whenReconcile_thenReportPerKey() {
+            // Given: 취소 실패 manager, 제거될 manager
+            JobDefinition failing = newDefinition();
+            AbstractJobScheduler.ScheduleManager failingManager = newManager(failing, SchedulePolicy.fixedRate(Duration.ofMinutes(1)));
+            doThrow(new RuntimeException("Test error message")).when(failingManager).cancel();
+            register(failing.getKey(), failingManager);
+            JobDefinition removed = newDefinition();
+            register(removed.getKey(), newManager(removed, SchedulePolicy.fixedRate(Duration.ofMinutes(1))));
+
+            // When: 로직 실행
+            ReconcileResult result = scheduler.reconcile(List.of(
+                    JobRegistration.of(failing, SchedulePolicy.fixedRate(Duration.ofMinutes(5)))));
+
+            // Then: key별 결과
+            assertThat(result.getFailures()).containsOnlyKeys(failing.getKey());
+            assertThat(result.getUnscheduled()).containsExactly(removed.getKey());
+            assertThat(managerOf(failing.getKey())).isEqualTo(failingManager);
+        }
+
+        private JobDefinition newDefinition() {
+            JobDefinitionKey newKey = mock(JobDefinitionKey.class);
+            JobDefinition newDefinition = mock(JobDefinition.class);
+            when(newDefinition.getKey()).thenReturn(newKey);
+            return newDefinition;
+        }
+
+        private AbstractJobScheduler.ScheduleManager newManager(JobDefinition jobDefinition, SchedulePolicy managerPolicy) {
+            AbstractJobScheduler.ScheduleManager manager = mock(AbstractJobScheduler.ScheduleManager.class);
+            lenient().when(manager.getJobDefinition()).thenReturn(jobDefinition);
+            lenient().when(manager.getPolicy()).thenReturn(managerPolicy);
+            return manager;
+        }
+    }
+
+    @Nested
+    @DisplayName("엔진 호출 격리 검증")
+    class Context_EngineIsolation {
+
+        @Test
+        @DisplayName("같은 버킷의 다른 key가 엔진 호출 중일 때, 대기 없이 Success")
+        void givenSlowEngineCallOnCollidingKey_whenSchedule_thenNotBlocked() throws Exception {
+            // Given: 같은 hashCode를 가진 두 key, A의 manager 생성은 latch로 지연
+            JobDefinition slow = collidingDefinition("slow");
+            JobDefinition fast = collidingDefinition("fast");
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AbstractJobScheduler.ScheduleManager slowManager = mock(AbstractJobScheduler.ScheduleManager.class);
+            AbstractJobScheduler.ScheduleManager fastManager = mock(AbstractJobScheduler.ScheduleManager.class);
+            when(scheduler.createManager(slow, policy)).thenAnswer(invocation -> {
+                entered.countDown();
+                release.await();
+                return slowManager;
+            });
+            when(scheduler.createManager(fast, policy)).thenReturn(fastManager);
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> slowSchedule = executor.submit(() -> scheduler.schedule(slow, policy));
+                assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+
+                // When: A가 엔진 호출 중일 때 B 등록
+                scheduler.schedule(fast, policy);
+
+                // Then: B 등록 완료, A는 아직 SCHEDULING 상태
+                assertThat(managerOf(fast.getKey())).isEqualTo(fastManager);
+                assertThat(scheduler.container.get(slow.getKey()).getState()).isEqualTo(ScheduleState.SCHEDULING);
+
+                release.countDown();
+                slowSchedule.get(2, TimeUnit.SECONDS);
+                assertThat(managerOf(slow.getKey())).isEqualTo(slowManager);
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("엔진 호출 중인 key를 같은 스레드에서 다시 변경할 때, Exception 전파 및 기존 manager 유지")
+        void givenReentrantCall_whenReschedule_thenExceptionPropagation() {
+            // Given: 기존 manager 등록, 신규 manager 생성 중 같은 key를 다시 reschedule
+            AbstractJobScheduler.ScheduleManager oldManager = mock(AbstractJobScheduler.ScheduleManager.class);
+            when(oldManager.getJobDefinition()).thenReturn(definition);
+            register(key, oldManager);
+            SchedulePolicy newPolicy = mock(SchedulePolicy.class);
+            when(scheduler.createManager(definition, newPolicy)).thenAnswer(invocation -> {
+                scheduler.reschedule(key, policy);
+                return mock(AbstractJobScheduler.ScheduleManager.class);
+            });
+
+            // When & Then: 재진입 예외 발생 -> 롤백
+            assertThatThrownBy(() -> scheduler.reschedule(key, newPolicy))
+                    .isInstanceOf(ScheduleExecutionException.class);
+
+            // Then: 기존 manager 롤백 및 유지
+            verify(oldManager, times(1)).schedule();
+            assertThat(managerOf(key)).isEqualTo(oldManager);
+        }
+
+        private JobDefinition collidingDefinition(String name) {
+            JobDefinition collidingDefinition = mock(JobDefinition.class);
+            when(collidingDefinition.getKey()).thenReturn(new CollidingKey(name));
+            return collidingDefinition;
+        }
+    }
+
+    /** 모든 인스턴스가 같은 해시 버킷에 배치되는 key */
+    private record CollidingKey(String name) implements JobDefinitionKey {
+        @Override
+        public int hashCode() {
+            return 1;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.github.devoog04.core.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CronExpression 검증")
+class CronExpressionTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("분 단위 step 표현식일 때, 다음 5분 경계 반환")
+    void givenMinuteStep_whenNext_thenNextBoundary() {
+        CronExpression cron = CronExpression.parse("0 0/5 * * * ?", ZONE);
+
+        assertThat(cron.nextFireTime(millis(2026, 3, 1, 10, 7, 30, ZONE))).isEqualTo(millis(2026, 3, 1, 10, 10, 0, ZONE));
+    }
+
+    @Test
+    @DisplayName("기준 시각이 실행 시각과 같을 때, 그 다음 실행 시각 반환")
+    void givenMatchingFrom_whenNext_thenExclusive() {
+        CronExpression cron = CronExpression.parse("0 0 * * * *", ZONE);
+
+        assertThat(cron.nextFireTime(millis(2026, 3, 1, 10, 0, 0, ZONE))).isEqualTo(millis(2026, 3, 1, 11, 0, 0, ZONE));
+    }
+
+    @Test
+    @DisplayName("요일/월 이름을 사용할 때, 조건을 만족하는 날짜 반환")
+    void givenNames_whenNext_thenMatchingDay() {
+        CronExpression cron = CronExpression.parse("0 30 9 * FEB MON-FRI", ZONE);
+
+        // 2026-01-31 (토) -> 2026-02-02 (월)
+        assertThat(cron.nextFireTime(millis(2026, 1, 31, 12, 0, 0, ZONE))).isEqualTo(millis(2026, 2, 2, 9, 30, 0, ZONE));
+    }
+
+    @Test
+    @DisplayName("요일 7은 일요일로 취급")
+    void givenSeven_whenNext_thenSunday() {
+        CronExpression cron = CronExpression.parse("0 0 0 ? * 7", ZONE);
+
+        assertThat(cron.nextFireTime(millis(2026, 3, 2, 0, 0, 0, ZONE))).isEqualTo(millis(2026, 3, 8, 0, 0, 0, ZONE));
+    }
+
+    @Test
+    @DisplayName("윤년 2월 29일일 때, 다음 윤년 반환")
+    void givenLeapDay_whenNext_thenNextLeapYear() {
+        CronExpression cron = CronExpression.parse("0 0 12 29 2 ?", ZONE);
+
+        assertThat(cron.nextFireTime(millis(2025, 1, 1, 0, 0, 0, ZONE))).isEqualTo(millis(2028, 2, 29, 12, 0, 0, ZONE));
+    }
+
+    @Test
+    @DisplayName("DST 시간대일 때, 전환 전후 모두 현지 시각 기준으로 계산")
+    void givenDstZone_whenNext_thenLocalTime() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        CronExpression cron = CronExpression.parse("0 30 9 * * ?", newYork);
+
+        // 2026-03-08 02:00 DST 시작
+        assertThat(cron.nextFireTime(millis(2026, 3, 7, 12, 0, 0, newYork))).isEqualTo(millis(2026, 3, 8, 9, 30, 0, newYork));
+        assertThat(cron.nextFireTime(millis(2026, 3, 8, 12, 0, 0, newYork))).isEqualTo(millis(2026, 3, 9, 9, 30, 0, newYork));
+    }
+
+    @Test
+    @DisplayName("날짜 변환은 java.time과 동일")
+    void givenEpochDays_whenConvert_thenSameAsJavaTime() {
+        for (long epochDay = -800_000; epochDay < 800_000; epochDay += 997) {
+            LocalDate expected = LocalDate.ofEpochDay(epochDay);
+            long date = CronExpression.civilFromDays(epochDay);
+
+            assertThat(date >> 9).isEqualTo(expected.getYear());
+            assertThat((date >> 5) & 0xF).isEqualTo(expected.getMonthValue());
+            assertThat(date & 0x1F).isEqualTo(expected.getDayOfMonth());
+            assertThat(CronExpression.daysFromCivil(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()))
+                    .isEqualTo(epochDay);
+        }
+    }
+
+    @Test
+    @DisplayName("문법이 올바르지 않을 때 Exception")
+    void givenInvalidExpression_whenParse_thenThrowsException() {
+        assertThatThrownBy(() -> CronExpression.parse("aaa", ZONE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CronExpression.parse("0 0 25 * * ?", ZONE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CronExpression.parse("0 0/0 * * * ?", ZONE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CronExpression.parse("0 0 * * XYZ ?", ZONE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long millis(int year, int month, int day, int hour, int minute, int second, ZoneId zone) {
+        return ZonedDateTime.of(year, month, day, hour, minute, second, 0, zone).toInstant().toEpochMilli();
+    }
+}
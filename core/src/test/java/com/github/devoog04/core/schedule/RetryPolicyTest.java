@@ -0,0 +1,58 @@
+package com.github.devoog04.core.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RetryPolicy 검증")
+class RetryPolicyTest {
+
+    @Test
+    @DisplayName("시도마다 대기 시간이 배수로 늘고 상한을 넘지 않으며, 분산은 그 비율 안에서 줄임")
+    void givenExponential_whenBackoff_thenGrowsAndCapped() {
+        RetryPolicy policy = RetryPolicy.exponential(5, Duration.ofMillis(100)).withMaxBackoff(Duration.ofMillis(300));
+        long millis = Duration.ofMillis(1).toNanos();
+
+        assertThat(policy.backoffNanos(1)).isEqualTo(100 * millis);
+        assertThat(policy.backoffNanos(2)).isEqualTo(200 * millis);
+        assertThat(policy.backoffNanos(3)).isEqualTo(300 * millis);
+        assertThat(policy.withJitter(0.5).backoffNanos(1)).isBetween(50 * millis, 100 * millis);
+    }
+
+    @Test
+    @DisplayName("시도 횟수가 남고 재시도할 예외일 때만 재시도")
+    void givenFilter_whenShouldRetry_thenMatchAttemptsAndType() {
+        RetryPolicy policy = RetryPolicy.exponential(3, Duration.ofMillis(10)).retryOn(UncheckedIOException.class);
+        UncheckedIOException io = new UncheckedIOException(new IOException("connection reset"));
+
+        assertThat(policy.shouldRetry(1, io)).isTrue();
+        assertThat(policy.shouldRetry(3, io)).isFalse();
+        assertThat(policy.shouldRetry(1, new IllegalArgumentException())).isFalse();
+        assertThat(RetryPolicy.none().shouldRetry(1, io)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시도 횟수나 대기 시간, 배수, 분산이 올바르지 않을 때 Exception")
+    void givenInvalidValues_whenCreate_thenThrowsException() {
+        RetryPolicy policy = RetryPolicy.exponential(3, Duration.ofSeconds(1));
+
+        assertFailure(() -> RetryPolicy.exponential(0, Duration.ofSeconds(1)), "maxAttempts must be positive.");
+        assertFailure(() -> RetryPolicy.exponential(3, Duration.ZERO), "initialBackoff must be positive.");
+        assertFailure(() -> policy.withMultiplier(0.5), "multiplier must not be less than 1.");
+        assertFailure(() -> policy.withMaxBackoff(Duration.ofMillis(500)), "maxBackoff must not be less than initialBackoff.");
+        assertFailure(() -> policy.withJitter(1.5), "jitter must be between 0 and 1.");
+    }
+
+    private void assertFailure(Supplier<RetryPolicy> supplier, String message) {
+        assertThatThrownBy(supplier::get)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(message);
+    }
+}
@@ -1,10 +1,13 @@
 package com.github.devoog04.core.schedule;
 
+import com.github.devoog04.core.definition.JobDefinitionKey;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -17,10 +20,29 @@ class SchedulePolicyTest {
     @DisplayName("cron 메서드 검증")
     class Context_Cron {
         @Test
-        @DisplayName("expression이 글자가 있을 때 성공")
-        void givenExistExpression_whenCreate_thenSuccess() {
-            String expression = "aaa";
+        @DisplayName("expression이 올바를 때 성공 및 컴파일")
+        void givenValidExpression_whenCreate_thenSuccess() {
+            String expression = "0 0/5 * * * ?";
             assertSuccess(() -> SchedulePolicy.cron(expression), ScheduleType.CRON, expression, null);
+            assertThat(SchedulePolicy.cron(expression).getCron()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("expression 문법이 올바르지 않을 때 Exception")
+        void givenInvalidExpression_whenCreate_thenThrowsException() {
+            assertFailure( () -> SchedulePolicy.cron("aaa"), "6 fields");
+            assertFailure( () -> SchedulePolicy.cron("0 0 24 * * ?"), "out of range");
+            assertFailure( () -> SchedulePolicy.cron("0 0 0 30 2 ?"), "never fires");
+        }
+
+        @Test
+        @DisplayName("시간대가 지정될 때, 해당 시간대 기준으로 다음 실행 시각 계산")
+        void givenZone_whenNextFireTime_thenZoneAware() {
+            SchedulePolicy policy = SchedulePolicy.cron("0 0 9 * * ?", ZoneId.of("Asia/Seoul"));
+            long from = ZonedDateTime.of(2026, 3, 1, 10, 0, 0, 0, ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
+
+            assertThat(policy.nextFireTime(from))
+                    .isEqualTo(ZonedDateTime.of(2026, 3, 2, 9, 0, 0, 0, ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli());
         }
 
         @Test
@@ -63,6 +85,12 @@ class SchedulePolicyTest {
             assertSuccess(() -> SchedulePolicy.fixedRate(interval), ScheduleType.FIXED_RATE, null, interval);
         }
 
+        @Test
+        @DisplayName("다음 실행 시각은 기준 시각 + interval")
+        void givenInterval_whenNextFireTime_thenAddInterval() {
+            assertThat(SchedulePolicy.fixedRate(Duration.ofSeconds(5)).nextFireTime(1_000L)).isEqualTo(6_000L);
+        }
+
         @Test
         @DisplayName("interval이 null or 0 or 음수일 때 Exception")
         void givenInvalidInterval_whenCreate_thenThrowsException() {
@@ -72,6 +100,223 @@ class SchedulePolicyTest {
         }
     }
 
+    @Nested
+    @DisplayName("withMisfire 메서드 검증")
+    class Context_WithMisfire {
+        @Test
+        @DisplayName("미스파이어 정책을 지정하지 않을 때, 기본값은 fireOnce")
+        void givenDefault_whenGetMisfire_thenFireOnce() {
+            assertThat(SchedulePolicy.fixedRate(Duration.ofSeconds(1)).getMisfire()).isSameAs(MisfirePolicy.fireOnce());
+        }
+
+        @Test
+        @DisplayName("미스파이어 정책을 지정할 때, 나머지 설정은 유지한 새 정책 반환")
+        void givenMisfire_whenWith_thenNewPolicy() {
+            SchedulePolicy original = SchedulePolicy.fixedRate(Duration.ofSeconds(1));
+
+            SchedulePolicy policy = original.withMisfire(MisfirePolicy.catchUp(3));
+
+            assertThat(policy).isNotSameAs(original);
+            assertThat(policy.getInterval()).isEqualTo(Duration.ofSeconds(1));
+            assertThat(policy.getMisfire().getStrategy()).isEqualTo(MisfirePolicy.Strategy.CATCH_UP);
+            assertThat(policy.getMisfire().getMaxCatchUp()).isEqualTo(3);
+            assertThat(original.getMisfire()).isSameAs(MisfirePolicy.fireOnce());
+        }
+
+        @Test
+        @DisplayName("놓친 실행 수에 따라 방식별로 수행할 실행 수 계산")
+        void givenMissed_whenDueFires_thenByStrategy() {
+            assertThat(MisfirePolicy.fireOnce().dueFires(5)).isEqualTo(1);
+            assertThat(MisfirePolicy.skip().dueFires(0)).isEqualTo(1);
+            assertThat(MisfirePolicy.skip().dueFires(1)).isEqualTo(0);
+            assertThat(MisfirePolicy.catchUp(3).dueFires(1)).isEqualTo(2);
+            assertThat(MisfirePolicy.catchUp(3).dueFires(100)).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("미스파이어 정책이 null이거나 보충 수가 양수가 아닐 때 Exception")
+        void givenInvalidMisfire_whenCreate_thenThrowsException() {
+            assertFailure(() -> SchedulePolicy.fixedRate(Duration.ofSeconds(1)).withMisfire(null), "misfire is required.");
+            assertThatThrownBy(() -> MisfirePolicy.catchUp(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("maxCatchUp must be positive.");
+        }
+    }
+
+    @Nested
+    @DisplayName("withJitter 메서드 검증")
+    class Context_WithJitter {
+        @Test
+        @DisplayName("같은 키는 항상 같은 분산 값, 여러 키는 범위 안에 고르게 분산")
+        void givenKeys_whenJitterOffset_thenDeterministicAndSpread() {
+            SchedulePolicy policy = SchedulePolicy.cron("0 * * * * ?").withJitter(Duration.ofSeconds(10));
+            int[] buckets = new int[10];
+
+            for (int i = 0; i < 10_000; i++) {
+                long offset = policy.jitterOffset(new TestKey("job-" + i));
+                assertThat(offset).isBetween(0L, 9_999L);
+                assertThat(policy.jitterOffset(new TestKey("job-" + i))).isEqualTo(offset);
+                buckets[(int) (offset / 1_000)]++;
+            }
+
+            // 초 단위 구간마다 평균(1000)의 ±20% 이내
+            for (int count : buckets) {
+                assertThat(count).isBetween(800, 1_200);
+            }
+        }
+
+        @Test
+        @DisplayName("CRON 정책에 분산을 지정할 때, 실행 시각이 분산 값만큼 밀림")
+        void givenCron_whenNextFireTime_thenShiftedByOffset() {
+            SchedulePolicy policy = SchedulePolicy.cron("0 * * * * ?", ZoneId.of("UTC")).withJitter(Duration.ofSeconds(30));
+
+            assertThat(policy.nextFireTime(60_000L, 7_000L)).isEqualTo(67_000L);
+            assertThat(policy.nextFireTime(67_000L, 7_000L)).isEqualTo(127_000L);
+            assertThat(policy.nextFireTime(50_000L, 7_000L)).isEqualTo(67_000L);
+        }
+
+        @Test
+        @DisplayName("FIXED_RATE 정책에 분산을 지정할 때, 분산 값만큼 밀린 주기 격자에 정렬되고 분산 범위는 주기 이내")
+        void givenFixedRate_whenNextFireTime_thenAlignedToGrid() {
+            SchedulePolicy policy = SchedulePolicy.fixedRate(Duration.ofSeconds(10)).withJitter(Duration.ofMinutes(1));
+
+            assertThat(policy.nextFireTime(100_000L, 3_000L)).isEqualTo(103_000L);
+            assertThat(policy.nextFireTime(103_000L, 3_000L)).isEqualTo(113_000L);
+            assertThat(policy.jitterOffset(new TestKey("job"))).isLessThan(10_000L);
+        }
+
+        @Test
+        @DisplayName("분산을 지정하지 않거나 0일 때, 분산 값은 0이고 기존 계산 유지")
+        void givenNoJitter_whenJitterOffset_thenZero() {
+            SchedulePolicy policy = SchedulePolicy.fixedRate(Duration.ofSeconds(5));
+
+            assertThat(policy.jitterOffset(new TestKey("job"))).isZero();
+            assertThat(policy.withJitter(Duration.ZERO).getJitter()).isNull();
+            assertThat(policy.nextFireTime(1_000L)).isEqualTo(6_000L);
+        }
+
+        @Test
+        @DisplayName("분산 범위가 null or 음수일 때 Exception")
+        void givenInvalidJitter_whenCreate_thenThrowsException() {
+            SchedulePolicy policy = SchedulePolicy.fixedRate(Duration.ofSeconds(5));
+            assertFailure(() -> policy.withJitter(null), "jitter is required.");
+            assertFailure(() -> policy.withJitter(Duration.ofSeconds(-1)), "jitter must not be negative.");
+        }
+    }
+
+    @Nested
+    @DisplayName("withLease 메서드 검증")
+    class Context_WithLease {
+        @Test
+        @DisplayName("리스를 지정할 때, 나머지 설정은 유지한 새 정책 반환")
+        void givenLease_whenWith_thenNewPolicy() {
+            SchedulePolicy policy = SchedulePolicy.fixedRate(Duration.ofSeconds(1))
+                    .withMisfire(MisfirePolicy.skip())
+                    .withLease(Duration.ofMillis(900));
+
+            assertThat(policy.getLease()).isEqualTo(Duration.ofMillis(900));
+            assertThat(policy.getMisfire()).isSameAs(MisfirePolicy.skip());
+            assertThat(policy.withJitter(Duration.ofSeconds(1)).getLease()).isEqualTo(Duration.ofMillis(900));
+        }
+
+        @Test
+        @DisplayName("리스가 null or 0 이하이거나 주기 이상일 때 Exception")
+        void givenInvalidLease_whenCreate_thenThrowsException() {
+            SchedulePolicy policy = SchedulePolicy.fixedDelay(Duration.ofSeconds(1));
+            assertFailure(() -> policy.withLease(null), "lease is required.");
+            assertFailure(() -> policy.withLease(Duration.ZERO), "lease must be positive.");
+            assertFailure(() -> policy.withLease(Duration.ofSeconds(1)), "lease must be shorter than interval.");
+        }
+    }
+
+    @Nested
+    @DisplayName("withTimeout 메서드 검증")
+    class Context_WithTimeout {
+        @Test
+        @DisplayName("시간 제한을 지정할 때, 나머지 설정은 유지한 새 정책 반환")
+        void givenTimeout_whenWith_thenNewPolicy() {
+            SchedulePolicy policy = SchedulePolicy.fixedRate(Duration.ofSeconds(1))
+                    .withLease(Duration.ofMillis(900))
+                    .withTimeout(Duration.ofSeconds(5));
+
+            assertThat(policy.getTimeout()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(policy.getLease()).isEqualTo(Duration.ofMillis(900));
+            assertThat(policy.withMisfire(MisfirePolicy.skip()).getTimeout()).isEqualTo(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("시간 제한이 null or 0 이하일 때 Exception")
+        void givenInvalidTimeout_whenCreate_thenThrowsException() {
+            SchedulePolicy policy = SchedulePolicy.fixedDelay(Duration.ofSeconds(1));
+            assertFailure(() -> policy.withTimeout(null), "timeout is required.");
+            assertFailure(() -> policy.withTimeout(Duration.ZERO), "timeout must be positive.");
+        }
+    }
+
+    @Nested
+    @DisplayName("equals 메서드 검증")
+    class Context_Equals {
+        @Test
+        @DisplayName("같은 설정으로 만든 정책일 때, 값으로 같고 hashCode도 같음")
+        void givenSameSettings_whenEquals_thenEqual() {
+            Supplier<SchedulePolicy> policy = () -> SchedulePolicy.adaptiveDelay(Duration.ofSeconds(1), Duration.ofMinutes(1))
+                    .withMisfire(MisfirePolicy.catchUp(3))
+                    .withJitter(Duration.ofMillis(500))
+                    .withTimeout(Duration.ofSeconds(30));
+
+            assertThat(policy.get()).isEqualTo(policy.get());
+            assertThat(policy.get().hashCode()).isEqualTo(policy.get().hashCode());
+            assertThat(SchedulePolicy.cron("0 0 * * * ?", ZoneId.of("UTC")))
+                    .isEqualTo(SchedulePolicy.cron("0 0 * * * ?", ZoneId.of("UTC")));
+        }
+
+        @Test
+        @DisplayName("설정이 하나라도 다를 때, 같지 않음")
+        void givenDifferentSetting_whenEquals_thenNotEqual() {
+            SchedulePolicy policy = SchedulePolicy.fixedRate(Duration.ofSeconds(10));
+
+            assertThat(policy).isNotEqualTo(SchedulePolicy.fixedDelay(Duration.ofSeconds(10)));
+            assertThat(policy).isNotEqualTo(policy.withMisfire(MisfirePolicy.catchUp(2)));
+            assertThat(policy.withTimeout(Duration.ofSeconds(1))).isNotEqualTo(policy.withTimeout(Duration.ofSeconds(2)));
+            assertThat(SchedulePolicy.cron("0 0 * * * ?", ZoneId.of("UTC")))
+                    .isNotEqualTo(SchedulePolicy.cron("0 0 * * * ?", ZoneId.of("Asia/Seoul")));
+        }
+    }
+
+    @Nested
+    @DisplayName("adaptiveDelay 메서드 검증")
+    class Context_AdaptiveDelay {
+        @Test
+        @DisplayName("결과가 없으면 배수로 늘고 있으면 폭만큼 줄며, 최소와 최대 사이를 벗어나지 않음")
+        void givenResults_whenNextDelay_thenBoundedAimd() {
+            SchedulePolicy policy = SchedulePolicy.adaptiveDelay(Duration.ofSeconds(1), Duration.ofSeconds(10));
+            AdaptiveDelay adaptive = policy.getAdaptive();
+            long second = Duration.ofSeconds(1).toNanos();
+
+            assertThat(policy.getType()).isEqualTo(ScheduleType.FIXED_DELAY);
+            assertThat(policy.getInterval()).isEqualTo(Duration.ofSeconds(1));
+            assertThat(adaptive.nextDelayNanos(second, FireResult.EMPTY)).isEqualTo(2 * second);
+            assertThat(adaptive.nextDelayNanos(8 * second, FireResult.ERROR)).isEqualTo(10 * second);
+            assertThat(adaptive.nextDelayNanos(10 * second, FireResult.PRODUCTIVE)).isEqualTo(9 * second);
+            assertThat(adaptive.nextDelayNanos(second, FireResult.PRODUCTIVE)).isEqualTo(second);
+            assertThat(adaptive.nextDelayNanos(4 * second, null)).isEqualTo(4 * second);
+            assertThat(policy.withJitter(Duration.ofSeconds(1)).getAdaptive()).isSameAs(adaptive);
+        }
+
+        @Test
+        @DisplayName("범위나 조정 값이 올바르지 않을 때 Exception")
+        void givenInvalidBounds_whenCreate_thenThrowsException() {
+            assertFailure(() -> SchedulePolicy.adaptiveDelay(Duration.ZERO, Duration.ofSeconds(1)), "minDelay must be positive.");
+            assertFailure(() -> SchedulePolicy.adaptiveDelay(Duration.ofSeconds(2), Duration.ofSeconds(1)),
+                    "maxDelay must not be less than minDelay.");
+            assertFailure(() -> SchedulePolicy.adaptiveDelay(AdaptiveDelay.of(Duration.ofSeconds(1), Duration.ofSeconds(2),
+                    Duration.ofSeconds(1), 1.0)), "backoffMultiplier must be greater than 1.");
+        }
+    }
+
+    private record TestKey(String name) implements JobDefinitionKey {
+    }
+
     // --- 공통 검증 로직 ---
     private void assertSuccess(Supplier<SchedulePolicy> supplier, ScheduleType type, String expression, Duration interval) {
         SchedulePolicy policy = supplier.get();
@@ -0,0 +1,868 @@
+package com.github.devoog04.core.schedule;
+
+import com.github.devoog04.core.definition.AsyncJobDefinition;
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.lease.JdbcLeaseStore;
+import com.github.devoog04.core.lease.LeaseContext;
+import com.github.devoog04.core.metrics.InMemoryJobMetricsRegistry;
+import com.github.devoog04.core.metrics.JobStats;
+import com.github.devoog04.core.schedule.dispatch.JobDispatcher;
+import com.github.devoog04.core.store.JobKeyCodec;
+import com.github.devoog04.core.schedule.exception.NotFoundScheduleException;
+import com.github.devoog04.core.schedule.exception.ScheduleExecutionException;
+import com.github.devoog04.core.store.MappedJournalScheduleStore;
+import com.github.devoog04.core.store.ScheduleStore;
+import com.github.devoog04.core.store.StoredSchedule;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TimingWheelJobScheduler 검증")
+class TimingWheelJobSchedulerTest {
+    private ExecutorService executor;
+    private TimingWheelJobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2, r -> new Thread(r, "test-worker"));
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .ticksPerWheel(64)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("FIXED_RATE 작업을 등록할 때, 반복 실행되며 작업은 executor 스레드에서 실행")
+    void givenFixedRate_whenSchedule_thenRunRepeatedlyOnExecutor() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        scheduler.schedule(definition(() -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        }), SchedulePolicy.fixedRate(Duration.ofMillis(20)));
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).allMatch("test-worker"::equals);
+    }
+
+    @Test
+    @DisplayName("FIXED_DELAY 작업이 예외를 던질 때, 다음 실행이 계속 등록")
+    void givenFailingFixedDelay_whenSchedule_thenKeepRunning() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+
+        scheduler.schedule(definition(() -> {
+            latch.countDown();
+            throw new IllegalStateException("Test error message");
+        }), SchedulePolicy.fixedDelay(Duration.ofMillis(10)));
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("CRON 작업을 등록할 때, 매초 실행")
+    void givenEverySecondCron_whenSchedule_thenRun() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        scheduler.schedule(definition(latch::countDown), SchedulePolicy.cron("* * * * * ?"));
+
+        assertThat(latch.await(3, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업을 취소할 때, 이후 실행 없음")
+    void givenScheduledJob_whenUnschedule_thenStopRunning() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        JobDefinition definition = definition(count::incrementAndGet);
+        scheduler.schedule(definition, SchedulePolicy.fixedRate(Duration.ofMillis(10)));
+        Thread.sleep(100);
+
+        scheduler.unschedule(definition.getKey());
+        Thread.sleep(30);
+        int afterCancel = count.get();
+        Thread.sleep(100);
+
+        assertThat(afterCancel).isPositive();
+        assertThat(count.get()).isEqualTo(afterCancel);
+    }
+
+    @Test
+    @DisplayName("작업을 재스케줄할 때, 새 정책으로 실행")
+    void givenScheduledJob_whenReschedule_thenRunWithNewPolicy() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        JobDefinition definition = definition(latch::countDown);
+        scheduler.schedule(definition, SchedulePolicy.fixedRate(Duration.ofHours(1)));
+
+        scheduler.reschedule(definition.getKey(), SchedulePolicy.fixedRate(Duration.ofMillis(10)));
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("호출 스레드에서 바로 실행하는 executor일 때, 타이머 스레드에서 작업 미실행")
+    void givenDirectExecutor_whenFire_thenNeverRunOnTimerThread() throws InterruptedException {
+        scheduler.close();
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(Runnable::run)
+                .tickDuration(Duration.ofMillis(1))
+                .build();
+        AtomicInteger count = new AtomicInteger();
+
+        scheduler.schedule(definition(count::incrementAndGet), SchedulePolicy.fixedRate(Duration.ofMillis(5)));
+        Thread.sleep(100);
+
+        assertThat(count.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("디스패처가 받은 실행을 버리고 거부로 돌려줄 때, 키 점유가 반납되어 다음 실행이 계속")
+    void givenDroppedByDispatcher_whenRejected_thenNextFireRuns() throws InterruptedException {
+        // Given: 첫 실행은 받은 뒤 다른 스레드에서 버림
+        AtomicInteger dispatched = new AtomicInteger();
+        JobDispatcher dropFirst = new JobDispatcher() {
+            @Override
+            public void dispatch(JobDefinition definition, Runnable task) {
+                if (dispatched.getAndIncrement() == 0) {
+                    executor.execute(() -> JobDispatcher.reject(task, new RejectedExecutionException("dropped")));
+                } else {
+                    executor.execute(task);
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        scheduler.close();
+        scheduler = TimingWheelJobScheduler.builder()
+                .dispatcher(dropFirst)
+                .tickDuration(Duration.ofMillis(1))
+                .ticksPerWheel(64)
+                .build();
+        CountDownLatch latch = new CountDownLatch(2);
+
+        // When
+        scheduler.schedule(definition(latch::countDown), SchedulePolicy.fixedRate(Duration.ofMillis(20)));
+
+        // Then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("FIXED_RATE 작업의 실행 시간이 주기를 넘을 때, 동시에 실행되지 않고 밀린 실행은 하나로 합침")
+    void givenOverrunningFixedRate_whenFire_thenNoOverlapAndCoalesce() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger count = new AtomicInteger();
+
+        scheduler.schedule(definition(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            count.incrementAndGet();
+            sleep(50);
+            running.decrementAndGet();
+        }), SchedulePolicy.fixedRate(Duration.ofMillis(10)));
+        Thread.sleep(300);
+
+        // 실행 시간(50ms)에 묶여 약 6회, 밀린 발화가 쌓였다면 30회에 가까움
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(count.get()).isBetween(2, 8);
+    }
+
+    @Test
+    @DisplayName("SKIP 정책의 작업이 실행 중일 때 도달한 실행은 버려지고 건너뜀으로 기록")
+    void givenSkipPolicy_whenOverrun_thenDropFires() throws InterruptedException {
+        scheduler.close();
+        InMemoryJobMetricsRegistry metrics = new InMemoryJobMetricsRegistry();
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .metrics(metrics)
+                .build();
+        AtomicInteger count = new AtomicInteger();
+        JobDefinition definition = definition(() -> {
+            count.incrementAndGet();
+            sleep(45);
+        });
+
+        scheduler.schedule(definition, SchedulePolicy.fixedRate(Duration.ofMillis(10)).withMisfire(MisfirePolicy.skip()));
+        Thread.sleep(300);
+
+        assertThat(count.get()).isBetween(2, 8);
+        assertThat(metrics.getStats(definition.getKey()).getOverlapCount().get()).isPositive();
+    }
+
+    @Test
+    @DisplayName("저장소에서 복원할 때, 중단 기간 동안 놓친 실행은 한 번으로 합쳐 즉시 실행")
+    void givenStoredScheduleWithOldFire_whenRecover_thenFireOnceWithoutCatchUpStorm(@TempDir Path directory) throws InterruptedException {
+        // Given: 1시간 주기 작업의 마지막 실행이 5시간 전
+        JobKeyCodec codec = JobKeyCodec.ofString(key -> ((TestKey) key).name(), TestKey::new);
+        TestKey key = new TestKey("collector");
+        MappedJournalScheduleStore previous = new MappedJournalScheduleStore(directory, codec, 4096);
+        previous.save(key, SchedulePolicy.fixedRate(Duration.ofHours(1)));
+        previous.recordFire(key, System.currentTimeMillis() - Duration.ofHours(5).toMillis());
+        previous.close();
+
+        scheduler.close();
+        MappedJournalScheduleStore store = new MappedJournalScheduleStore(directory, codec, 4096);
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .store(store)
+                .build();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger count = new AtomicInteger();
+        JobDefinition definition = mock(JobDefinition.class);
+        when(definition.getKey()).thenReturn(key);
+        when(definition.getRunnable()).thenReturn(() -> {
+            count.incrementAndGet();
+            latch.countDown();
+        });
+
+        // When
+        BulkScheduleResult result = scheduler.recover(k -> k.equals(key) ? definition : null);
+
+        // Then: 놓친 4회는 합쳐지고, 실행 시각이 다시 기록됨
+        assertThat(result.getSucceeded()).containsExactly(key);
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(count.get()).isEqualTo(1);
+        assertThat(store.lastFireTime(key)).isGreaterThan(System.currentTimeMillis() - 5_000);
+    }
+
+    @Test
+    @DisplayName("엔진이 복원할 스케줄을 거부할 때, 키만 해제하고 저장소 기록은 유지")
+    void givenRejectedStoredSchedule_whenRecover_thenKeepStoredRecord(@TempDir Path directory) {
+        // Given: 리스 정책이 저장되어 있으나 리스 저장소 없이 시작
+        JobKeyCodec codec = JobKeyCodec.ofString(key -> ((TestKey) key).name(), TestKey::new);
+        TestKey key = new TestKey("leased");
+        SchedulePolicy leased = SchedulePolicy.fixedRate(Duration.ofSeconds(1)).withLease(Duration.ofMillis(500));
+        MappedJournalScheduleStore previous = new MappedJournalScheduleStore(directory, codec, 4096);
+        previous.save(key, leased);
+        previous.close();
+
+        scheduler.close();
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .store(new MappedJournalScheduleStore(directory, codec, 4096))
+                .build();
+        JobDefinition definition = mock(JobDefinition.class);
+        when(definition.getKey()).thenReturn(key);
+
+        // When
+        BulkScheduleResult result = scheduler.recover(k -> definition);
+        scheduler.close();
+
+        // Then: 복원은 실패하지만 저장된 정책은 남아 있음
+        assertThat(result.getFailures()).containsOnlyKeys(key);
+        assertThat(scheduler.getScheduledJob(key)).isNull();
+        MappedJournalScheduleStore reopened = new MappedJournalScheduleStore(directory, codec, 4096);
+        try {
+            assertThat(reopened.loadAll()).extracting(StoredSchedule::getKey).containsExactly(key);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("지표 수집기를 지정할 때, 실행 시간과 실패가 키별로 기록되고 취소 시 제거")
+    void givenMetricsRegistry_whenRun_thenRecordPerKey() throws InterruptedException {
+        scheduler.close();
+        InMemoryJobMetricsRegistry metrics = new InMemoryJobMetricsRegistry();
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .metrics(metrics)
+                .build();
+        CountDownLatch latch = new CountDownLatch(3);
+        JobDefinition definition = definition(() -> {
+            latch.countDown();
+            throw new IllegalStateException("Test error message");
+        });
+
+        scheduler.schedule(definition, SchedulePolicy.fixedDelay(Duration.ofMillis(5)));
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(20);
+
+        JobStats stats = metrics.getStats(definition.getKey());
+        assertThat(stats.getFailureCount().get()).isGreaterThanOrEqualTo(3);
+        assertThat(stats.getRunDuration().getCount()).isGreaterThanOrEqualTo(3);
+        assertThat(stats.getFireLateness().getCount()).isGreaterThanOrEqualTo(3);
+        assertThat(stats.getQueueDelay().getCount()).isGreaterThanOrEqualTo(3);
+        assertThat(stats.getOverlapCount().get()).isZero();
+
+        scheduler.unschedule(definition.getKey());
+        assertThat(metrics.getStats(definition.getKey())).isNull();
+    }
+
+    @Test
+    @DisplayName("두 노드가 같은 리스 작업을 등록할 때, 회차마다 한 노드만 실행하고 펜싱 토큰은 증가")
+    void givenTwoNodesWithLease_whenFire_thenOnlyOneRunsPerFire() throws InterruptedException {
+        // Given: 같은 데이터베이스를 공유하는 두 노드, 분산으로 실행 격자를 맞춘 200ms 주기 작업
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:scheduler-lease;DB_CLOSE_DELAY=-1");
+        JdbcLeaseStore leaseStore = JdbcLeaseStore.builder().dataSource(dataSource).owner("node-a").build();
+        leaseStore.initializeSchema();
+        scheduler.close();
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .leaseStore(leaseStore)
+                .build();
+        TimingWheelJobScheduler other = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .leaseStore(JdbcLeaseStore.builder().dataSource(dataSource).owner("node-b").build())
+                .build();
+        List<Long> tokens = new CopyOnWriteArrayList<>();
+        JobDefinition definition = mock(JobDefinition.class);
+        when(definition.getKey()).thenReturn(new TestKey("collector"));
+        when(definition.getRunnable()).thenReturn(() -> tokens.add(LeaseContext.current().getToken()));
+        SchedulePolicy policy = SchedulePolicy.fixedRate(Duration.ofMillis(200))
+                .withJitter(Duration.ofMillis(200))
+                .withLease(Duration.ofMillis(150));
+
+        // When
+        List<Long> fired;
+        try {
+            scheduler.schedule(definition, policy);
+            other.schedule(definition, policy);
+            Thread.sleep(1_100);
+            // 종료에 걸리는 시간 동안의 실행은 세지 않음
+            fired = List.copyOf(tokens);
+        } finally {
+            other.close();
+        }
+
+        // Then: 약 5회 (리스가 없으면 약 10회)
+        assertThat(fired).hasSizeBetween(3, 7).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("리스 저장소 없이 리스 정책을 등록할 때 Exception")
+    void givenNoLeaseStore_whenScheduleLeased_thenThrowsException() {
+        JobDefinition definition = definition(() -> {
+        });
+
+        assertThatThrownBy(() -> scheduler.schedule(definition,
+                SchedulePolicy.fixedRate(Duration.ofSeconds(1)).withLease(Duration.ofMillis(500))))
+                .isInstanceOf(ScheduleExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("실행 중에 재스케줄할 때, 이전 정책의 실행이 끝난 뒤에 새 정책의 실행 시작")
+    void givenRunning_whenReschedule_thenNoOverlapAcrossPolicies() throws InterruptedException {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        JobDefinition definition = definition(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            sleep(100);
+            running.decrementAndGet();
+            finished.countDown();
+        });
+        scheduler.schedule(definition, SchedulePolicy.fixedRate(Duration.ofMillis(10)));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        scheduler.reschedule(definition.getKey(), SchedulePolicy.fixedRate(Duration.ofMillis(10)));
+
+        // Then
+        assertThat(finished.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 실행 비용 상한이 있을 때, 실행 중인 비용 합이 상한을 넘지 않고 미뤄진 실행도 수행")
+    void givenMaxConcurrentCost_whenFire_thenCostBounded() throws InterruptedException {
+        // Given: 비용 3 두 개와 비용 1 두 개, 제한이 없으면 동시 비용 합이 8까지 오름
+        scheduler.close();
+        ExecutorService wide = Executors.newFixedThreadPool(8);
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(wide)
+                .tickDuration(Duration.ofMillis(1))
+                .maxConcurrentCost(4)
+                .build();
+        AtomicInteger cost = new AtomicInteger();
+        AtomicInteger maxCost = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(12);
+
+        // When
+        try {
+            for (int weight : new int[]{3, 3, 1, 1}) {
+                scheduler.schedule(definition(() -> {
+                    maxCost.accumulateAndGet(cost.addAndGet(weight), Math::max);
+                    sleep(20);
+                    cost.addAndGet(-weight);
+                    latch.countDown();
+                }, weight), SchedulePolicy.fixedDelay(Duration.ofMillis(5)));
+            }
+
+            // Then
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxCost.get()).isBetween(1, 4);
+        } finally {
+            scheduler.close();
+            wide.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("적응형 정책의 작업이 결과 없음을 알릴 때, 대기 시간이 늘어 결과가 있는 작업보다 적게 실행")
+    void givenAdaptiveDelay_whenEmptyResults_thenBackOff() throws InterruptedException {
+        AtomicInteger empty = new AtomicInteger();
+        AtomicInteger productive = new AtomicInteger();
+        SchedulePolicy policy = SchedulePolicy.adaptiveDelay(Duration.ofMillis(10), Duration.ofMillis(200));
+
+        scheduler.schedule(definition(() -> {
+            empty.incrementAndGet();
+            FireFeedback.report(FireResult.EMPTY);
+        }), policy);
+        scheduler.schedule(definition(() -> {
+            productive.incrementAndGet();
+            FireFeedback.report(FireResult.PRODUCTIVE);
+        }), policy);
+        Thread.sleep(600);
+
+        // 결과 없음: 10, 20, 40, 80, 160, 200ms 간격으로 약 5회 / 결과 있음: 10ms 간격 그대로
+        assertThat(empty.get()).isBetween(3, 7);
+        assertThat(productive.get()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("여러 작업이 등록되어 있을 때, 기간 안에 실행될 작업만 예정 시각 순으로 조회")
+    void givenScheduledJobs_whenQueryDueWithin_thenOrderedByNextFireTime() {
+        // Given
+        JobDefinition soon = definition(() -> {
+        });
+        JobDefinition later = definition(() -> {
+        });
+        JobDefinition far = definition(() -> {
+        });
+        scheduler.schedule(far, SchedulePolicy.fixedRate(Duration.ofMinutes(10)));
+        scheduler.schedule(later, SchedulePolicy.fixedDelay(Duration.ofSeconds(20)));
+        scheduler.schedule(soon, SchedulePolicy.fixedRate(Duration.ofSeconds(10)));
+
+        // When
+        List<ScheduledJob> due = scheduler.getJobsDueWithin(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(due).extracting(ScheduledJob::getKey).containsExactly(soon.getKey(), later.getKey());
+        assertThat(due.get(0).getNextFireTime()).isCloseTo(System.currentTimeMillis() + 10_000, within(1_000L));
+        assertThat(scheduler.getScheduledJobs()).hasSize(3);
+        ScheduledJob job = scheduler.getScheduledJob(far.getKey());
+        assertThat(job.getState()).isEqualTo(ScheduleState.ACTIVE);
+        assertThat(job.getPolicy().getInterval()).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("작업을 재스케줄하거나 제거할 때, 조회 결과와 예정 시각 색인에 반영")
+    void givenScheduledJob_whenRescheduleAndUnschedule_thenQueryReflects() {
+        JobDefinition definition = definition(() -> {
+        });
+        scheduler.schedule(definition, SchedulePolicy.fixedRate(Duration.ofMinutes(10)));
+        assertThat(scheduler.getJobsDueWithin(Duration.ofMinutes(1))).isEmpty();
+
+        scheduler.reschedule(definition.getKey(), SchedulePolicy.fixedRate(Duration.ofSeconds(30)));
+        assertThat(scheduler.getJobsDueWithin(Duration.ofMinutes(1))).extracting(ScheduledJob::getKey)
+                .containsExactly(definition.getKey());
+
+        scheduler.unschedule(definition.getKey());
+        assertThat(scheduler.getJobsDueWithin(Duration.ofMinutes(1))).isEmpty();
+        assertThat(scheduler.getScheduledJob(definition.getKey())).isNull();
+        assertThat(scheduler.getScheduledJobs()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비동기 작업이 완료를 기다리는 동안, 실행 스레드를 반납하여 스레드 수보다 많은 작업이 동시에 진행")
+    void givenAsyncJobs_whenPending_thenThreadsReleased() throws InterruptedException {
+        // Given: 실행 스레드 2개, 완료까지 300ms 걸리는 비동기 작업 10개
+        List<CompletableFuture<Void>> pending = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            scheduler.schedule(AsyncJobDefinition.of(new TestKey("async-" + i), () -> {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                pending.add(future);
+                started.countDown();
+                return future;
+            }), SchedulePolicy.fixedDelay(Duration.ofMillis(20)));
+        }
+
+        // When & Then: 완료 전에 모두 시작되며, 완료 전에는 같은 키가 다시 실행되지 않음
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(pending).hasSize(10);
+        pending.forEach(future -> future.complete(null));
+        Thread.sleep(200);
+        assertThat(pending.size()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("비동기 작업이 진행 중일 때 제거하면, 진행 중인 future가 취소")
+    void givenRunningAsyncJob_whenUnschedule_thenFutureCancelled() throws InterruptedException {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CountDownLatch started = new CountDownLatch(1);
+        AsyncJobDefinition definition = AsyncJobDefinition.of(new TestKey("async"), () -> {
+            started.countDown();
+            return future;
+        });
+        scheduler.schedule(definition, SchedulePolicy.fixedRate(Duration.ofMillis(20)));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        CountDownLatch completed = new CountDownLatch(1);
+        future.whenComplete((value, error) -> completed.countDown());
+
+        scheduler.unschedule(definition.getKey());
+
+        // 시작 직후 제거된 경우 실행 스레드가 future를 등록하면서 취소
+        assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(future).isCancelled();
+    }
+
+    @Test
+    @DisplayName("실행이 시간 제한을 넘길 때, 실행 스레드가 인터럽트되고 다음 실행은 계속")
+    void givenTimeout_whenRunBlocks_thenInterruptedAndContinue() throws InterruptedException {
+        // Given
+        scheduler.close();
+        InMemoryJobMetricsRegistry metrics = new InMemoryJobMetricsRegistry();
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .metrics(metrics)
+                .build();
+        CountDownLatch interrupted = new CountDownLatch(2);
+        JobDefinition definition = definition(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+
+        // When
+        scheduler.schedule(definition, SchedulePolicy.fixedDelay(Duration.ofMillis(10)).withTimeout(Duration.ofMillis(50)));
+
+        // Then
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(metrics.getStats(definition.getKey()).getTimeoutCount().get()).isGreaterThanOrEqualTo(2);
+        assertThat(scheduler.getHungRunCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행이 인터럽트에 응답하지 않을 때, 실행을 포기하고 같은 키의 다음 실행을 진행")
+    void givenIgnoredInterrupt_whenTimeoutTwice_thenAbandonAndContinue() throws InterruptedException {
+        // Given
+        scheduler.close();
+        InMemoryJobMetricsRegistry metrics = new InMemoryJobMetricsRegistry();
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .metrics(metrics)
+                .build();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch secondRun = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        JobDefinition definition = definition(() -> {
+            if (runs.incrementAndGet() == 1) {
+                // 인터럽트를 무시하고 계속 대기
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+            } else {
+                secondRun.countDown();
+            }
+        });
+
+        // When
+        scheduler.schedule(definition, SchedulePolicy.fixedDelay(Duration.ofMillis(10)).withTimeout(Duration.ofMillis(50)));
+
+        // Then: 50ms에 인터럽트, 100ms에 포기한 뒤 다음 실행 시작
+        assertThat(secondRun.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.getHungRunCount()).isEqualTo(1);
+        JobStats stats = metrics.getStats(definition.getKey());
+        assertThat(stats.getHungCount().get()).isEqualTo(1);
+        assertThat(stats.getTimeoutCount().get()).isGreaterThanOrEqualTo(1);
+
+        release.countDown();
+        Thread.sleep(100);
+        assertThat(scheduler.getHungRunCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 방식이 있는 작업이 실패할 때, 다음 예정 시각 전에 대기 시간 뒤 다시 실행")
+    void givenRetryPolicy_whenFail_thenRetriedOnTimer() throws InterruptedException {
+        // Given: 두 번 실패 후 성공
+        scheduler.close();
+        InMemoryJobMetricsRegistry metrics = new InMemoryJobMetricsRegistry();
+        scheduler = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .metrics(metrics)
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger attemptsAtSuccess = new AtomicInteger();
+        CountDownLatch succeeded = new CountDownLatch(1);
+        JobDefinition definition = definition(() -> {
+            int attempt = attempts.incrementAndGet();
+            if (attempt < 3) {
+                throw new IllegalStateException("Test error message");
+            }
+            attemptsAtSuccess.compareAndSet(0, attempt);
+            succeeded.countDown();
+        });
+        when(definition.getRetryPolicy()).thenReturn(RetryPolicy.exponential(3, Duration.ofMillis(20)));
+
+        // When: 정규 실행은 300ms마다 (재시도 없이 세 번째 실행까지는 900ms)
+        scheduler.schedule(definition, SchedulePolicy.fixedRate(Duration.ofMillis(300)));
+
+        // Then: 300ms 실패, 320ms 실패, 360ms 성공
+        assertThat(succeeded.await(700, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(attemptsAtSuccess.get()).isEqualTo(3);
+        JobStats stats = metrics.getStats(definition.getKey());
+        assertThat(stats.getRetryCount().get()).isEqualTo(2);
+        assertThat(stats.getFailureCount().get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도할 예외가 아닐 때, 재시도 없이 다음 예정 시각을 기다림")
+    void givenNonRetryableError_whenFail_thenNotRetried() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        JobDefinition definition = definition(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("Test error message");
+        });
+        when(definition.getRetryPolicy()).thenReturn(RetryPolicy.exponential(5, Duration.ofMillis(10))
+                .retryOn(IllegalStateException.class));
+
+        scheduler.schedule(definition, SchedulePolicy.fixedDelay(Duration.ofMillis(300)));
+        Thread.sleep(450);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재스케줄 창이 있을 때, 같은 키에 몰린 재스케줄은 마지막 정책만 한 번 적용하고 모든 요청의 future가 완료")
+    void givenRescheduleWindow_whenRescheduleRepeatedly_thenApplyLatestOnce() throws Exception {
+        ScheduleStore store = mock(ScheduleStore.class);
+        when(store.lastFireTime(any())).thenReturn(-1L);
+        TimingWheelJobScheduler coalescing = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .ticksPerWheel(64)
+                .store(store)
+                .rescheduleWindow(Duration.ofMillis(50))
+                .build();
+        try {
+            JobDefinition definition = definition(() -> {
+            });
+            SchedulePolicy initial = SchedulePolicy.fixedRate(Duration.ofHours(1));
+            coalescing.schedule(definition, initial);
+
+            SchedulePolicy latest = null;
+            List<CompletableFuture<Void>> applied = new CopyOnWriteArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                latest = SchedulePolicy.fixedRate(Duration.ofMinutes(i));
+                applied.add(coalescing.rescheduleCoalesced(definition.getKey(), latest));
+            }
+            assertThat(coalescing.getScheduledJob(definition.getKey()).getPolicy()).isSameAs(initial);
+
+            CompletableFuture.allOf(applied.toArray(CompletableFuture[]::new)).get(2, TimeUnit.SECONDS);
+
+            assertThat(coalescing.getScheduledJob(definition.getKey()).getPolicy()).isSameAs(latest);
+            verify(store).save(definition.getKey(), latest);
+            verify(store, times(2)).save(any(), any());
+        } finally {
+            coalescing.close();
+        }
+    }
+
+    @Test
+    @DisplayName("적용 전에 작업을 제거할 때, future는 NotFound로 완료되고 다시 등록한 작업의 재스케줄은 자신의 창을 따름")
+    void givenPendingReschedule_whenUnschedule_thenFailAndCancelTimer() throws Exception {
+        TimingWheelJobScheduler coalescing = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .tickDuration(Duration.ofMillis(1))
+                .ticksPerWheel(64)
+                .rescheduleWindow(Duration.ofMillis(200))
+                .build();
+        try {
+            JobDefinition definition = definition(() -> {
+            });
+            SchedulePolicy initial = SchedulePolicy.fixedRate(Duration.ofHours(1));
+            coalescing.schedule(definition, initial);
+            CompletableFuture<Void> discarded = coalescing.rescheduleCoalesced(definition.getKey(), SchedulePolicy.fixedRate(Duration.ofMinutes(1)));
+
+            // When: 창이 지나기 전에 제거 후 다시 등록하여 재스케줄
+            coalescing.unschedule(definition.getKey());
+            assertThatThrownBy(() -> discarded.get(2, TimeUnit.SECONDS)).hasCauseInstanceOf(NotFoundScheduleException.class);
+            sleep(150);
+            coalescing.schedule(definition, initial);
+            SchedulePolicy latest = SchedulePolicy.fixedRate(Duration.ofMinutes(2));
+            CompletableFuture<Void> applied = coalescing.rescheduleCoalesced(definition.getKey(), latest);
+
+            // Then: 이전 창의 타이머는 취소되어 새 창이 지나기 전에는 적용되지 않음
+            sleep(100);
+            assertThat(coalescing.getScheduledJob(definition.getKey()).getPolicy()).isSameAs(initial);
+            applied.get(2, TimeUnit.SECONDS);
+            assertThat(coalescing.getScheduledJob(definition.getKey()).getPolicy()).isSameAs(latest);
+        } finally {
+            coalescing.close();
+        }
+    }
+
+    @Test
+    @DisplayName("기본 분산이 있는 스케줄러를 같은 정책으로 재조정할 때, 변경 없음")
+    void givenDefaultJitter_whenReconcileSamePolicies_thenUnchanged() {
+        TimingWheelJobScheduler jittered = TimingWheelJobScheduler.builder()
+                .executor(executor)
+                .defaultJitter(Duration.ofSeconds(5))
+                .build();
+        try {
+            List<JobRegistration> desired = List.of(
+                    JobRegistration.of(definition(() -> {
+                    }), SchedulePolicy.fixedRate(Duration.ofMinutes(1))),
+                    JobRegistration.of(definition(() -> {
+                    }), SchedulePolicy.cron("0 0 * * * ?")));
+            assertThat(jittered.reconcile(desired).getScheduled()).hasSize(2);
+
+            ReconcileResult result = jittered.reconcile(desired);
+
+            assertThat(result.getChangeCount()).isZero();
+            assertThat(result.getUnchanged()).isEqualTo(2);
+        } finally {
+            jittered.close();
+        }
+    }
+
+    @Test
+    @DisplayName("JFR 기록 중일 때, 등록/만료/실행 시작과 종료/제거 이벤트가 작업 키와 함께 기록")
+    void givenRecording_whenJobRuns_thenCommitEvents(@TempDir Path directory) throws Exception {
+        CountDownLatch latch = new CountDownLatch(2);
+        JobDefinition definition = mock(JobDefinition.class);
+        when(definition.getKey()).thenReturn(new TestKey("jfr"));
+        when(definition.getRunnable()).thenReturn(latch::countDown);
+        Path file = directory.resolve("collector.jfr");
+
+        try (Recording recording = new Recording()) {
+            List.of("Schedule", "Unschedule", "Fire", "RunStart", "RunEnd")
+                    .forEach(name -> recording.enable("com.github.devoog04.collector." + name));
+            recording.start();
+            scheduler.schedule(definition, SchedulePolicy.fixedRate(Duration.ofMillis(10)));
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            scheduler.unschedule(definition.getKey());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).extracting(event -> event.getEventType().getName().substring("com.github.devoog04.collector.".length()))
+                .contains("Schedule", "Unschedule", "Fire", "RunStart", "RunEnd");
+        assertThat(events).allSatisfy(event -> assertThat(event.getString("key")).isEqualTo("TestKey[name=jfr]"));
+        assertThat(events).filteredOn(event -> event.getEventType().getName().endsWith("RunEnd"))
+                .allSatisfy(event -> assertThat(event.getString("outcome")).isEqualTo("success"));
+    }
+
+    @Test
+    @DisplayName("JFR 기록 중에 일괄 등록/재스케줄/제거할 때, 키마다 성공한 이벤트가 하나씩 기록")
+    void givenRecording_whenBulkOperations_thenCommitEventPerKey(@TempDir Path directory) throws Exception {
+        List<JobDefinition> definitions = List.of(named("bulk-1"), named("bulk-2"));
+        List<JobDefinitionKey> keys = definitions.stream().map(JobDefinition::getKey).toList();
+        Path file = directory.resolve("collector-bulk.jfr");
+
+        try (Recording recording = new Recording()) {
+            List.of("Schedule", "Reschedule", "Unschedule")
+                    .forEach(name -> recording.enable("com.github.devoog04.collector." + name));
+            recording.start();
+            scheduler.scheduleAll(definitions.stream()
+                    .map(definition -> JobRegistration.of(definition, SchedulePolicy.fixedRate(Duration.ofSeconds(10))))
+                    .toList());
+            scheduler.rescheduleAll(Map.of(keys.get(0), SchedulePolicy.fixedRate(Duration.ofSeconds(20)),
+                    keys.get(1), SchedulePolicy.fixedRate(Duration.ofSeconds(20))));
+            scheduler.unscheduleAll(keys);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        for (String name : List.of("Schedule", "Reschedule", "Unschedule")) {
+            assertThat(events).filteredOn(event -> event.getEventType().getName().endsWith("." + name))
+                    .extracting(event -> event.getString("key"))
+                    .containsExactlyInAnyOrder("TestKey[name=bulk-1]", "TestKey[name=bulk-2]");
+        }
+        assertThat(events).allSatisfy(event -> assertThat(event.getBoolean("succeeded")).isTrue());
+    }
+
+    private static JobDefinition named(String name) {
+        JobDefinition definition = mock(JobDefinition.class);
+        when(definition.getKey()).thenReturn(new TestKey(name));
+        when(definition.getRunnable()).thenReturn(() -> { });
+        return definition;
+    }
+
+    private record TestKey(String name) implements JobDefinitionKey {
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static JobDefinition definition(Runnable runnable) {
+        JobDefinitionKey key = mock(JobDefinitionKey.class);
+        JobDefinition definition = mock(JobDefinition.class);
+        when(definition.getKey()).thenReturn(key);
+        when(definition.getRunnable()).thenReturn(runnable);
+        return definition;
+    }
+
+    private static JobDefinition definition(Runnable runnable, int cost) {
+        JobDefinition definition = definition(runnable);
+        when(definition.getCost()).thenReturn(cost);
+        return definition;
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.devoog04.core.schedule.dispatch;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FairGroupJobDispatcher 검증")
+class FairGroupJobDispatcherTest {
+
+    @Test
+    @DisplayName("큰 그룹의 작업이 몰려 있을 때, 나중에 들어온 작은 그룹의 작업이 밀린 작업보다 먼저 실행")
+    void givenBurstingGroup_whenSmallGroupDispatch_thenNotStarved() throws InterruptedException {
+        // Given: 워커 2개에 큰 그룹 작업 200개
+        FairGroupJobDispatcher dispatcher = FairGroupJobDispatcher.builder().parallelism(2).build();
+        JobDefinition big = definition("big");
+        JobDefinition small = definition("small");
+        AtomicInteger bigDone = new AtomicInteger();
+        CountDownLatch smallStarted = new CountDownLatch(1);
+        for (int i = 0; i < 200; i++) {
+            dispatcher.dispatch(big, () -> {
+                sleep(5);
+                bigDone.incrementAndGet();
+            });
+        }
+
+        // When
+        AtomicInteger bigDoneWhileWaiting = new AtomicInteger(-1);
+        int bigDoneAtDispatch = bigDone.get();
+        dispatcher.dispatch(small, () -> {
+            bigDoneWhileWaiting.set(bigDone.get() - bigDoneAtDispatch);
+            smallStarted.countDown();
+        });
+
+        // Then: 실행 중이던 큰 그룹 작업 정도만 먼저 끝남 (공정 분배가 없으면 200개 가까이)
+        assertThat(smallStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(bigDoneWhileWaiting.get()).isLessThan(10);
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("가중치가 다른 두 그룹이 경합할 때, 실행 기회가 가중치 비율로 분배")
+    void givenWeights_whenContended_thenShareByWeight() throws InterruptedException {
+        // Given: 워커 1개, 가중치 3:1
+        FairGroupJobDispatcher dispatcher = FairGroupJobDispatcher.builder()
+                .parallelism(1)
+                .weights(Map.of("heavy", 3))
+                .build();
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(401);
+        dispatcher.dispatch(definition("blocker"), () -> {
+            await(release);
+            done.countDown();
+        });
+        for (int i = 0; i < 200; i++) {
+            dispatcher.dispatch(definition("heavy"), () -> {
+                order.add("heavy");
+                done.countDown();
+            });
+            dispatcher.dispatch(definition("light"), () -> {
+                order.add("light");
+                done.countDown();
+            });
+        }
+
+        // When
+        release.countDown();
+
+        // Then: 처음 100회 중 약 75회가 heavy
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        long heavy = order.subList(0, 100).stream().filter("heavy"::equals).count();
+        assertThat(heavy).isBetween(70L, 80L);
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("그룹 상한이 있을 때, 워커가 남아도 그룹의 동시 실행 수는 상한 이하")
+    void givenQuota_whenDispatch_thenLimitGroupConcurrency() throws InterruptedException {
+        FairGroupJobDispatcher dispatcher = FairGroupJobDispatcher.builder()
+                .parallelism(4)
+                .quotas(Map.of("tenant", 2))
+                .build();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatch(definition("tenant"), () -> {
+                maxObserved.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                sleep(20);
+                concurrent.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxObserved.get()).isEqualTo(2);
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("종료된 디스패처에 요청할 때 RejectedExecutionException")
+    void givenClosed_whenDispatch_thenReject() {
+        FairGroupJobDispatcher dispatcher = FairGroupJobDispatcher.builder().parallelism(1).build();
+        dispatcher.close();
+
+        assertThatThrownBy(() -> dispatcher.dispatch(definition(null), () -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("종료할 때, 그룹 큐에서 기다리던 작업은 거부로 돌려줌")
+    void givenWaitingTasks_whenClose_thenRejectThem() throws InterruptedException {
+        // Given: 워커 1개가 실행 중, 2개 대기
+        FairGroupJobDispatcher dispatcher = FairGroupJobDispatcher.builder().parallelism(1).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> rejected = new CopyOnWriteArrayList<>();
+        dispatcher.dispatch(definition(null), VirtualThreadJobDispatcherTest.task(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, rejected, "running"));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch(definition("a"), VirtualThreadJobDispatcherTest.task(() -> { }, rejected, "a"));
+        dispatcher.dispatch(definition("b"), VirtualThreadJobDispatcherTest.task(() -> { }, rejected, "b"));
+
+        // When
+        dispatcher.close();
+        release.countDown();
+
+        // Then
+        assertThat(rejected).containsExactlyInAnyOrder("a", "b");
+        assertThat(dispatcher.getWaitingCount()).isZero();
+    }
+
+    private static JobDefinition definition(String group) {
+        JobDefinitionKey key = mock(JobDefinitionKey.class);
+        when(key.getGroup()).thenReturn(group);
+        JobDefinition definition = mock(JobDefinition.class);
+        when(definition.getKey()).thenReturn(key);
+        return definition;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.devoog04.core.schedule.dispatch;
+
+import com.github.devoog04.core.definition.JobDefinition;
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("VirtualThreadJobDispatcher 검증")
+class VirtualThreadJobDispatcherTest {
+
+    @Test
+    @DisplayName("동시 실행 상한을 초과할 때, 초과분은 대기 후 순서대로 실행")
+    void givenMaxConcurrency_whenDispatch_thenLimitRunningTasks() throws InterruptedException {
+        // Given: 상한 2 (테스트에서는 플랫폼 스레드로 대체)
+        VirtualThreadJobDispatcher dispatcher = new VirtualThreadJobDispatcher(Thread::new, 2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(5);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        // When: 5개 작업 요청
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch(definition("job-" + i), () -> {
+                maxObserved.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                concurrent.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // Then: 2개만 실행, 3개 대기
+        assertThat(dispatcher.getRunningCount()).isEqualTo(2);
+        assertThat(dispatcher.getWaitingCount()).isEqualTo(3);
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        release.countDown();
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxObserved.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업이 실행될 때, 스레드 이름에 작업 키 포함")
+    void givenDispatch_whenRun_thenThreadNamedByKey() throws InterruptedException {
+        VirtualThreadJobDispatcher dispatcher = new VirtualThreadJobDispatcher(Thread::new, 0);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> names = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch(definition("orders"), () -> {
+            names.add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(names).containsExactly(VirtualThreadJobDispatcher.THREAD_NAME_PREFIX + "orders");
+    }
+
+    @Test
+    @DisplayName("종료된 디스패처에 요청할 때 Exception")
+    void givenClosed_whenDispatch_thenThrowsException() {
+        VirtualThreadJobDispatcher dispatcher = new VirtualThreadJobDispatcher(Thread::new, 0);
+        dispatcher.close();
+
+        assertThatThrownBy(() -> dispatcher.dispatch(definition("orders"), () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("가상 스레드를 시작하지 못할 때, 예외 없이 꺼낸 작업을 거부하고 다음 작업은 계속 시작")
+    void givenThreadStartFailure_whenDrain_thenRejectTakenTask() throws InterruptedException {
+        // Given: 첫 스레드 생성만 실패
+        AtomicInteger created = new AtomicInteger();
+        VirtualThreadJobDispatcher dispatcher = new VirtualThreadJobDispatcher(runnable -> {
+            if (created.getAndIncrement() == 0) {
+                throw new OutOfMemoryError("unable to create native thread");
+            }
+            return new Thread(runnable);
+        }, 0);
+        List<String> rejected = new CopyOnWriteArrayList<>();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        // When
+        dispatcher.dispatch(definition("first"), task(() -> { }, rejected, "first"));
+        dispatcher.dispatch(definition("second"), task(ran::countDown, rejected, "second"));
+
+        // Then
+        assertThat(rejected).containsExactly("first");
+        assertThat(ran.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.getRunningCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료할 때, 대기 중인 작업은 버리지 않고 거부로 돌려줌")
+    void givenWaitingTasks_whenClose_thenRejectThem() throws InterruptedException {
+        // Given: 상한 1, 첫 작업이 실행 중
+        VirtualThreadJobDispatcher dispatcher = new VirtualThreadJobDispatcher(Thread::new, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> rejected = new CopyOnWriteArrayList<>();
+        dispatcher.dispatch(definition("running"), task(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, rejected, "running"));
+        dispatcher.dispatch(definition("waiting-1"), task(() -> { }, rejected, "waiting-1"));
+        dispatcher.dispatch(definition("waiting-2"), task(() -> { }, rejected, "waiting-2"));
+
+        // When
+        dispatcher.close();
+        release.countDown();
+
+        // Then
+        assertThat(rejected).containsExactly("waiting-1", "waiting-2");
+        assertThat(dispatcher.getWaitingCount()).isZero();
+    }
+
+    static RejectableTask task(Runnable body, List<String> rejected, String name) {
+        return new RejectableTask() {
+            @Override
+            public void run() {
+                body.run();
+            }
+
+            @Override
+            public void reject(RejectedExecutionException cause) {
+                rejected.add(name);
+            }
+        };
+    }
+
+    private static JobDefinition definition(String name) {
+        JobDefinitionKey key = mock(JobDefinitionKey.class);
+        when(key.toString()).thenReturn(name);
+        JobDefinition definition = mock(JobDefinition.class);
+        when(definition.getKey()).thenReturn(key);
+        return definition;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.devoog04.core.schedule.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel 검증")
+class HierarchicalTimingWheelTest {
+    private HierarchicalTimingWheel timer;
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    @DisplayName("여러 레벨에 걸친 지연 시간을 등록할 때, 예정 시각 이후 순서대로 만료")
+    void givenMultiLevelDelays_whenExpire_thenRunInDeadlineOrder() throws InterruptedException {
+        // Given: 레벨당 4슬롯 -> 수십 틱 지연은 상위 레벨로 배치
+        timer = new HierarchicalTimingWheel(Duration.ofMillis(1), 4, "test-timer");
+        List<Long> order = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        long start = System.nanoTime();
+
+        // When: 역순으로 등록
+        for (long delay : new long[]{150, 70, 20}) {
+            timer.newTimeout(t -> {
+                assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(delay));
+                order.add(delay);
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        // Then: 만료 순서 확인
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(20L, 70L, 150L);
+    }
+
+    @Test
+    @DisplayName("취소된 timeout은 만료되지 않음")
+    void givenCancelledTimeout_whenExpire_thenNotRun() throws InterruptedException {
+        // Given: 두 개의 timeout 등록 후 하나 취소
+        timer = new HierarchicalTimingWheel(Duration.ofMillis(1), 8, "test-timer");
+        CountDownLatch cancelledRun = new CountDownLatch(1);
+        CountDownLatch activeRun = new CountDownLatch(1);
+        Timeout cancelled = timer.newTimeout(t -> cancelledRun.countDown(), 30, TimeUnit.MILLISECONDS);
+        timer.newTimeout(t -> activeRun.countDown(), 60, TimeUnit.MILLISECONDS);
+
+        // When: 취소
+        assertThat(cancelled.cancel()).isTrue();
+
+        // Then: 취소된 작업 미실행, 나머지 작업 실행
+        assertThat(activeRun.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelledRun.getCount()).isEqualTo(1);
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 작업은 타이머 스레드에서 실행")
+    void givenTimeout_whenExpire_thenRunOnTimerThread() throws InterruptedException {
+        timer = new HierarchicalTimingWheel(Duration.ofMillis(1), 8, "test-timer");
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        timer.newTimeout(t -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        }, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).containsExactly("test-timer");
+    }
+}
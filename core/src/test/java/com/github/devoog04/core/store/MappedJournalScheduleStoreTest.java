@@ -0,0 +1,145 @@
+package com.github.devoog04.core.store;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.schedule.AdaptiveDelay;
+import com.github.devoog04.core.schedule.MisfirePolicy;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+import com.github.devoog04.core.schedule.ScheduleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedJournalScheduleStore 검증")
+class MappedJournalScheduleStoreTest {
+    private static final JobKeyCodec CODEC = JobKeyCodec.ofString(key -> ((TestKey) key).name(), TestKey::new);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("등록/재스케줄/제거/실행을 기록하고 다시 열 때, 저널 재생으로 최종 상태 복원")
+    void givenJournal_whenReopen_thenRecoverLatestState() {
+        // Given: 종료 시 압축하지 않도록 저널만 남긴 상태 (비정상 종료 가정)
+        MappedJournalScheduleStore store = new MappedJournalScheduleStore(directory, CODEC, 4096);
+        store.save(new TestKey("a"), SchedulePolicy.fixedRate(Duration.ofSeconds(1)));
+        store.save(new TestKey("b"), SchedulePolicy.cron("0 * * * * ?", ZoneId.of("Asia/Seoul")));
+        store.save(new TestKey("c"), SchedulePolicy.fixedDelay(Duration.ofSeconds(3)));
+        store.save(new TestKey("d"), SchedulePolicy.adaptiveDelay(AdaptiveDelay.of(
+                Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofSeconds(5), 3.0)).withTimeout(Duration.ofSeconds(30)));
+        store.save(new TestKey("a"), SchedulePolicy.fixedRate(Duration.ofSeconds(5))
+                .withMisfire(MisfirePolicy.catchUp(2)).withJitter(Duration.ofSeconds(1)));
+        store.remove(new TestKey("c"));
+        store.recordFire(new TestKey("a"), 1_000L);
+        store.recordFire(new TestKey("a"), 2_000L);
+
+        // When
+        Map<String, StoredSchedule> recovered = loadAll(new MappedJournalScheduleStore(directory, CODEC, 4096));
+
+        // Then
+        assertThat(recovered).containsOnlyKeys("a", "b", "d");
+        StoredSchedule a = recovered.get("a");
+        assertThat(a.getPolicy().getInterval()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(a.getPolicy().getMisfire().getMaxCatchUp()).isEqualTo(2);
+        assertThat(a.getPolicy().getJitter()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(a.getLastFireTime()).isEqualTo(2_000L);
+        StoredSchedule b = recovered.get("b");
+        assertThat(b.getPolicy().getType()).isEqualTo(ScheduleType.CRON);
+        assertThat(b.getPolicy().getCron().getZoneId()).isEqualTo(ZoneId.of("Asia/Seoul"));
+        assertThat(b.getLastFireTime()).isEqualTo(-1L);
+        AdaptiveDelay d = recovered.get("d").getPolicy().getAdaptive();
+        assertThat(d.getMinDelay()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(d.getMaxDelay()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(d.getDecreaseStep()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(d.getBackoffMultiplier()).isEqualTo(3.0);
+        assertThat(recovered.get("d").getPolicy().getTimeout()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("저널이 가득 찰 때, 스냅샷으로 압축하고 계속 기록")
+    void givenFullJournal_whenAppend_thenCompactIntoSnapshot() {
+        MappedJournalScheduleStore store = new MappedJournalScheduleStore(directory, CODEC, 1024);
+        for (int i = 0; i < 100; i++) {
+            store.save(new TestKey("job-" + i), SchedulePolicy.fixedRate(Duration.ofSeconds(1 + i)));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            store.recordFire(new TestKey("job-" + (i % 100)), i);
+        }
+
+        assertThat(Files.exists(directory.resolve(MappedJournalScheduleStore.SNAPSHOT_FILE))).isTrue();
+        Map<String, StoredSchedule> recovered = loadAll(new MappedJournalScheduleStore(directory, CODEC, 1024));
+        assertThat(recovered).hasSize(100);
+        assertThat(recovered.get("job-7").getPolicy().getInterval()).isEqualTo(Duration.ofSeconds(8));
+        assertThat(recovered.get("job-7").getLastFireTime()).isEqualTo(907L);
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 기록 도중 손상되었을 때, 손상 직전까지만 복원하고 이어서 기록")
+    void givenTornRecord_whenReopen_thenRecoverUpToLastValidRecord() throws IOException {
+        MappedJournalScheduleStore store = new MappedJournalScheduleStore(directory, CODEC, 4096);
+        store.save(new TestKey("a"), SchedulePolicy.fixedRate(Duration.ofSeconds(1)));
+        store.recordFire(new TestKey("a"), 1_000L);
+        store.recordFire(new TestKey("a"), 2_000L);
+        // 마지막 실행 레코드의 본문 끝 바이트 손상
+        long lastRecordEnd = lastRecordEnd();
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(MappedJournalScheduleStore.JOURNAL_FILE).toFile(), "rw")) {
+            file.seek(lastRecordEnd - 1);
+            file.write(0x7F);
+        }
+
+        MappedJournalScheduleStore reopened = new MappedJournalScheduleStore(directory, CODEC, 4096);
+        assertThat(reopened.lastFireTime(new TestKey("a"))).isEqualTo(1_000L);
+
+        reopened.recordFire(new TestKey("a"), 3_000L);
+        reopened.close();
+        assertThat(new MappedJournalScheduleStore(directory, CODEC, 4096).lastFireTime(new TestKey("a"))).isEqualTo(3_000L);
+    }
+
+    @Test
+    @DisplayName("같은 정책을 다시 저장할 때, 저널에 기록하지 않음")
+    void givenSamePolicy_whenSave_thenSkipJournal() throws IOException {
+        MappedJournalScheduleStore store = new MappedJournalScheduleStore(directory, CODEC, 4096);
+        store.save(new TestKey("a"), SchedulePolicy.fixedRate(Duration.ofSeconds(1)));
+        long end = lastRecordEnd();
+
+        store.save(new TestKey("a"), SchedulePolicy.fixedRate(Duration.ofSeconds(1)));
+
+        assertThat(lastRecordEnd()).isEqualTo(end);
+    }
+
+    /**
+     * 저널 헤더(12바이트) 이후 길이 필드를 따라가며 마지막 레코드의 끝 위치를 찾습니다.
+     */
+    private long lastRecordEnd() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(MappedJournalScheduleStore.JOURNAL_FILE).toFile(), "r")) {
+            long position = 12;
+            while (true) {
+                file.seek(position);
+                int length = file.readInt();
+                if (length <= 0) {
+                    return position;
+                }
+                position += 8 + length;
+            }
+        }
+    }
+
+    private static Map<String, StoredSchedule> loadAll(ScheduleStore store) {
+        return store.loadAll().stream()
+                .collect(Collectors.toMap(schedule -> ((TestKey) schedule.getKey()).name(), Function.identity()));
+    }
+
+    private record TestKey(String name) implements JobDefinitionKey {
+    }
+}
@@ -0,0 +1,284 @@
+package com.github.devoog04.processor;
+
+import com.github.devoog04.core.annotation.Collector;
+import com.github.devoog04.core.annotation.CollectorIndex;
+import com.github.devoog04.core.schedule.SchedulePolicy;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link Collector} 선언을 컴파일 시 검증하고 {@link CollectorIndex} 구현체와 {@code META-INF/services} 등록 파일을 생성합니다.
+ * <p>모든 라운드의 선언을 모은 뒤 마지막 라운드에 한 번 생성합니다. 생성된 클래스의 이름은 {@code collector.index} 옵션으로 지정하며,
+ * 미지정 시 선언된 클래스들의 공통 패키지에 {@value #DEFAULT_SIMPLE_NAME}로 생성됩니다.
+ * 작업 수가 많아도 메서드 크기 제한을 넘지 않도록 {@value #CHUNK_SIZE}개씩 나눈 메서드로 생성합니다.</p>
+ */
+@SupportedAnnotationTypes(CollectorProcessor.ANNOTATION)
+@SupportedOptions(CollectorProcessor.INDEX_OPTION)
+public class CollectorProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "com.github.devoog04.core.annotation.Collector";
+    static final String INDEX_OPTION = "collector.index";
+    static final String DEFAULT_SIMPLE_NAME = "GeneratedCollectorIndex";
+    static final String FALLBACK_PACKAGE = "collector.generated";
+    static final int CHUNK_SIZE = 200;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private boolean failed;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Collector.class)) {
+            collect(element);
+        }
+        if (roundEnv.processingOver() && !failed && !entries.isEmpty()) {
+            generate();
+        }
+        return false;
+    }
+
+    private void collect(Element element) {
+        Collector collector = element.getAnnotation(Collector.class);
+        TypeElement owner = element.getKind() == ElementKind.METHOD
+                ? (TypeElement) element.getEnclosingElement()
+                : (TypeElement) element;
+        String policy;
+        try {
+            policy = policyExpression(collector);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            error(element, "Invalid @Collector schedule: " + e.getMessage());
+            return;
+        }
+        if (!validateOwner(element, owner)) {
+            return;
+        }
+        if (collector.key().isBlank()) {
+            error(element, "@Collector key must not be blank.");
+            return;
+        }
+        Entry previous = entries.get(collector.key());
+        if (previous != null) {
+            error(element, "Duplicate @Collector key: \"" + collector.key() + "\" is also declared on " + previous.element);
+            return;
+        }
+        entries.put(collector.key(), new Entry(element, owner, collector.key(), policy));
+    }
+
+    private boolean validateOwner(Element element, TypeElement owner) {
+        if (!isAccessible(owner)) {
+            error(element, "@Collector class must be public and top-level or public static nested.");
+            return false;
+        }
+        if (element.getKind() == ElementKind.METHOD) {
+            ExecutableElement method = (ExecutableElement) element;
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || !method.getParameters().isEmpty()) {
+                error(element, "@Collector method must be public and take no arguments.");
+                return false;
+            }
+            return true;
+        }
+        if (owner.getKind() != ElementKind.CLASS || owner.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(element, "@Collector type must be a concrete class.");
+            return false;
+        }
+        TypeElement runnable = processingEnv.getElementUtils().getTypeElement(Runnable.class.getName());
+        if (!processingEnv.getTypeUtils().isAssignable(owner.asType(), runnable.asType())) {
+            error(element, "@Collector class must implement Runnable.");
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        if (type.getNestingKind() == NestingKind.TOP_LEVEL) {
+            return true;
+        }
+        return type.getNestingKind() == NestingKind.MEMBER
+                && type.getModifiers().contains(Modifier.STATIC)
+                && isAccessible((TypeElement) type.getEnclosingElement());
+    }
+
+    /**
+     * 선언을 런타임과 같은 규칙으로 검증한 뒤, 같은 정책을 만드는 소스 코드를 반환합니다.
+     */
+    private String policyExpression(Collector collector) {
+        int kinds = (collector.cron().isEmpty() ? 0 : 1)
+                + (collector.fixedRate().isEmpty() ? 0 : 1)
+                + (collector.fixedDelay().isEmpty() ? 0 : 1);
+        if (kinds != 1) {
+            throw new IllegalArgumentException("exactly one of cron, fixedRate and fixedDelay is required.");
+        }
+        Elements elements = processingEnv.getElementUtils();
+        // 정책은 검증에만 사용
+        SchedulePolicy policy;
+        StringBuilder code = new StringBuilder("com.github.devoog04.core.schedule.SchedulePolicy.");
+        if (!collector.cron().isEmpty()) {
+            if (collector.zone().isEmpty()) {
+                policy = SchedulePolicy.cron(collector.cron());
+                code.append("cron(").append(elements.getConstantExpression(collector.cron())).append(')');
+            } else {
+                policy = SchedulePolicy.cron(collector.cron(), ZoneId.of(collector.zone()));
+                code.append("cron(").append(elements.getConstantExpression(collector.cron()))
+                        .append(", java.time.ZoneId.of(").append(elements.getConstantExpression(collector.zone())).append("))");
+            }
+        } else if (!collector.fixedRate().isEmpty()) {
+            Duration interval = Duration.parse(collector.fixedRate());
+            policy = SchedulePolicy.fixedRate(interval);
+            code.append("fixedRate(").append(duration(interval)).append(')');
+        } else {
+            Duration interval = Duration.parse(collector.fixedDelay());
+            policy = SchedulePolicy.fixedDelay(interval);
+            code.append("fixedDelay(").append(duration(interval)).append(')');
+        }
+        if (!collector.jitter().isEmpty()) {
+            Duration jitter = Duration.parse(collector.jitter());
+            policy = policy.withJitter(jitter);
+            code.append(".withJitter(").append(duration(jitter)).append(')');
+        }
+        return code.toString();
+    }
+
+    private static String duration(Duration duration) {
+        return "java.time.Duration.ofNanos(" + duration.toNanos() + "L)";
+    }
+
+    private void generate() {
+        String className = indexClassName();
+        int dot = className.lastIndexOf('.');
+        String packageName = dot > 0 ? className.substring(0, dot) : "";
+        String simpleName = className.substring(dot + 1);
+        Filer filer = processingEnv.getFiler();
+        Element[] origins = entries.values().stream().map(entry -> entry.element).toArray(Element[]::new);
+        try {
+            JavaFileObject source = filer.createSourceFile(className, origins);
+            try (Writer writer = source.openWriter()) {
+                writer.write(render(packageName, simpleName));
+            }
+            FileObject services = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/services/" + CollectorIndex.class.getName(), origins);
+            try (Writer writer = services.openWriter()) {
+                writer.write(className + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate collector index: " + e.getMessage());
+        }
+    }
+
+    private String indexClassName() {
+        String option = processingEnv.getOptions().get(INDEX_OPTION);
+        if (option != null && !option.isBlank()) {
+            return option.trim();
+        }
+        Elements elements = processingEnv.getElementUtils();
+        String common = null;
+        for (Entry entry : entries.values()) {
+            String packageName = elements.getPackageOf(entry.owner).getQualifiedName().toString();
+            common = common == null ? packageName : commonPackage(common, packageName);
+        }
+        return (common == null || common.isEmpty() ? FALLBACK_PACKAGE : common) + "." + DEFAULT_SIMPLE_NAME;
+    }
+
+    private static String commonPackage(String a, String b) {
+        String[] left = a.split("\\.");
+        String[] right = b.split("\\.");
+        StringBuilder common = new StringBuilder();
+        for (int i = 0; i < Math.min(left.length, right.length) && left[i].equals(right[i]); i++) {
+            if (common.length() > 0) {
+                common.append('.');
+            }
+            common.append(left[i]);
+        }
+        return common.toString();
+    }
+
+    private String render(String packageName, String simpleName) {
+        List<Entry> all = new ArrayList<>(entries.values());
+        int chunks = (all.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements com.github.devoog04.core.annotation.CollectorIndex {\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<com.github.devoog04.core.schedule.JobRegistration> registrations(InstanceResolver resolver) {\n")
+                .append("        java.util.List<com.github.devoog04.core.schedule.JobRegistration> registrations = new java.util.ArrayList<>(")
+                .append(all.size()).append(");\n");
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            out.append("        add").append(chunk).append("(registrations, resolver);\n");
+        }
+        out.append("        return registrations;\n    }\n");
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            out.append("\n    private static void add").append(chunk)
+                    .append("(java.util.List<com.github.devoog04.core.schedule.JobRegistration> registrations, InstanceResolver resolver) {\n");
+            for (Entry entry : all.subList(chunk * CHUNK_SIZE, Math.min(all.size(), (chunk + 1) * CHUNK_SIZE))) {
+                out.append("        registrations.add(com.github.devoog04.core.schedule.JobRegistration.of(")
+                        .append("com.github.devoog04.core.definition.JobDefinition.of(new com.github.devoog04.core.annotation.CollectorKey(")
+                        .append(processingEnv.getElementUtils().getConstantExpression(entry.key)).append("), ")
+                        .append(runnableExpression(entry)).append("), ")
+                        .append(entry.policy).append("));\n");
+            }
+            out.append("    }\n");
+        }
+        return out.append("}\n").toString();
+    }
+
+    private String runnableExpression(Entry entry) {
+        String type = entry.owner.getQualifiedName().toString();
+        if (entry.element.getKind() == ElementKind.METHOD && entry.element.getModifiers().contains(Modifier.STATIC)) {
+            return type + "::" + entry.element.getSimpleName();
+        }
+        String instance = "resolver.resolve(" + type + ".class, " + (hasPublicNoArgConstructor(entry.owner) ? type + "::new" : "null") + ")";
+        return entry.element.getKind() == ElementKind.METHOD ? instance + "::" + entry.element.getSimpleName() : instance;
+    }
+
+    private static boolean hasPublicNoArgConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getModifiers().contains(Modifier.PUBLIC) && c.getParameters().isEmpty() && c.getThrownTypes().isEmpty());
+    }
+
+    private void error(Element element, String message) {
+        failed = true;
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private record Entry(Element element, TypeElement owner, String key, String policy) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.devoog04.processor;
+
+import com.github.devoog04.core.annotation.CollectorIndex;
+import com.github.devoog04.core.annotation.CollectorKey;
+import com.github.devoog04.core.schedule.JobRegistration;
+import com.github.devoog04.core.schedule.ScheduleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CollectorProcessor 검증")
+class CollectorProcessorTest {
+
+    @Test
+    @DisplayName("클래스와 메서드에 선언할 때, 인덱스가 생성되고 등록 정보가 선언과 일치")
+    void givenCollectors_whenCompile_thenIndexGenerated(@TempDir Path output) throws Exception {
+        // Given
+        String source = """
+                package com.example.jobs;
+
+                import com.github.devoog04.core.annotation.Collector;
+
+                public class Jobs {
+                    public static int counter;
+
+                    @Collector(key = "rate", fixedRate = "PT5S", jitter = "PT1S")
+                    public void rate() {
+                        counter++;
+                    }
+
+                    @Collector(key = "cron", cron = "0 0/5 * * * ?", zone = "Asia/Seoul")
+                    public static void cron() {
+                    }
+
+                    @Collector(key = "task", fixedDelay = "PT0.5S")
+                    public static class Task implements Runnable {
+                        @Override
+                        public void run() {
+                            counter += 10;
+                        }
+                    }
+                }
+                """;
+
+        // When
+        Result result = compile(output, Map.of("com.example.jobs.Jobs", source));
+
+        // Then
+        assertThat(result.errors()).isEmpty();
+        assertThat(Files.readString(output.resolve("META-INF/services/" + CollectorIndex.class.getName())))
+                .isEqualTo("com.example.jobs.GeneratedCollectorIndex\n");
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            List<JobRegistration> registrations = CollectorIndex.loadAll(loader, CollectorIndex.InstanceResolver.constructing());
+            Map<String, JobRegistration> byKey = registrations.stream()
+                    .collect(Collectors.toMap(r -> r.getKey().toString(), r -> r));
+
+            assertThat(byKey).containsOnlyKeys("rate", "cron", "task");
+            assertThat(byKey.get("rate").getKey()).isEqualTo(new CollectorKey("rate"));
+            assertThat(byKey.get("rate").getPolicy().getInterval()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(byKey.get("rate").getPolicy().getJitter()).isEqualTo(Duration.ofSeconds(1));
+            assertThat(byKey.get("cron").getPolicy().getType()).isEqualTo(ScheduleType.CRON);
+            assertThat(byKey.get("task").getPolicy().getType()).isEqualTo(ScheduleType.FIXED_DELAY);
+
+            byKey.get("rate").getDefinition().getRunnable().run();
+            byKey.get("task").getDefinition().getRunnable().run();
+            assertThat(loader.loadClass("com.example.jobs.Jobs").getField("counter").getInt(null)).isEqualTo(11);
+        }
+    }
+
+    @Test
+    @DisplayName("작업 수가 메서드 분할 단위를 넘을 때, 모두 등록")
+    void givenManyCollectors_whenCompile_thenChunked(@TempDir Path output) throws Exception {
+        StringBuilder source = new StringBuilder("""
+                package com.example.many;
+
+                import com.github.devoog04.core.annotation.Collector;
+
+                public class Many {
+                """);
+        int count = CollectorProcessor.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < count; i++) {
+            source.append("    @Collector(key = \"job-").append(i).append("\", fixedRate = \"PT1M\")\n")
+                    .append("    public void job").append(i).append("() {\n    }\n");
+        }
+        source.append("}\n");
+
+        Result result = compile(output, Map.of("com.example.many.Many", source.toString()));
+
+        assertThat(result.errors()).isEmpty();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            assertThat(CollectorIndex.loadAll(loader, CollectorIndex.InstanceResolver.constructing())).hasSize(count);
+        }
+    }
+
+    @Test
+    @DisplayName("선언이 올바르지 않을 때 컴파일 오류")
+    void givenInvalidCollectors_whenCompile_thenErrors(@TempDir Path output) throws Exception {
+        String source = """
+                package com.example.invalid;
+
+                import com.github.devoog04.core.annotation.Collector;
+
+                public class Invalid {
+                    @Collector(key = "both", fixedRate = "PT1S", cron = "0 * * * * ?")
+                    public void both() {
+                    }
+
+                    @Collector(key = "cron", cron = "0 0 24 * * ?")
+                    public void badCron() {
+                    }
+
+                    @Collector(key = "dup", fixedRate = "PT1S")
+                    public void first() {
+                    }
+
+                    @Collector(key = "dup", fixedRate = "PT1S")
+                    public void second() {
+                    }
+
+                    @Collector(key = "hidden", fixedRate = "PT1S")
+                    void hidden() {
+                    }
+                }
+                """;
+
+        Result result = compile(output, Map.of("com.example.invalid.Invalid", source));
+
+        assertThat(result.errors()).hasSize(4);
+        assertThat(String.join("\n", result.errors()))
+                .contains("exactly one of cron, fixedRate and fixedDelay is required.")
+                .contains("out of range")
+                .contains("Duplicate @Collector key: \"dup\"")
+                .contains("@Collector method must be public and take no arguments.");
+        assertThat(output.resolve("META-INF/services/" + CollectorIndex.class.getName())).doesNotExist();
+    }
+
+    private static Result compile(Path output, Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> units = new ArrayList<>();
+        sources.forEach((name, code) -> units.add(new SimpleJavaFileObject(
+                URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        }));
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = List.of("-d", output.toString(), "-s", output.toString(),
+                    "-classpath", System.getProperty("java.class.path"), "-implicit:class");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, options, null, units);
+            task.setProcessors(List.of(new CollectorProcessor()));
+            task.call();
+        }
+        List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .toList();
+        return new Result(errors);
+    }
+
+    private record Result(List<String> errors) {
+    }
+}
@@ -1,14 +1,116 @@
 package com.github.devoog04.spring;
 
+import com.github.devoog04.core.lease.LeaseStore;
+import com.github.devoog04.core.metrics.JobMetricsRegistry;
+import com.github.devoog04.core.schedule.JobScheduler;
+import com.github.devoog04.core.schedule.TimingWheelJobScheduler;
+import com.github.devoog04.core.schedule.dispatch.FairGroupJobDispatcher;
+import com.github.devoog04.core.schedule.dispatch.JobDispatcher;
+import com.github.devoog04.core.store.ScheduleStore;
+import com.github.devoog04.spring.metrics.CollectorMetricsAutoConfiguration;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
-@AutoConfiguration
-@ComponentScan("com.github.devoog04.scheduling")
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link CollectorProperties}로 조정한 {@link TimingWheelJobScheduler}를 {@link JobScheduler} 빈으로 등록합니다.
+ * <p>{@link JobMetricsRegistry}, {@link ScheduleStore}, {@link LeaseStore} 빈이 있으면 스케줄러에 연결하며,
+ * 직접 정의한 {@link JobScheduler}나 {@link JobDispatcher} 빈이 있으면 그것을 사용합니다.
+ * 애노테이션 프로세서가 생성한 작업 인덱스는 {@link CollectorIndexRegistrar}가 스케줄러에 등록합니다.</p>
+ */
+@AutoConfiguration(after = CollectorMetricsAutoConfiguration.class)
 @EnableConfigurationProperties(CollectorProperties.class)
-@ConditionalOnProperty(prefix = "collector", name = "enabled", havingValue = "true")
+@ConditionalOnProperty(prefix = "collector", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class CollectorAutoConfiguration {
 
-}
\ No newline at end of file
+    @Bean
+    @ConditionalOnSingleCandidate(JobScheduler.class)
+    @ConditionalOnMissingBean(CollectorIndexRegistrar.class)
+    public CollectorIndexRegistrar collectorIndexRegistrar(JobScheduler scheduler, ListableBeanFactory beanFactory) {
+        return new CollectorIndexRegistrar(scheduler, beanFactory, CollectorAutoConfiguration.class.getClassLoader());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnMissingBean(JobScheduler.class)
+    static class SchedulerConfiguration {
+
+        /**
+         * 종료는 {@link CollectorSchedulerLifecycle}이 스케줄러와 함께 처리합니다.
+         */
+        @Bean(destroyMethod = "")
+        @ConditionalOnMissingBean(JobDispatcher.class)
+        public JobDispatcher collectorJobDispatcher(CollectorProperties properties) {
+            CollectorProperties.Dispatcher dispatcher = properties.getDispatcher();
+            if (dispatcher.getType() == CollectorProperties.DispatcherType.VIRTUAL) {
+                return JobDispatcher.virtualThreads(dispatcher.getMaxConcurrency());
+            }
+            if (dispatcher.getType() == CollectorProperties.DispatcherType.FAIR) {
+                Map<String, Integer> weights = new HashMap<>();
+                Map<String, Integer> quotas = new HashMap<>();
+                dispatcher.getGroups().forEach((name, group) -> {
+                    weights.put(name, group.getWeight());
+                    if (group.getQuota() != null) {
+                        quotas.put(name, group.getQuota());
+                    }
+                });
+                return FairGroupJobDispatcher.builder()
+                        .parallelism(Math.max(1, dispatcher.getCorePoolSize()))
+                        .weights(weights)
+                        .quotas(quotas)
+                        .build();
+            }
+            int corePoolSize = Math.max(1, dispatcher.getCorePoolSize());
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    corePoolSize,
+                    Math.max(corePoolSize, dispatcher.getMaxPoolSize()),
+                    dispatcher.getKeepAlive().toNanos(), TimeUnit.NANOSECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, dispatcher.getQueueCapacity())),
+                    threadFactory("collector-job-"));
+            return new ThreadPoolJobDispatcher(executor);
+        }
+
+        @Bean(destroyMethod = "")
+        public TimingWheelJobScheduler collectorJobScheduler(CollectorProperties properties, JobDispatcher dispatcher,
+                                                             ObjectProvider<JobMetricsRegistry> metrics,
+                                                             ObjectProvider<ScheduleStore> store,
+                                                             ObjectProvider<LeaseStore> leaseStore) {
+            return TimingWheelJobScheduler.builder()
+                    .dispatcher(dispatcher)
+                    .tickDuration(properties.getTimer().getTickDuration())
+                    .ticksPerWheel(properties.getTimer().getTicksPerWheel())
+                    .defaultJitter(properties.getDefaultJitter())
+                    .maxConcurrentCost(properties.getMaxConcurrentCost())
+                    .rescheduleWindow(properties.getRescheduleWindow())
+                    .metrics(metrics.getIfAvailable())
+                    .store(store.getIfAvailable())
+                    .leaseStore(leaseStore.getIfAvailable())
+                    .build();
+        }
+
+        @Bean
+        public CollectorSchedulerLifecycle collectorSchedulerLifecycle(TimingWheelJobScheduler collectorJobScheduler,
+                                                                       JobDispatcher dispatcher,
+                                                                       CollectorProperties properties) {
+            return new CollectorSchedulerLifecycle(collectorJobScheduler, dispatcher, properties.getShutdownTimeout());
+        }
+
+        private static ThreadFactory threadFactory(String prefix) {
+            AtomicInteger sequence = new AtomicInteger();
+            return runnable -> new Thread(runnable, prefix + sequence.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.devoog04.spring;
+
+import com.github.devoog04.core.annotation.Collector;
+import com.github.devoog04.core.annotation.CollectorIndex;
+import com.github.devoog04.core.schedule.BulkScheduleResult;
+import com.github.devoog04.core.schedule.JobRegistration;
+import com.github.devoog04.core.schedule.JobScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 빌드 시 생성된 {@link CollectorIndex}의 {@link Collector} 작업을 {@link JobScheduler}에 한 번에 등록합니다.
+ * <p>작업 객체는 같은 타입의 빈이 있으면 빈을, 없으면 생성된 코드의 생성자 호출로 만든 객체를 사용합니다.
+ * 클래스패스 스캔이나 리플렉션을 사용하지 않으므로 작업 수가 늘어도 시작 시간이 크게 늘지 않습니다.</p>
+ */
+@Slf4j
+public class CollectorIndexRegistrar implements SmartInitializingSingleton {
+    private final JobScheduler scheduler;
+    private final ListableBeanFactory beanFactory;
+    private final ClassLoader classLoader;
+
+    public CollectorIndexRegistrar(JobScheduler scheduler, ListableBeanFactory beanFactory, ClassLoader classLoader) {
+        this.scheduler = scheduler;
+        this.beanFactory = beanFactory;
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        CollectorIndex.InstanceResolver constructed = CollectorIndex.InstanceResolver.constructing();
+        CollectorIndex.InstanceResolver resolver = new CollectorIndex.InstanceResolver() {
+            @Override
+            public <T> T resolve(Class<T> type, Supplier<T> fallback) {
+                return beanFactory.getBeanProvider(type).getIfAvailable(() -> constructed.resolve(type, fallback));
+            }
+        };
+        List<JobRegistration> registrations = CollectorIndex.loadAll(classLoader, resolver);
+        if (registrations.isEmpty()) {
+            return;
+        }
+        BulkScheduleResult result = scheduler.scheduleAll(registrations);
+        result.getFailures().forEach((key, e) -> log.error("Failed to register collector. key = {}", key, e));
+        log.info("Registered collectors from the generated index. succeeded = {}, failed = {}",
+                result.getSucceeded().size(), result.getFailures().size());
+    }
+}
@@ -1,13 +1,104 @@
 package com.github.devoog04.spring;
 
+import com.github.devoog04.core.schedule.TimingWheelJobScheduler;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @ConfigurationProperties(prefix = "collector")
 @Getter
 @Setter
 public class CollectorProperties {
+    private static final int VIRTUAL_THREADS_FEATURE = 21;
+
     private boolean enabled = true;
 
-}
\ No newline at end of file
+    /** 작업 본문 실행 방식 */
+    private final Dispatcher dispatcher = new Dispatcher();
+
+    /** 타이밍 휠 설정 */
+    private final Timer timer = new Timer();
+
+    /** 분산이 지정되지 않은 정책에 적용할 실행 시각 분산 범위, 미지정 시 분산하지 않음 */
+    private Duration defaultJitter;
+
+    /** 동시에 실행 중인 작업의 비용 합의 상한, 미지정 시 제한하지 않음 */
+    private Integer maxConcurrentCost;
+
+    /** {@code TimingWheelJobScheduler#rescheduleCoalesced}가 같은 작업의 재스케줄 요청을 모아 마지막 정책만 적용할 시간, 미지정 시 모으지 않음 */
+    private Duration rescheduleWindow;
+
+    /** 종료 시 실행 중인 작업을 기다리는 최대 시간 */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    @Getter
+    @Setter
+    public static class Dispatcher {
+        /** 실행 방식, {@link DispatcherType#VIRTUAL}은 Java 21 이상에서만 지정 가능 */
+        private DispatcherType type = DispatcherType.PLATFORM;
+
+        /** 플랫폼 스레드 풀의 기본 스레드 수 */
+        private int corePoolSize = Runtime.getRuntime().availableProcessors();
+
+        /** 플랫폼 스레드 풀의 최대 스레드 수, 대기 큐가 가득 찼을 때만 늘어남 */
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors();
+
+        /** 플랫폼 스레드 풀의 대기 큐 크기, 가득 차면 해당 실행은 거부되어 다음 예정 시각을 기다림 */
+        private int queueCapacity = 10_000;
+
+        /** 기본 스레드 수를 넘는 유휴 스레드의 유지 시간 */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        /** 가상 스레드의 동시 실행 상한, 0 이하이면 제한 없음 */
+        private int maxConcurrency = 0;
+
+        /** 그룹 공정 분배 디스패처의 그룹별 가중치와 동시 실행 상한 */
+        private final Map<String, Group> groups = new LinkedHashMap<>();
+
+        /**
+         * 가상 스레드가 없는 런타임에서 {@link DispatcherType#VIRTUAL}을 지정하면 디스패처 생성 시점이 아니라 바인딩 시점에 거부합니다.
+         * @throws IllegalArgumentException Java 21 미만에서 {@link DispatcherType#VIRTUAL}을 지정한 경우
+         */
+        public void setType(DispatcherType type) {
+            if (type == DispatcherType.VIRTUAL && Runtime.version().feature() < VIRTUAL_THREADS_FEATURE) {
+                throw new IllegalArgumentException("collector.dispatcher.type=VIRTUAL requires Java "
+                        + VIRTUAL_THREADS_FEATURE + " or later, but running on Java " + Runtime.version().feature()
+                        + ". Use PLATFORM or FAIR instead.");
+            }
+            this.type = type;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Group {
+        /** 그룹 사이 실행 기회의 가중치 */
+        private int weight = 1;
+
+        /** 그룹의 동시 실행 상한, 미지정 시 제한 없음 */
+        private Integer quota;
+    }
+
+    @Getter
+    @Setter
+    public static class Timer {
+        /** 타이머 해상도 */
+        private Duration tickDuration = TimingWheelJobScheduler.DEFAULT_TICK_DURATION;
+
+        /** 레벨당 슬롯 수 */
+        private int ticksPerWheel = TimingWheelJobScheduler.DEFAULT_TICKS_PER_WHEEL;
+    }
+
+    public enum DispatcherType {
+        /** 크기가 제한된 플랫폼 스레드 풀 */
+        PLATFORM,
+        /** 실행마다 가상 스레드 생성, Java 21 미만에서는 바인딩 시 {@link IllegalArgumentException}으로 거부 */
+        VIRTUAL,
+        /** 그룹별 큐와 가중 공정 분배, 그룹 상한을 적용하는 work-stealing 풀 ({@code corePoolSize}개 워커) */
+        FAIR
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.devoog04.spring;
+
+import com.github.devoog04.core.schedule.TimingWheelJobScheduler;
+import com.github.devoog04.core.schedule.dispatch.FairGroupJobDispatcher;
+import com.github.devoog04.core.schedule.dispatch.JobDispatcher;
+import com.github.devoog04.core.schedule.dispatch.VirtualThreadJobDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+/**
+ * 애플리케이션 종료 시 스케줄러를 정리합니다.
+ * <p>새 실행을 막은 뒤 실행 중인 작업이 끝날 때까지 최대 {@code shutdownTimeout} 동안 기다리고,
+ * 시간이 지나면 스타터가 만든 플랫폼 스레드 풀의 작업을 인터럽트합니다. 직접 정의한 디스패처의 실행 자원은 기다리지 않습니다.
+ * 컨텍스트가 시작되지 못한 경우에도 빈 소멸 시 한 번 정리됩니다.</p>
+ */
+@Slf4j
+public class CollectorSchedulerLifecycle implements SmartLifecycle, DisposableBean {
+    private final TimingWheelJobScheduler scheduler;
+    private final JobDispatcher dispatcher;
+    private final Duration shutdownTimeout;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean running;
+
+    public CollectorSchedulerLifecycle(TimingWheelJobScheduler scheduler, JobDispatcher dispatcher, Duration shutdownTimeout) {
+        this.scheduler = scheduler;
+        this.dispatcher = dispatcher;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        shutdown();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    private void shutdown() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.close();
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        try {
+            if (dispatcher instanceof ThreadPoolJobDispatcher pooled) {
+                ThreadPoolExecutor executor = pooled.getExecutor();
+                executor.shutdown();
+                if (!executor.awaitTermination(shutdownTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    log.warn("Jobs did not finish within the shutdown timeout; interrupting. timeout = {}", shutdownTimeout);
+                    // 시작하지 못한 실행은 스케줄러에 돌려주어 리스를 반납
+                    RejectedExecutionException cause = new RejectedExecutionException("Dispatcher pool has been shut down.");
+                    executor.shutdownNow().forEach(task -> JobDispatcher.reject(task, cause));
+                }
+            } else if (dispatcher instanceof VirtualThreadJobDispatcher virtual) {
+                awaitRunning(virtual::getRunningCount, deadline);
+            } else if (dispatcher instanceof FairGroupJobDispatcher fair) {
+                awaitRunning(fair::getRunningCount, deadline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitRunning(IntSupplier runningCount, long deadline) throws InterruptedException {
+        while (runningCount.getAsInt() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        if (runningCount.getAsInt() > 0) {
+            log.warn("Jobs did not finish within the shutdown timeout. running = {}, timeout = {}",
+                    runningCount.getAsInt(), shutdownTimeout);
+        }
+    }
+}
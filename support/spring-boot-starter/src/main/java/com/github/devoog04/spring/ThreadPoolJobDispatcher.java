@@ -0,0 +1,20 @@
+package com.github.devoog04.spring;
+
+import com.github.devoog04.core.schedule.dispatch.ExecutorJobDispatcher;
+import lombok.Getter;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 스타터가 생성하고 소유하는 플랫폼 스레드 풀로 작업을 전달하는 디스패처입니다.
+ * <p>풀은 빈으로 노출하지 않으며, {@link CollectorSchedulerLifecycle}이 종료 시 실행 중인 작업을 기다린 뒤 종료합니다.</p>
+ */
+@Getter
+public class ThreadPoolJobDispatcher extends ExecutorJobDispatcher {
+    private final ThreadPoolExecutor executor;
+
+    public ThreadPoolJobDispatcher(ThreadPoolExecutor executor) {
+        super(executor);
+        this.executor = executor;
+    }
+}
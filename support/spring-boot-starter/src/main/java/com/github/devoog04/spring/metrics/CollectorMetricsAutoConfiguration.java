@@ -0,0 +1,26 @@
+package com.github.devoog04.spring.metrics;
+
+import com.github.devoog04.core.metrics.JobMetricsRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 클래스패스에 Micrometer가 있고 {@link MeterRegistry} 빈이 존재하면 {@link MicrometerJobMetricsRegistry}를 등록합니다.
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "collector", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CollectorMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(JobMetricsRegistry.class)
+    public MicrometerJobMetricsRegistry collectorJobMetricsRegistry(MeterRegistry meterRegistry) {
+        return new MicrometerJobMetricsRegistry(meterRegistry);
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.devoog04.spring.metrics;
+
+import com.github.devoog04.core.definition.JobDefinitionKey;
+import com.github.devoog04.core.metrics.JobMetricsRecorder;
+import com.github.devoog04.core.metrics.JobMetricsRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업별 실행 지표를 Micrometer {@link MeterRegistry}에 등록하는 {@link JobMetricsRegistry} 구현체입니다.
+ * <p>모든 미터는 작업 키의 {@code toString()} 값을 {@code job} 태그로 가지며, 작업이 제거되면 함께 제거됩니다.
+ * 백분위/히스토그램 노출 여부는 Micrometer의 {@code MeterFilter}나 {@code management.metrics.distribution.*} 설정을 따릅니다.</p>
+ * <ul>
+ * <li>{@code collector.job.fire.lateness}: 예정 시각 대비 만료 지연</li>
+ * <li>{@code collector.job.queue.delay}: 디스패치 후 실행 시작까지의 대기 시간</li>
+ * <li>{@code collector.job.duration}: 작업 본문 실행 시간 ({@code outcome} 태그: success, failure)</li>
+ * <li>{@code collector.job.overlaps}: 중첩 실행 횟수</li>
+ * <li>{@code collector.job.retries}: 실패한 실행의 재시도 횟수</li>
+ * <li>{@code collector.job.timeouts}: 시간 제한을 넘겨 중단을 요청한 횟수</li>
+ * <li>{@code collector.job.hung}: 중단 요청에 응답하지 않아 포기한 실행 횟수</li>
+ * </ul>
+ */
+public class MicrometerJobMetricsRegistry implements JobMetricsRegistry {
+    private final MeterRegistry registry;
+    private final Map<JobDefinitionKey, MeterRecorder> recorders = new ConcurrentHashMap<>();
+
+    public MicrometerJobMetricsRegistry(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public JobMetricsRecorder register(JobDefinitionKey key) {
+        return recorders.computeIfAbsent(key, k -> new MeterRecorder(Tags.of("job", String.valueOf(k))));
+    }
+
+    @Override
+    public void unregister(JobDefinitionKey key) {
+        MeterRecorder recorder = recorders.remove(key);
+        if (recorder != null) {
+            recorder.remove();
+        }
+    }
+
+    /**
+     * 작업 하나의 미터를 보관하여 실행 경로에서 조회 없이 기록합니다.
+     */
+    private final class MeterRecorder implements JobMetricsRecorder {
+        private final Timer fireLateness;
+        private final Timer queueDelay;
+        private final Timer success;
+        private final Timer failure;
+        private final Counter overlaps;
+        private final Counter retries;
+        private final Counter timeouts;
+        private final Counter hung;
+
+        private MeterRecorder(Tags tags) {
+            this.fireLateness = Timer.builder("collector.job.fire.lateness")
+                    .description("Delay between the scheduled and the actual fire time")
+                    .tags(tags)
+                    .register(registry);
+            this.queueDelay = Timer.builder("collector.job.queue.delay")
+                    .description("Time between dispatch and the start of execution")
+                    .tags(tags)
+                    .register(registry);
+            this.success = Timer.builder("collector.job.duration")
+                    .description("Job execution time")
+                    .tags(tags.and("outcome", "success"))
+                    .register(registry);
+            this.failure = Timer.builder("collector.job.duration")
+                    .description("Job execution time")
+                    .tags(tags.and("outcome", "failure"))
+                    .register(registry);
+            this.overlaps = Counter.builder("collector.job.overlaps")
+                    .description("Executions started while a previous execution was still running")
+                    .tags(tags)
+                    .register(registry);
+            this.retries = Counter.builder("collector.job.retries")
+                    .description("Failed executions scheduled for another attempt")
+                    .tags(tags)
+                    .register(registry);
+            this.timeouts = Counter.builder("collector.job.timeouts")
+                    .description("Executions interrupted after exceeding the policy timeout")
+                    .tags(tags)
+                    .register(registry);
+            this.hung = Counter.builder("collector.job.hung")
+                    .description("Executions abandoned after ignoring the interrupt")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        @Override
+        public void recordFireLateness(long nanos) {
+            fireLateness.record(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordQueueDelay(long nanos) {
+            queueDelay.record(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordRun(long durationNanos, boolean failed) {
+            (failed ? failure : success).record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordOverlap() {
+            overlaps.increment();
+        }
+
+        @Override
+        public void recordRetry() {
+            retries.increment();
+        }
+
+        @Override
+        public void recordTimeout() {
+            timeouts.increment();
+        }
+
+        @Override
+        public void recordHung() {
+            hung.increment();
+        }
+
+        private void remove() {
+            registry.remove(fireLateness);
+            registry.remove(queueDelay);
+            registry.remove(success);
+            registry.remove(failure);
+            registry.remove(overlaps);
+            registry.remove(retries);
+            registry.remove(timeouts);
+            registry.remove(hung);
+        }
+    }
+}
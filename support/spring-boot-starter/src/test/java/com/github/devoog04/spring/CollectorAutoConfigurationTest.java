@@ -0,0 +1,146 @@
+package com.github.devoog04.spring;
+
+import com.github.devoog04.core.schedule.JobScheduler;
+import com.github.devoog04.core.schedule.TimingWheelJobScheduler;
+import com.github.devoog04.core.schedule.dispatch.ExecutorJobDispatcher;
+import com.github.devoog04.core.schedule.dispatch.FairGroupJobDispatcher;
+import com.github.devoog04.core.schedule.dispatch.JobDispatcher;
+import com.github.devoog04.core.schedule.dispatch.VirtualThreadJobDispatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CollectorAutoConfiguration 검증")
+class CollectorAutoConfigurationTest {
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CollectorAutoConfiguration.class));
+
+    @Nested
+    @DisplayName("디스패처 종류를 선택할 때")
+    class Context_DispatcherType {
+
+        @Test
+        @DisplayName("지정하지 않으면, 스타터가 소유한 플랫폼 스레드 풀 사용")
+        void givenNoType_whenStart_thenThreadPoolDispatcher() {
+            runner.withPropertyValues("collector.dispatcher.core-pool-size=2", "collector.dispatcher.max-pool-size=4")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(TimingWheelJobScheduler.class);
+                        assertThat(context).hasSingleBean(CollectorSchedulerLifecycle.class);
+                        assertThat(context).hasSingleBean(CollectorIndexRegistrar.class);
+                        assertThat(context).getBean(JobDispatcher.class).isInstanceOf(ThreadPoolJobDispatcher.class);
+
+                        ThreadPoolJobDispatcher dispatcher = context.getBean(ThreadPoolJobDispatcher.class);
+                        assertThat(dispatcher.getExecutor().getCorePoolSize()).isEqualTo(2);
+                        assertThat(dispatcher.getExecutor().getMaximumPoolSize()).isEqualTo(4);
+                    });
+        }
+
+        @Test
+        @DisplayName("FAIR이면, 그룹 공정 분배 디스패처 사용")
+        void givenFair_whenStart_thenFairGroupDispatcher() {
+            runner.withPropertyValues("collector.dispatcher.type=FAIR",
+                            "collector.dispatcher.groups.heavy.weight=3",
+                            "collector.dispatcher.groups.heavy.quota=2")
+                    .run(context -> {
+                        assertThat(context).hasNotFailed();
+                        assertThat(context).getBean(JobDispatcher.class).isInstanceOf(FairGroupJobDispatcher.class);
+                        assertThat(context).hasSingleBean(TimingWheelJobScheduler.class);
+                    });
+        }
+
+        @Test
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        @DisplayName("VIRTUAL이면, 가상 스레드 디스패처 사용")
+        void givenVirtual_whenStart_thenVirtualThreadDispatcher() {
+            runner.withPropertyValues("collector.dispatcher.type=VIRTUAL", "collector.dispatcher.max-concurrency=8")
+                    .run(context -> assertThat(context).getBean(JobDispatcher.class)
+                            .isInstanceOf(VirtualThreadJobDispatcher.class));
+        }
+
+        @Test
+        @EnabledForJreRange(max = JRE.JAVA_20)
+        @DisplayName("Java 21 미만에서 VIRTUAL이면, 바인딩 시 Java 버전을 안내하며 시작 실패")
+        void givenVirtualBeforeJava21_whenStart_thenFailsWithClearMessage() {
+            runner.withPropertyValues("collector.dispatcher.type=VIRTUAL")
+                    .run(context -> {
+                        assertThat(context).hasFailed();
+                        assertThat(context.getStartupFailure())
+                                .rootCause()
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessageContaining("collector.dispatcher.type=VIRTUAL requires Java 21 or later");
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("직접 정의한 빈이 있을 때")
+    class Context_UserBeans {
+
+        @Test
+        @DisplayName("JobDispatcher 빈이면, 그 디스패처로 스케줄러 구성")
+        void givenUserDispatcher_whenStart_thenSchedulerUsesIt() {
+            runner.withUserConfiguration(UserDispatcherConfiguration.class)
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(JobDispatcher.class);
+                        assertThat(context).getBean(JobDispatcher.class)
+                                .isSameAs(context.getBean("userDispatcher"))
+                                .isNotInstanceOf(ThreadPoolJobDispatcher.class);
+                        assertThat(context).hasSingleBean(TimingWheelJobScheduler.class);
+                        assertThat(context).hasSingleBean(CollectorSchedulerLifecycle.class);
+                    });
+        }
+
+        @Test
+        @DisplayName("JobScheduler 빈이면, 스케줄러와 디스패처를 만들지 않고 인덱스 등록기만 연결")
+        void givenUserScheduler_whenStart_thenBacksOff() {
+            runner.withUserConfiguration(UserSchedulerConfiguration.class)
+                    .run(context -> {
+                        assertThat(context).doesNotHaveBean(TimingWheelJobScheduler.class);
+                        assertThat(context).doesNotHaveBean(JobDispatcher.class);
+                        assertThat(context).doesNotHaveBean(CollectorSchedulerLifecycle.class);
+                        assertThat(context).hasSingleBean(JobScheduler.class);
+                        assertThat(context).hasSingleBean(CollectorIndexRegistrar.class);
+                    });
+        }
+    }
+
+    @Test
+    @DisplayName("collector.enabled=false일 때, 어떤 빈도 등록하지 않음")
+    void givenDisabled_whenStart_thenNoBeans() {
+        runner.withPropertyValues("collector.enabled=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(JobScheduler.class);
+                    assertThat(context).doesNotHaveBean(JobDispatcher.class);
+                    assertThat(context).doesNotHaveBean(CollectorSchedulerLifecycle.class);
+                    assertThat(context).doesNotHaveBean(CollectorIndexRegistrar.class);
+                    assertThat(context).doesNotHaveBean(CollectorProperties.class);
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class UserDispatcherConfiguration {
+
+        @Bean
+        JobDispatcher userDispatcher() {
+            return new ExecutorJobDispatcher(Runnable::run);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class UserSchedulerConfiguration {
+
+        @Bean
+        JobScheduler userScheduler() {
+            return mock(JobScheduler.class);
+        }
+    }
+}
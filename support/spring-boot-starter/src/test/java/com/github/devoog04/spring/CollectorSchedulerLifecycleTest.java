@@ -0,0 +1,119 @@
+package com.github.devoog04.spring;
+
+import com.github.devoog04.core.schedule.TimingWheelJobScheduler;
+import com.github.devoog04.core.schedule.dispatch.RejectableTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CollectorSchedulerLifecycle 검증")
+class CollectorSchedulerLifecycleTest {
+
+    @Test
+    @DisplayName("작업이 종료 대기 시간 안에 끝날 때, 인터럽트 없이 끝날 때까지 대기")
+    void givenShortJob_whenStop_thenWaitsWithoutInterrupt() throws InterruptedException {
+        // Given: 200ms 걸리는 작업이 실행 중
+        ThreadPoolExecutor executor = executor();
+        CollectorSchedulerLifecycle lifecycle = lifecycle(executor, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(200);
+                finished.set(true);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        lifecycle.stop();
+
+        // Then: 작업이 끝난 뒤 반환, 풀 종료
+        assertThat(finished).isTrue();
+        assertThat(interrupted).isFalse();
+        assertThat(executor.isTerminated()).isTrue();
+        assertThat(lifecycle.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료 대기 시간이 지날 때, 실행 중인 작업은 인터럽트하고 시작하지 못한 작업은 거부")
+    void givenLongJob_whenStopAfterTimeout_thenInterruptsAndRejectsQueued() throws InterruptedException {
+        // Given: 끝나지 않는 작업이 실행 중이고, 그 뒤에 한 작업이 대기
+        ThreadPoolExecutor executor = executor();
+        CollectorSchedulerLifecycle lifecycle = lifecycle(executor, Duration.ofMillis(100));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        AtomicReference<RejectedExecutionException> rejected = new AtomicReference<>();
+        executor.execute(new RejectableTask() {
+            @Override
+            public void run() {
+                queuedRan.set(true);
+            }
+
+            @Override
+            public void reject(RejectedExecutionException cause) {
+                rejected.set(cause);
+            }
+        });
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        long begin = System.nanoTime();
+        lifecycle.stop();
+        long elapsed = System.nanoTime() - begin;
+
+        // Then: 대기 시간만큼 기다린 뒤 인터럽트
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(queuedRan).isFalse();
+        assertThat(rejected.get()).isNotNull();
+        assertThat(executor.awaitTermination(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("stop 뒤 destroy가 호출될 때, 한 번만 정리")
+    void givenStopped_whenDestroy_thenNoOp() {
+        ThreadPoolExecutor executor = executor();
+        CollectorSchedulerLifecycle lifecycle = lifecycle(executor, Duration.ofSeconds(1));
+        lifecycle.start();
+
+        lifecycle.stop();
+        lifecycle.destroy();
+
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(lifecycle.isRunning()).isFalse();
+    }
+
+    private static ThreadPoolExecutor executor() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.NANOSECONDS, new ArrayBlockingQueue<>(10));
+    }
+
+    private static CollectorSchedulerLifecycle lifecycle(ThreadPoolExecutor executor, Duration shutdownTimeout) {
+        ThreadPoolJobDispatcher dispatcher = new ThreadPoolJobDispatcher(executor);
+        TimingWheelJobScheduler scheduler = TimingWheelJobScheduler.builder().dispatcher(dispatcher).build();
+        return new CollectorSchedulerLifecycle(scheduler, dispatcher, shutdownTimeout);
+    }
+}